@@ -5,12 +5,15 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import xyz.twooter.auth.domain.TokenType;
 import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
 import xyz.twooter.auth.presentation.dto.request.SignInRequest;
 import xyz.twooter.auth.presentation.dto.request.SignUpRequest;
 import xyz.twooter.auth.presentation.dto.request.TokenReissueRequest;
@@ -30,6 +33,7 @@ public class AuthService {
 	private final AuthenticationManagerBuilder authenticationManagerBuilder;
 	private final JWTUtil jwtUtil;
 	private final TokenService tokenService;
+	private final PasswordEncoder passwordEncoder;
 
 	@Value("${spring.jwt.access-token-validity}")
 	private Long accessTokenValidity;
@@ -37,12 +41,16 @@ public class AuthService {
 	@Value("${spring.jwt.refresh-token-validity}")
 	private Long refreshTokenValidity;
 
-	@Transactional
+	// 해시 대기 중에 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 해시한다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public SignUpInfoResponse signUp(SignUpRequest request) {
-		MemberSummaryResponse member = memberService.createMember(request);
+		String encodedPassword = passwordEncoder.encode(request.getPassword());
+		MemberSummaryResponse member = memberService.createMember(request, encodedPassword);
 		return new SignUpInfoResponse(member);
 	}
 
+	// 비밀번호 검증(해시)을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public SignInResponse signIn(SignInRequest request) {
 		// 인증 토큰 생성
 		UsernamePasswordAuthenticationToken authenticationToken =
@@ -53,13 +61,14 @@ public class AuthService {
 		Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 
-		// JWT 토큰 생성
-		String accessToken = jwtUtil.createJwt(request.getHandle(), TokenType.ACCESS, accessTokenValidity);
-		String refreshToken = tokenService.createRefreshToken(request.getHandle());
-
 		// 사용자 정보 조회
 		MemberSummaryResponse memberSummaryResponse = memberService.createMemberSummary(request.getHandle());
 
+		// JWT 토큰 생성
+		String accessToken = jwtUtil.createAccessToken(memberSummaryResponse.getBasicInfo().getId(),
+			request.getHandle(), accessTokenValidity);
+		String refreshToken = tokenService.createRefreshToken(request.getHandle());
+
 		// 리턴
 		return new SignInResponse(accessToken, refreshToken, memberSummaryResponse);
 	}
@@ -75,7 +84,8 @@ public class AuthService {
 		String handle = jwtUtil.getHandle(oldRefreshToken);
 
 		// 새 액세스 토큰 발급
-		String newAccessToken = jwtUtil.createJwt(handle, TokenType.ACCESS, accessTokenValidity);
+		Long memberId = memberService.findMemberIdByHandle(handle);
+		String newAccessToken = jwtUtil.createAccessToken(memberId, handle, accessTokenValidity);
 
 		return new TokenReissueResponse(newAccessToken, newRefreshToken);
 	}
@@ -91,13 +101,14 @@ public class AuthService {
 	public LogoutResponse logout(String accessToken) {
 		try {
 			// 액세스 토큰이 유효한지 확인
-			if (!jwtUtil.isValid(accessToken)) {
+			JwtClaims claims = jwtUtil.parseClaims(accessToken);
+			if (claims.isExpired()) {
 				SecurityContextHolder.clearContext();
 				return new LogoutResponse("unknown"); // 유효하지 않은 토큰이어도 로그아웃 성공으로 처리
 			}
 
 			// 토큰에서 사용자 정보 추출
-			String userHandle = jwtUtil.getHandle(accessToken);
+			String userHandle = claims.getHandle();
 
 			// 액세스 토큰 블랙리스트에 추가 (만료 시간까지만)
 			tokenService.blacklistToken(accessToken, TokenType.ACCESS);
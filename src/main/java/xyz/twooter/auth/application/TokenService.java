@@ -1,8 +1,5 @@
 package xyz.twooter.auth.application;
 
-import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 import xyz.twooter.auth.domain.RefreshToken;
 import xyz.twooter.auth.domain.TokenType;
 import xyz.twooter.auth.domain.exception.InvalidTokenException;
+import xyz.twooter.auth.infrastructure.blacklist.RevokedAccessTokenFilter;
 import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore.RotationResult;
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 
 @Slf4j
@@ -22,12 +23,11 @@ import xyz.twooter.common.infrastructure.redis.RedisUtil;
 public class TokenService {
 
 	// Redis 키 접두어
-	private static final String TOKEN_PREFIX = "refresh:token:";
-	private static final String USER_PREFIX = "refresh:user:";
-	private static final String BLACKLIST_PREFIX = "%s:blacklist:"; // %s에 TokenType이 들어감
-	private static final int REVOKED_TOKEN_RETENTION_SECONDS = 300; // 5분
+	private static final String ACCESS_BLACKLIST_PREFIX = RevokedAccessTokenFilter.REVOKED_KEY_PREFIX;
 	private final RedisUtil redisUtil;
 	private final JWTUtil jwtUtil;
+	private final RevokedAccessTokenFilter revokedAccessTokenFilter;
+	private final RefreshTokenStore refreshTokenStore;
 	@Value("${spring.jwt.refresh-token-validity}")
 	private Long refreshTokenValidityMs;
 
@@ -39,19 +39,18 @@ public class TokenService {
 	 */
 	public void blacklistToken(String token, TokenType tokenType) {
 		try {
-			String blacklistKey = String.format(BLACKLIST_PREFIX, tokenType.name().toLowerCase()) + token;
-
 			if (tokenType == TokenType.ACCESS) {
-				// 액세스 토큰의 경우 남은 유효기간 동안만 블랙리스트에 유지
-				long expiryInMs = jwtUtil.getRemainingTimeInMillis(token);
-				if (!jwtUtil.isExpired(token)) {
-					redisUtil.set(blacklistKey, "true", expiryInMs, TimeUnit.MILLISECONDS);
+				// 액세스 토큰의 경우 남은 유효기간 동안만 블랙리스트에 유지 (토큰 원문 대신 해시를 키로 사용)
+				JwtClaims claims = jwtUtil.parseClaims(token);
+				if (!claims.isExpired()) {
+					redisUtil.set(accessBlacklistKey(claims), "true", claims.getRemainingTimeInMillis(),
+						TimeUnit.MILLISECONDS);
+					revokedAccessTokenFilter.revoke(claims.getTokenId(), claims.getExpiresAt());
 					log.info("Added {} token to blacklist", tokenType);
 				}
 			} else {
 				// 리프레시 토큰의 경우 전체 유효기간 동안 블랙리스트에 유지
-				redisUtil.set(blacklistKey, LocalDateTime.now().toString(), refreshTokenValidityMs,
-					TimeUnit.MILLISECONDS);
+				refreshTokenStore.blacklist(token, jwtUtil.getHandle(token), refreshTokenValidityMs);
 				log.info("Added {} token to blacklist: {}", tokenType, token);
 			}
 		} catch (Exception e) {
@@ -67,75 +66,43 @@ public class TokenService {
 	 * @return 블랙리스트에 있으면 true, 없으면 false
 	 */
 	public boolean isTokenBlacklisted(String token, TokenType tokenType) {
-		String blacklistKey = String.format(BLACKLIST_PREFIX, tokenType.name().toLowerCase()) + token;
-		return redisUtil.hasKey(blacklistKey);
+		if (tokenType == TokenType.ACCESS) {
+			return isAccessTokenBlacklisted(jwtUtil.parseClaims(token));
+		}
+		return refreshTokenStore.isBlacklisted(token, jwtUtil.getHandle(token));
 	}
 
 	/**
-	 * 새로운 Refresh Token을 생성하고 Redis에 저장합니다.
+	 * 액세스 토큰이 블랙리스트에 있는지 확인합니다.
+	 * 로컬 필터에 없는 토큰은 Redis 를 조회하지 않고 바로 false 를 반환합니다.
 	 *
-	 * @param handle 사용자 핸들
-	 * @return 생성된 Refresh 토큰
+	 * @param claims 검증된 액세스 토큰의 클레임
+	 * @return 블랙리스트에 있으면 true, 없으면 false
 	 */
-	public String createRefreshToken(String handle) {
-		// JWT 토큰 생성
-		String tokenValue = jwtUtil.createJwt(handle, TokenType.REFRESH, refreshTokenValidityMs);
-		LocalDateTime expiryDate = LocalDateTime.now().plusNanos(refreshTokenValidityMs * 1000);
-
-		// RefreshToken 객체 생성
-		RefreshToken refreshToken = RefreshToken.builder()
-			.id(tokenValue)
-			.userHandle(handle)
-			.expiryDate(expiryDate)
-			.build();
-
-		saveRefreshToken(tokenValue, refreshToken);
-		storeUserToken(handle, tokenValue);
-
-		log.info("Created new refresh token for user: {}", handle);
-		return tokenValue;
+	public boolean isAccessTokenBlacklisted(JwtClaims claims) {
+		if (!revokedAccessTokenFilter.mightBeRevoked(claims.getTokenId())) {
+			return false;
+		}
+		return redisUtil.hasKey(accessBlacklistKey(claims));
 	}
 
-	/**
-	 * Refresh Token 객체를 Redis에 저장합니다.
-	 *
-	 * @param tokenValue   토큰 값
-	 * @param refreshToken 저장할 RefreshToken 객체
-	 */
-	private void saveRefreshToken(String tokenValue, RefreshToken refreshToken) {
-		// Redis에 토큰-사용자 매핑 저장 (TTL 설정)
-		redisUtil.set(
-			TOKEN_PREFIX + tokenValue,
-			refreshToken,
-			refreshTokenValidityMs,
-			TimeUnit.MILLISECONDS
-		);
+	private String accessBlacklistKey(JwtClaims claims) {
+		return ACCESS_BLACKLIST_PREFIX + claims.getTokenId();
 	}
 
 	/**
-	 * 사용자의 토큰 목록에 새 토큰을 추가합니다.
+	 * 새로운 Refresh Token을 생성하고 Redis에 저장합니다.
+	 * 토큰 저장과 사용자 토큰 목록 추가는 한 번의 요청으로 함께 처리됩니다.
 	 *
-	 * @param handle     사용자 핸들
-	 * @param tokenValue 추가할 토큰
+	 * @param handle 사용자 핸들
+	 * @return 생성된 Refresh 토큰
 	 */
-	@SuppressWarnings("unchecked")
-	private void storeUserToken(String handle, String tokenValue) {
-		String userKey = USER_PREFIX + handle;
-		Set<String> userTokens;
-
-		if (redisUtil.hasKey(userKey)) {
-			// 기존 토큰 목록에 추가
-			userTokens = redisUtil.get(userKey, Set.class);
-			if (userTokens == null) {
-				userTokens = new HashSet<>();
-			}
-		} else {
-			// 새 토큰 목록 생성
-			userTokens = new HashSet<>();
-		}
+	public String createRefreshToken(String handle) {
+		String tokenValue = jwtUtil.createJwt(handle, TokenType.REFRESH, refreshTokenValidityMs);
+		refreshTokenStore.save(tokenValue, handle, refreshTokenValidityMs);
 
-		userTokens.add(tokenValue);
-		redisUtil.set(userKey, userTokens, refreshTokenValidityMs, TimeUnit.MILLISECONDS);
+		log.info("Created new refresh token for user: {}", handle);
+		return tokenValue;
 	}
 
 	/**
@@ -146,14 +113,19 @@ public class TokenService {
 	 * @throws InvalidTokenException 토큰이 유효하지 않을 경우
 	 */
 	public RefreshToken validateRefreshToken(String token) {
+		String handle = jwtUtil.getHandle(token);
+
 		// 블랙리스트 확인
-		checkIfTokenIsBlacklisted(token);
+		checkIfTokenIsBlacklisted(token, handle);
 
 		// 토큰 존재 확인 및 가져오기
-		RefreshToken refreshToken = getRefreshTokenFromRedis(token);
+		RefreshToken refreshToken = refreshTokenStore.find(token, handle).orElseThrow(() -> {
+			log.warn("Token not found in Redis: {}", token);
+			return new InvalidTokenException("Refresh token not found or expired");
+		});
 
 		// 토큰 상태 확인
-		validateTokenState(token, refreshToken);
+		validateTokenState(token, handle, refreshToken);
 
 		return refreshToken;
 	}
@@ -161,52 +133,32 @@ public class TokenService {
 	/**
 	 * 토큰이 블랙리스트에 있는지 확인하고, 있으면 관련 조치를 수행합니다.
 	 *
-	 * @param token 확인할 토큰
+	 * @param token  확인할 토큰
+	 * @param handle 토큰의 사용자 핸들
 	 * @throws InvalidTokenException 토큰이 블랙리스트에 있을 경우
 	 */
-	private void checkIfTokenIsBlacklisted(String token) {
-		if (isTokenBlacklisted(token, TokenType.REFRESH)) {
-			log.warn("Token is blacklisted (already used): {}", token);
-			// 토큰 도난 시도로 간주하고 사용자의 모든 토큰 무효화
-			String handle = jwtUtil.getHandle(token);
-			revokeAllUserTokens(handle);
-			throw new InvalidTokenException("Refresh token has been used before, possible token theft detected");
+	private void checkIfTokenIsBlacklisted(String token, String handle) {
+		if (refreshTokenStore.isBlacklisted(token, handle)) {
+			handleReusedToken(token, handle);
 		}
 	}
 
-	/**
-	 * Redis에서 RefreshToken 객체를 가져옵니다.
-	 *
-	 * @param token 토큰 값
-	 * @return RefreshToken 객체
-	 * @throws InvalidTokenException 토큰이 존재하지 않거나 파싱할 수 없는 경우
-	 */
-	private RefreshToken getRefreshTokenFromRedis(String token) {
-		String key = TOKEN_PREFIX + token;
-
-		if (!redisUtil.hasKey(key)) {
-			log.warn("Token not found in Redis: {}", token);
-			throw new InvalidTokenException("Refresh token not found or expired");
-		}
-
-		RefreshToken refreshToken = redisUtil.get(key, RefreshToken.class);
-
-		if (refreshToken == null) {
-			log.error("Token exists but could not be parsed: {}", token);
-			throw new InvalidTokenException("Refresh token data is invalid");
-		}
-
-		return refreshToken;
+	// 이미 사용한 토큰이 다시 들어오면 도난 시도로 간주하고 사용자의 모든 토큰을 무효화한다.
+	private void handleReusedToken(String token, String handle) {
+		log.warn("Token is blacklisted (already used): {}", token);
+		revokeAllUserTokens(handle);
+		throw new InvalidTokenException("Refresh token has been used before, possible token theft detected");
 	}
 
 	/**
 	 * 토큰의 상태(취소 여부, 만료 여부)를 확인합니다.
 	 *
 	 * @param token        토큰 값
+	 * @param handle       토큰의 사용자 핸들
 	 * @param refreshToken RefreshToken 객체
 	 * @throws InvalidTokenException 토큰이 취소되었거나 만료된 경우
 	 */
-	private void validateTokenState(String token, RefreshToken refreshToken) {
+	private void validateTokenState(String token, String handle, RefreshToken refreshToken) {
 		// 취소된 토큰인지 확인
 		if (refreshToken.isRevoke()) {
 			log.warn("Token has been revoked: {}", token);
@@ -214,63 +166,29 @@ public class TokenService {
 		}
 
 		// JWT 자체 검증
+		validateNotExpired(token, handle);
+	}
+
+	private void validateNotExpired(String token, String handle) {
 		if (jwtUtil.isExpired(token)) {
 			log.warn("Token JWT has expired: {}", token);
-			redisUtil.delete(TOKEN_PREFIX + token);
+			refreshTokenStore.delete(token, handle);
 			throw new InvalidTokenException("Refresh token has expired");
 		}
 	}
 
 	/**
-	 * Refresh Token을 무효화합니다.
+	 * Refresh Token을 무효화합니다. 무효화한 토큰은 도난 감지를 위해 5분간 남겨 둡니다.
 	 *
 	 * @param token 무효화할 토큰
 	 */
 	public void revokeRefreshToken(String token) {
-		String key = TOKEN_PREFIX + token;
-
-		// 토큰이 존재하는지 확인
-		if (!redisUtil.hasKey(key)) {
+		String handle = jwtUtil.getHandle(token);
+		if (!refreshTokenStore.revoke(token, handle)) {
 			log.debug("Token already expired or not found: {}", token);
 			return; // 이미 만료되었거나 존재하지 않음
 		}
-
-		// 토큰 정보 가져오기
-		RefreshToken refreshToken = redisUtil.get(key, RefreshToken.class);
-
-		if (refreshToken != null) {
-			// 토큰 무효화
-			refreshToken.revoke();
-			redisUtil.set(key, refreshToken, REVOKED_TOKEN_RETENTION_SECONDS,
-				TimeUnit.SECONDS); // 5분간 무효화된 상태로 유지 (도난 감지용)
-
-			// 사용자 토큰 목록에서도 제거
-			removeTokenFromUserList(refreshToken.getUserHandle(), token);
-			log.info("Revoked refresh token for user: {}", refreshToken.getUserHandle());
-		}
-	}
-
-	/**
-	 * 사용자의 토큰 목록에서 토큰을 제거합니다.
-	 *
-	 * @param handle 사용자 핸들
-	 * @param token  제거할 토큰
-	 */
-	@SuppressWarnings("unchecked")
-	private void removeTokenFromUserList(String handle, String token) {
-		String userKey = USER_PREFIX + handle;
-		if (redisUtil.hasKey(userKey)) {
-			Set<String> userTokens = redisUtil.get(userKey, Set.class);
-			if (userTokens != null) {
-				userTokens.remove(token);
-
-				if (userTokens.isEmpty()) {
-					redisUtil.delete(userKey);
-				} else {
-					redisUtil.set(userKey, userTokens, refreshTokenValidityMs, TimeUnit.MILLISECONDS);
-				}
-			}
-		}
+		log.info("Revoked refresh token for user: {}", handle);
 	}
 
 	/**
@@ -278,66 +196,37 @@ public class TokenService {
 	 *
 	 * @param handle 사용자 핸들
 	 */
-	@SuppressWarnings("unchecked")
 	public void revokeAllUserTokens(String handle) {
-		String userKey = USER_PREFIX + handle;
-
-		// 사용자 토큰 목록 확인
-		if (!redisUtil.hasKey(userKey)) {
-			log.debug("No tokens found for user: {}", handle);
-			return; // 토큰이 없음
-		}
-
-		// 사용자의 모든 토큰 가져오기
-		Set<String> userTokens = redisUtil.get(userKey, Set.class);
-
-		if (userTokens != null) {
-			// 각 토큰 무효화
-			for (String token : userTokens) {
-				revokeUserToken(token);
-			}
-		}
-
-		// 사용자 토큰 목록 삭제
-		redisUtil.delete(userKey);
-		log.info("Revoked all refresh tokens for user: {}", handle);
-	}
-
-	/**
-	 * 사용자의 단일 토큰을 무효화하는 헬퍼 메서드
-	 *
-	 * @param token 무효화할 토큰
-	 */
-	private void revokeUserToken(String token) {
-		String tokenKey = TOKEN_PREFIX + token;
-		if (redisUtil.hasKey(tokenKey)) {
-			RefreshToken refreshToken = redisUtil.get(tokenKey, RefreshToken.class);
-			if (refreshToken != null) {
-				refreshToken.revoke();
-				redisUtil.set(tokenKey, refreshToken, REVOKED_TOKEN_RETENTION_SECONDS,
-					TimeUnit.SECONDS); // 5분간 무효화된 상태로 유지
-			}
-		}
+		long revoked = refreshTokenStore.revokeAll(handle);
+		log.info("Revoked {} refresh tokens for user: {}", revoked, handle);
 	}
 
 	/**
 	 * Refresh Token Rotation - 기존 토큰을 무효화하고 새 토큰 발급
+	 * 기존 토큰 확인, 무효화, 블랙리스트 등록, 새 토큰 저장을 한 번에 처리하므로
+	 * 같은 토큰으로 동시에 요청해도 하나만 성공하고 나머지는 재사용으로 처리됩니다.
 	 *
 	 * @param oldToken 이전 토큰
 	 * @return 새로 생성된 토큰
 	 */
 	public String rotateRefreshToken(String oldToken) {
-		// 기존 토큰 검증
-		RefreshToken oldRefreshToken = validateRefreshToken(oldToken);
-		String handle = oldRefreshToken.getUserHandle();
-
-		// 기존 토큰 무효화
-		revokeRefreshToken(oldToken);
-
-		// 블랙리스트에 추가 (재사용 방지)
-		blacklistToken(oldToken, TokenType.REFRESH);
-
-		// 새 토큰 발급
-		return createRefreshToken(handle);
+		String handle = jwtUtil.getHandle(oldToken);
+		validateNotExpired(oldToken, handle);
+
+		String newToken = jwtUtil.createJwt(handle, TokenType.REFRESH, refreshTokenValidityMs);
+		RotationResult result = refreshTokenStore.rotate(oldToken, newToken, handle, refreshTokenValidityMs);
+		switch (result) {
+			case BLACKLISTED -> handleReusedToken(oldToken, handle);
+			case NOT_FOUND -> {
+				log.warn("Token not found in Redis: {}", oldToken);
+				throw new InvalidTokenException("Refresh token not found or expired");
+			}
+			case REVOKED -> {
+				log.warn("Token has been revoked: {}", oldToken);
+				throw new InvalidTokenException("Refresh token was revoked");
+			}
+			default -> log.info("Rotated refresh token for user: {}", handle);
+		}
+		return newToken;
 	}
 }
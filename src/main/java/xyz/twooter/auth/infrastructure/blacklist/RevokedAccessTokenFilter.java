@@ -0,0 +1,192 @@
+package xyz.twooter.auth.infrastructure.blacklist;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.common.infrastructure.bloom.BloomFilter;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+
+/**
+ * 무효화된 액세스 토큰 ID 를 담는 노드 로컬 Bloom filter.
+ * 필터에 없으면 블랙리스트에 없는 것이므로 Redis 를 조회하지 않고, 필터에 있을 때만 Redis 로 확인한다.
+ * 다른 노드의 무효화는 Pub/Sub 으로 받고, 놓친 메시지와 만료된 ID 는 주기적으로 인덱스에서 다시 만들어 정리한다.
+ * 토큰 원문을 키로 쓰던 이전 블랙리스트 키는 재구성할 때 해시 키와 인덱스로 옮기고, 옮길 키가 없는 재구성 이후에는 더 찾지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedAccessTokenFilter implements SmartLifecycle, MessageListener {
+
+	// 무효화된 액세스 토큰 키 접두어. 뒤에 토큰 ID (토큰 원문의 SHA-256) 를 붙인다.
+	public static final String REVOKED_KEY_PREFIX = "access:blacklist:";
+	// 무효화된 토큰 ID -> 토큰 만료 시각(ms). 전체 재구성에 사용한다.
+	public static final String REVOKED_INDEX_KEY = "access:blacklist:index";
+	// 토큰 원문(header.payload.signature)을 그대로 붙이던 이전 키. 해시 키와 인덱스 키에는 '.' 이 없다.
+	private static final String LEGACY_REVOKED_KEY_PATTERN = REVOKED_KEY_PREFIX + "*.*.*";
+	private static final int LEGACY_SCAN_BATCH_SIZE = 1000;
+	public static final String REVOKED_CHANNEL = "access:blacklist:channel";
+
+	private final RedisUtil redisUtil;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	@Value("${spring.jwt.blacklist.expected-insertions:100000}")
+	private int expectedInsertions;
+
+	@Value("${spring.jwt.blacklist.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	@Value("${spring.jwt.blacklist.resync-interval-ms:60000}")
+	private long resyncIntervalMillis;
+
+	// 이전 버전 노드가 모두 내려가고 access-token-validity 가 지나면 꺼도 된다.
+	@Value("${spring.jwt.blacklist.migrate-legacy-keys:true}")
+	private boolean migrateLegacyKeys;
+
+	private final ScheduledExecutorService resyncScheduler = Executors.newSingleThreadScheduledExecutor();
+	private final Object filterLock = new Object();
+	private volatile BloomFilter filter;
+	// 재구성 중에 들어온 ID 를 새 필터에도 넣기 위해 사용한다.
+	private BloomFilter rebuilding;
+	// 이전 키를 하나도 찾지 못한 재구성 이후로는 SCAN 하지 않는다.
+	private volatile boolean legacyKeysRemaining = true;
+	private volatile boolean isRunning = false;
+
+	/**
+	 * 이 토큰이 무효화되었을 가능성이 있는지 반환한다. false 면 확실히 무효화되지 않았다.
+	 * 아직 필터를 만들지 못했다면 항상 true 를 반환해 Redis 로 확인하게 한다.
+	 */
+	public boolean mightBeRevoked(String tokenId) {
+		BloomFilter current = filter;
+		return current == null || current.mightContain(tokenId);
+	}
+
+	/**
+	 * 무효화한 토큰을 인덱스에 기록하고 다른 노드에 알린다.
+	 */
+	public void revoke(String tokenId, long expiresAt) {
+		addLocal(tokenId);
+		redisUtil.zAdd(REVOKED_INDEX_KEY, tokenId, expiresAt);
+		redisUtil.publish(REVOKED_CHANNEL, tokenId);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		addLocal(new String(message.getBody()));
+	}
+
+	@Override
+	public void start() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+		rebuildSafely();
+		resyncScheduler.scheduleWithFixedDelay(this::rebuildSafely, resyncIntervalMillis, resyncIntervalMillis,
+			TimeUnit.MILLISECONDS);
+		this.isRunning = true;
+	}
+
+	@Override
+	public void stop() {
+		this.isRunning = false;
+		listenerContainer.removeMessageListener(this);
+		resyncScheduler.shutdownNow();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.isRunning;
+	}
+
+	/**
+	 * 만료된 ID 를 인덱스에서 지우고, 남은 ID 로 필터를 새로 만들어 교체한다.
+	 */
+	public void rebuild() {
+		BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+		synchronized (filterLock) {
+			rebuilding = next;
+		}
+		try {
+			long now = System.currentTimeMillis();
+			if (migrateLegacyKeys && legacyKeysRemaining) {
+				legacyKeysRemaining = migrateLegacyKeys(now) > 0;
+			}
+			redisUtil.zRemRangeByScore(REVOKED_INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+			Set<String> revokedIds = redisUtil.zRangeByScore(REVOKED_INDEX_KEY, now, Double.POSITIVE_INFINITY);
+			if (revokedIds != null) {
+				revokedIds.forEach(next::put);
+			}
+			synchronized (filterLock) {
+				filter = next;
+			}
+			log.debug("Rebuilt revoked access token filter with {} entries",
+				revokedIds != null ? revokedIds.size() : 0);
+		} finally {
+			synchronized (filterLock) {
+				rebuilding = null;
+			}
+		}
+	}
+
+	/**
+	 * 토큰 원문을 키로 쓰던 블랙리스트 항목을 해시 키와 인덱스로 옮긴다.
+	 * 이전 버전 노드가 아직 원문 키를 읽을 수 있으므로 원문 키는 지우지 않고 남은 TTL 이 지나 사라지게 둔다.
+	 *
+	 * @return 찾은 이전 키 수
+	 */
+	private long migrateLegacyKeys(long now) {
+		long found = 0;
+		try (Stream<String> legacyKeys = redisUtil.scan(LEGACY_REVOKED_KEY_PATTERN, LEGACY_SCAN_BATCH_SIZE)) {
+			Iterator<String> iterator = legacyKeys.iterator();
+			while (iterator.hasNext()) {
+				String legacyKey = iterator.next();
+				found++;
+				long remainingMillis = redisUtil.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+				if (remainingMillis <= 0) {
+					continue;
+				}
+				String tokenId = JWTUtil.hash(legacyKey.substring(REVOKED_KEY_PREFIX.length()));
+				redisUtil.set(REVOKED_KEY_PREFIX + tokenId, "true", remainingMillis, TimeUnit.MILLISECONDS);
+				redisUtil.zAdd(REVOKED_INDEX_KEY, tokenId, now + remainingMillis);
+			}
+		}
+		if (found > 0) {
+			log.info("Migrated {} legacy access token blacklist keys", found);
+		} else {
+			log.info("No legacy access token blacklist keys left, stopped migrating");
+		}
+		return found;
+	}
+
+	private void addLocal(String tokenId) {
+		synchronized (filterLock) {
+			if (filter != null) {
+				filter.put(tokenId);
+			}
+			if (rebuilding != null) {
+				rebuilding.put(tokenId);
+			}
+		}
+	}
+
+	private void rebuildSafely() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			// 예외가 밖으로 나가면 scheduleWithFixedDelay 가 이후 실행을 모두 취소한다.
+			log.warn("Failed to rebuild revoked access token filter", e);
+		}
+	}
+}
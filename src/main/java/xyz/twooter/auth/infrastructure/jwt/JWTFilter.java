@@ -1,12 +1,15 @@
 package xyz.twooter.auth.infrastructure.jwt;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -17,8 +20,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import xyz.twooter.auth.application.TokenService;
-import xyz.twooter.auth.domain.TokenType;
 import xyz.twooter.auth.domain.exception.InvalidTokenException;
+import xyz.twooter.auth.infrastructure.usersdetails.CustomUserDetailsService;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -28,8 +31,10 @@ public class JWTFilter extends OncePerRequestFilter {
 	public static final String TOKEN_PREFIX = "Bearer ";
 
 	private final JWTUtil jwtUtil;
-	private final UserDetailsService userDetailsService;
+	private final CustomUserDetailsService userDetailsService;
 	private final TokenService tokenService;
+	// 비로그인 조회를 허용하는 경로. 토큰이 있어도 인증 정보가 실제로 필요할 때까지 검증을 미룬다.
+	private final RequestMatcher lazyAuthenticationMatcher;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,7 +45,11 @@ public class JWTFilter extends OncePerRequestFilter {
 			String jwt = resolveToken(request);
 
 			if (StringUtils.hasText(jwt)) {
-				validateAndProcessToken(jwt);
+				if (lazyAuthenticationMatcher.matches(request)) {
+					deferAuthentication(request, jwt);
+				} else {
+					validateAndProcessToken(jwt);
+				}
 			}
 
 			filterChain.doFilter(request, response);
@@ -53,34 +62,57 @@ public class JWTFilter extends OncePerRequestFilter {
 	}
 
 	private void validateAndProcessToken(String jwt) {
-		validateToken(jwt);
-		processValidToken(jwt);
+		// 인증 객체 생성 및 SecurityContext에 저장
+		SecurityContextHolder.getContext().setAuthentication(authenticate(jwt));
 	}
 
-	private void validateToken(String jwt) {
+	/**
+	 * SecurityContext 를 처음 읽을 때(@CurrentMember 인자 해석 등) 토큰을 검증한다.
+	 * 인증 정보를 쓰지 않는 요청은 토큰 파싱, 블랙리스트 확인, 회원 조회를 하지 않는다.
+	 * 토큰이 유효하지 않으면 그 시점에 InvalidTokenException 이 발생해 GlobalExceptionHandler 가 401 로 응답한다.
+	 */
+	private void deferAuthentication(HttpServletRequest request, String jwt) {
+		SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+		strategy.setDeferredContext(new MemoizedSecurityContext(() -> {
+			SecurityContext context = strategy.createEmptyContext();
+			try {
+				context.setAuthentication(authenticate(jwt));
+			} catch (InvalidTokenException e) {
+				request.setAttribute("exception", e);
+				throw e;
+			}
+			return context;
+		}));
+	}
+
+	private Authentication authenticate(String jwt) {
+		// 토큰은 한 번만 파싱하고, 그 결과로 만료 확인과 사용자 조회를 모두 처리한다.
+		JwtClaims claims = jwtUtil.parseClaims(jwt);
+		validateToken(claims);
+		return processValidToken(claims);
+	}
+
+	private void validateToken(JwtClaims claims) {
 		// 토큰이 만료되었는지 확인
-		if (jwtUtil.isExpired(jwt) || isBlacklisted(jwt)) {
+		if (claims.isExpired() || isBlacklisted(claims)) {
 			log.warn("Expired token attempted to be used");
 			throw new InvalidTokenException();
 		}
 	}
 
-	private boolean isBlacklisted(String jwt) {
-		return tokenService.isTokenBlacklisted(jwt, TokenType.ACCESS);
+	private boolean isBlacklisted(JwtClaims claims) {
+		return tokenService.isAccessTokenBlacklisted(claims);
 	}
 
-	private void processValidToken(String jwt) {
+	private Authentication processValidToken(JwtClaims claims) {
 		// 토큰에서 사용자 handle 추출
-		String handle = jwtUtil.getHandle(jwt);
+		String handle = claims.getHandle();
 		log.debug("Processing token for user: {}", handle);
 
-		// JWT 토큰이 유효한 경우 Spring Security 인증 정보를 설정
-		UserDetails userDetails = userDetailsService.loadUserByUsername(handle);
-		Authentication authentication = createAuthentication(userDetails);
-		// 인증 객체 생성 및 SecurityContext에 저장
-		SecurityContextHolder.getContext().setAuthentication(authentication);
-
-		log.debug("Authentication set for user: {}", handle);
+		// JWT 토큰이 유효한 경우 Spring Security 인증 정보를 설정 (토큰에 회원 ID 가 있으면 DB 를 조회하지 않는다)
+		UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
+		log.debug("Authentication created for user: {}", handle);
+		return createAuthentication(userDetails);
 	}
 
 	private Authentication createAuthentication(UserDetails userDetails) {
@@ -103,4 +135,32 @@ public class JWTFilter extends OncePerRequestFilter {
 		}
 		return null;
 	}
+
+	// 한 요청 안에서 SecurityContext 를 여러 번 읽어도 검증은 한 번만 한다. (실패도 기억해 같은 예외를 던진다)
+	private static final class MemoizedSecurityContext implements Supplier<SecurityContext> {
+
+		private final Supplier<SecurityContext> loader;
+		private SecurityContext context;
+		private RuntimeException failure;
+
+		private MemoizedSecurityContext(Supplier<SecurityContext> loader) {
+			this.loader = loader;
+		}
+
+		@Override
+		public SecurityContext get() {
+			if (failure != null) {
+				throw failure;
+			}
+			if (context == null) {
+				try {
+					context = loader.get();
+				} catch (RuntimeException e) {
+					failure = e;
+					throw e;
+				}
+			}
+			return context;
+		}
+	}
 }
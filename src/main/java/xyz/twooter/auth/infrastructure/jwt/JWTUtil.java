@@ -1,56 +1,94 @@
 package xyz.twooter.auth.infrastructure.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import xyz.twooter.auth.domain.TokenType;
+import xyz.twooter.auth.domain.exception.InvalidTokenException;
+import xyz.twooter.common.infrastructure.cache.BoundedCache;
 
 @Component
 public class JWTUtil {
 
-	private SecretKey secretKey;
+	// 최근에 검증한 토큰 수 (요청마다 HMAC 서명을 다시 검증하지 않도록 만료 전까지 보관)
+	private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+	private final SecretKey secretKey;
+	// JwtParser 는 불변이라 여러 스레드가 함께 사용해도 안전하다.
+	private final JwtParser parser;
+
+	private final BoundedCache<String, JwtClaims> verifiedTokens = new BoundedCache<>(VERIFIED_TOKEN_CACHE_SIZE);
 
 	public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
 
 		secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
 			Jwts.SIG.HS256.key().build().getAlgorithm());
+		parser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
 	}
 
-	public String getHandle(String token) {
+	/**
+	 * 토큰을 한 번 검증하고 클레임을 반환한다. 만료된 토큰도 서명이 올바르면 클레임을 반환하므로
+	 * 호출 측에서 {@link JwtClaims#isExpired()} 를 확인한다.
+	 *
+	 * @throws InvalidTokenException 서명이 올바르지 않거나 형식이 잘못된 경우
+	 */
+	public JwtClaims parseClaims(String token) {
+		if (!StringUtils.hasText(token)) {
+			throw new InvalidTokenException();
+		}
 
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload()
-			.get("handle", String.class);
-	}
+		String tokenId = hash(token);
+		JwtClaims cached = verifiedTokens.get(tokenId);
+		if (cached != null) {
+			return cached;
+		}
 
-	public Boolean isExpired(String token) {
+		JwtClaims claims;
 		try {
-			return Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload()
-				.getExpiration()
-				.before(new Date());
+			claims = toJwtClaims(tokenId, parser.parseSignedClaims(token).getPayload());
 		} catch (ExpiredJwtException e) {
-			return true; // 이미 만료된 토큰
+			// 만료 검사는 서명 검증 이후에 이루어지므로 클레임은 신뢰할 수 있다.
+			return toJwtClaims(tokenId, e.getClaims());
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new InvalidTokenException();
 		}
+
+		// 만료된 뒤에는 캐시에서 빠지고, 다시 검증해 만료된 클레임을 반환한다.
+		verifiedTokens.put(tokenId, claims, claims.getExpiresAt());
+		return claims;
+	}
+
+	public String getHandle(String token) {
+		return parseClaims(token).getHandle();
+	}
+
+	public Boolean isExpired(String token) {
+		return parseClaims(token).isExpired();
 	}
 
 	public String createJwt(String handle, TokenType type, Long expiredMs) {
 
+		// 같은 초에 발급해도 토큰이 겹치지 않도록 jti 를 넣는다. (리프레시 토큰 원문을 키로 사용)
 		return Jwts.builder()
+			.id(UUID.randomUUID().toString())
 			.claim("handle", handle)
 			.claim("tokenType", type.toString())
 			.issuedAt(new Date(System.currentTimeMillis()))
@@ -59,45 +97,65 @@ public class JWTUtil {
 			.compact();
 	}
 
+	/**
+	 * 액세스 토큰을 발급한다. 요청마다 회원을 조회하지 않도록 회원 ID 를 함께 담는다.
+	 */
+	public String createAccessToken(Long memberId, String handle, Long expiredMs) {
+
+		return Jwts.builder()
+			.claim("memberId", memberId)
+			.claim("handle", handle)
+			.claim("tokenType", TokenType.ACCESS.toString())
+			.issuedAt(new Date(System.currentTimeMillis()))
+			.expiration(new Date(System.currentTimeMillis() + expiredMs))
+			.signWith(secretKey)
+			.compact();
+	}
+
 	public <T> T getClaim(String token, String claimName, Class<T> requiredType) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
+		return parser.parseSignedClaims(token)
 			.getPayload()
 			.get(claimName, requiredType);
 	}
 
 	public long getRemainingTimeInMillis(String token) {
 		try {
-			Date expiration = Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload()
-				.getExpiration();
-
-			long now = System.currentTimeMillis();
-			long expiryTime = expiration.getTime();
-
-			return Math.max(0, expiryTime - now);
-		} catch (ExpiredJwtException e) {
-			return 0; // 이미 만료된 토큰
-		} catch (Exception e) {
+			return parseClaims(token).getRemainingTimeInMillis();
+		} catch (InvalidTokenException e) {
 			return 0; // 유효하지 않은 토큰
 		}
 	}
 
 	public boolean isValid(String token) {
 		try {
-			Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token);
-
-			return !isExpired(token);
-		} catch (Exception e) {
+			return !parseClaims(token).isExpired();
+		} catch (InvalidTokenException e) {
 			return false;
 		}
 	}
+
+	private JwtClaims toJwtClaims(String tokenId, Claims claims) {
+		if (claims.getExpiration() == null) {
+			throw new InvalidTokenException();
+		}
+		return JwtClaims.builder()
+			.tokenId(tokenId)
+			.memberId(claims.get("memberId", Long.class))
+			.handle(claims.get("handle", String.class))
+			.tokenType(claims.get("tokenType", String.class))
+			.expiresAt(claims.getExpiration().getTime())
+			.build();
+	}
+
+	/**
+	 * 토큰 ID (토큰 원문의 SHA-256). 토큰 원문을 메모리나 Redis 키에 남기지 않도록 원문 대신 사용한다.
+	 */
+	public static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
 }
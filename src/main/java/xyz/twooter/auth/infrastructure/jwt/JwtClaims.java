@@ -0,0 +1,34 @@
+package xyz.twooter.auth.infrastructure.jwt;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임. 한 번 파싱한 결과를 만료/핸들 확인 등에 함께 사용한다.
+ */
+@Getter
+public class JwtClaims {
+
+	private final String tokenId; // 토큰의 SHA-256 (블랙리스트 키 등에 원문 대신 사용)
+	private final Long memberId; // 액세스 토큰에만 포함 (이전에 발급된 토큰은 null)
+	private final String handle;
+	private final String tokenType;
+	private final long expiresAt; // epoch millis
+
+	@Builder
+	public JwtClaims(String tokenId, Long memberId, String handle, String tokenType, long expiresAt) {
+		this.tokenId = tokenId;
+		this.memberId = memberId;
+		this.handle = handle;
+		this.tokenType = tokenType;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isExpired() {
+		return expiresAt < System.currentTimeMillis();
+	}
+
+	public long getRemainingTimeInMillis() {
+		return Math.max(0, expiresAt - System.currentTimeMillis());
+	}
+}
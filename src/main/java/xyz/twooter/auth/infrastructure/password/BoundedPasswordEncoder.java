@@ -0,0 +1,31 @@
+package xyz.twooter.auth.infrastructure.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 해시 계산을 {@link PasswordHashExecutor} 에서 실행하는 PasswordEncoder.
+ * 회원 가입(encode)과 로그인 검증(DaoAuthenticationProvider 의 matches)이 모두 이 인코더를 거친다.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final PasswordHashExecutor passwordHashExecutor;
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return passwordHashExecutor.execute("encode", () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return passwordHashExecutor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+}
@@ -0,0 +1,163 @@
+package xyz.twooter.auth.infrastructure.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.error.ErrorCode;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀.
+ * 해시는 CPU 를 오래 쓰므로 요청 스레드에서 분리하고, 스레드 수와 대기열을 제한해 로그인이 몰려도 다른 요청이 밀리지 않게 한다.
+ * 대기열이 가득 찼거나 timeout-ms 안에 끝나지 않으면 429 로 거절한다.
+ *
+ * <p>호출한 요청 스레드(Tomcat)는 결과를 기다리는 동안 묶여 있으므로, 실행 중(threads)과 대기 중(queue-capacity)을 합친 수만큼만
+ * 받아들이고 그 이상은 기다리지 않고 바로 거절한다. 따라서 해시 때문에 묶이는 요청 스레드는 최대 threads + queue-capacity 개이고,
+ * 이 값은 server.tomcat.threads.max (기본 200) 보다 충분히 작아야 다른 요청이 밀리지 않는다.
+ * 대기열은 threads 의 몇 배 정도로 작게 두고, timeout-ms 는 (queue-capacity / threads + 1) * 해시 한 번 시간보다 길게 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashExecutor {
+
+	private static final String METRIC_PREFIX = "auth.password.hash";
+
+	private final MeterRegistry meterRegistry;
+
+	// 0 이하면 CPU 코어 수의 절반을 쓴다.
+	@Value("${spring.auth.password-hash.threads:0}")
+	private int threads;
+
+	@Value("${spring.auth.password-hash.queue-capacity:8}")
+	private int queueCapacity;
+
+	// 대기열에서 기다린 시간을 포함한 최대 대기 시간
+	@Value("${spring.auth.password-hash.timeout-ms:3000}")
+	private long timeoutMillis;
+
+	private ThreadPoolExecutor executor;
+	// 결과를 기다리는 요청 스레드 수를 threads + queue-capacity 로 제한한다.
+	private Semaphore admission;
+	private Timer queueWaitTimer;
+	private Counter rejectedCounter;
+	private Counter timeoutCounter;
+
+	@PostConstruct
+	public void start() {
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.admission = new Semaphore(poolSize + queueCapacity);
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+		log.info("Starting PasswordHashExecutor (threads: {}, queue capacity: {})", poolSize, queueCapacity);
+
+		Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+			.description("비밀번호 해시 대기열 길이")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("해시 중인 스레드 수")
+			.register(meterRegistry);
+		this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+			.description("해시 작업이 대기열에서 기다린 시간")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+			.description("대기열이 가득 차 거절한 해시 작업 수")
+			.register(meterRegistry);
+		this.timeoutCounter = Counter.builder(METRIC_PREFIX + ".timeout")
+			.description("timeout-ms 안에 끝나지 않은 해시 작업 수")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 해시 작업을 전용 스레드에서 실행하고 결과를 기다린다.
+	 *
+	 * @param operation 지연 시간 지표의 operation 태그 (encode, matches)
+	 * @throws BusinessException 대기열이 가득 찼거나 시간 안에 끝나지 않으면 TOO_MANY_REQUESTS
+	 */
+	public <T> T execute(String operation, Supplier<T> task) {
+		Timer hashTimer = Timer.builder(METRIC_PREFIX)
+			.description("비밀번호 해시 실행 시간")
+			.tag("operation", operation)
+			.register(meterRegistry);
+		if (!admission.tryAcquire()) {
+			throw reject();
+		}
+		try {
+			return submitAndWait(hashTimer, task);
+		} finally {
+			admission.release();
+		}
+	}
+
+	private <T> T submitAndWait(Timer hashTimer, Supplier<T> task) {
+		long submittedAt = System.nanoTime();
+
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return hashTimer.record(task);
+			});
+		} catch (RejectedExecutionException e) {
+			// 시간이 지나 포기한 작업이 아직 스레드를 쓰고 있으면 여기서 거절된다.
+			throw reject();
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 아직 대기 중인 작업은 실행되지 않고 버려진다.
+			future.cancel(true);
+			timeoutCounter.increment();
+			log.warn("Password hash timed out after {}ms", timeoutMillis);
+			throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			log.error("Password hash failed", e.getCause());
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private BusinessException reject() {
+		rejectedCounter.increment();
+		log.warn("Rejected password hash: queue is full ({})", queueCapacity);
+		return new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+	}
+}
@@ -0,0 +1,267 @@
+package xyz.twooter.auth.infrastructure.token;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.auth.domain.RefreshToken;
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+
+/**
+ * 리프레시 토큰 저장소.
+ * 토큰별 상태는 Hash, 회원별 토큰 목록은 Set 으로 두고, 여러 키를 함께 바꾸는 작업은 Lua 스크립트로 한 번에 처리한다.
+ * 스크립트가 다루는 키는 클러스터에서도 한 슬롯에 있어야 하므로, 모든 키에 회원 handle 을 해시 태그로 붙인다.
+ * 이전 형식(refresh:token:토큰 등)으로 저장된 토큰은 처음 사용할 때 새 형식으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+	// refresh:session:{handle}:토큰 -> Hash (handle, revoked, expiresAt)
+	private static final String SESSION_PREFIX = "refresh:session:";
+	// refresh:tokens:{handle} -> 토큰 Set
+	private static final String USER_TOKENS_PREFIX = "refresh:tokens:";
+	// refresh:blacklist:{handle}:토큰
+	private static final String BLACKLIST_PREFIX = "refresh:blacklist:";
+	// 무효화한 토큰을 남겨 두는 시간 (도난 감지용)
+	public static final long REVOKED_TOKEN_RETENTION_SECONDS = 300;
+
+	// 이전 형식 키. 배포 후 refresh-token-validity 가 지나면 모두 만료되므로 그 다음 릴리스에서 지운다.
+	// refresh:token:토큰 -> RefreshToken 객체, refresh:user:handle -> 토큰 Set 객체, refresh:blacklist:토큰
+	private static final String LEGACY_TOKEN_PREFIX = "refresh:token:";
+	private static final String LEGACY_USER_PREFIX = "refresh:user:";
+	private static final String LEGACY_BLACKLIST_PREFIX = "refresh:blacklist:";
+
+	// KEYS: session, userTokens / ARGV: token, handle, expiresAt, ttlMillis
+	private static final DefaultRedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('HSET', KEYS[1], 'handle', ARGV[2], 'revoked', '0', 'expiresAt', ARGV[3]) "
+			+ "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+			+ "redis.call('SADD', KEYS[2], ARGV[1]) "
+			+ "redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+			+ "return 1",
+		Long.class);
+
+	// KEYS: oldSession, oldBlacklist, userTokens, newSession
+	// ARGV: oldToken, newToken, handle, newExpiresAt, ttlMillis, retentionSeconds, blacklistedAt
+	private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[2]) == 1 then return -1 end "
+			+ "local session = redis.call('HMGET', KEYS[1], 'handle', 'revoked') "
+			+ "if not session[1] or session[1] ~= ARGV[3] then return -2 end "
+			+ "if session[2] == '1' then return -3 end "
+			+ "redis.call('HSET', KEYS[1], 'revoked', '1') "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[6]) "
+			+ "redis.call('SET', KEYS[2], ARGV[7], 'PX', ARGV[5]) "
+			+ "redis.call('SREM', KEYS[3], ARGV[1]) "
+			+ "redis.call('HSET', KEYS[4], 'handle', ARGV[3], 'revoked', '0', 'expiresAt', ARGV[4]) "
+			+ "redis.call('PEXPIRE', KEYS[4], ARGV[5]) "
+			+ "redis.call('SADD', KEYS[3], ARGV[2]) "
+			+ "redis.call('PEXPIRE', KEYS[3], ARGV[5]) "
+			+ "return 1",
+		Long.class);
+
+	// KEYS: session, userTokens / ARGV: token, handle, revoked, expiresAt, ttlMillis
+	// 이미 새 형식 세션이 있으면 건드리지 않는다. 토큰 목록의 TTL 은 줄이지 않는다.
+	private static final DefaultRedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+			+ "redis.call('HSET', KEYS[1], 'handle', ARGV[2], 'revoked', ARGV[3], 'expiresAt', ARGV[4]) "
+			+ "redis.call('PEXPIRE', KEYS[1], ARGV[5]) "
+			+ "if ARGV[3] == '0' then "
+			+ "redis.call('SADD', KEYS[2], ARGV[1]) "
+			+ "if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[5]) then redis.call('PEXPIRE', KEYS[2], ARGV[5]) end "
+			+ "end "
+			+ "return 1",
+		Long.class);
+
+	// KEYS: session, userTokens / ARGV: token, retentionSeconds
+	private static final DefaultRedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('SREM', KEYS[2], ARGV[1]) "
+			+ "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+			+ "redis.call('HSET', KEYS[1], 'revoked', '1') "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+			+ "return 1",
+		Long.class);
+
+	// KEYS: userTokens / ARGV: sessionPrefix, retentionSeconds
+	// 세션 키는 토큰 목록을 읽은 뒤에야 알 수 있어 스크립트 안에서 만든다. 같은 해시 태그라 KEYS[1] 과 같은 슬롯이다.
+	private static final DefaultRedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"local tokens = redis.call('SMEMBERS', KEYS[1]) "
+			+ "for _, token in ipairs(tokens) do "
+			+ "local session = ARGV[1] .. token "
+			+ "if redis.call('EXISTS', session) == 1 then "
+			+ "redis.call('HSET', session, 'revoked', '1') "
+			+ "redis.call('EXPIRE', session, ARGV[2]) "
+			+ "end "
+			+ "end "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "return #tokens",
+		Long.class);
+
+	private final RedisUtil redisUtil;
+
+	public enum RotationResult {
+		ROTATED, BLACKLISTED, NOT_FOUND, REVOKED
+	}
+
+	public void save(String token, String handle, long ttlMillis) {
+		redisUtil.execute(CREATE_SCRIPT, List.of(sessionKey(token, handle), userTokensKey(handle)),
+			token, handle, String.valueOf(System.currentTimeMillis() + ttlMillis), String.valueOf(ttlMillis));
+	}
+
+	public Optional<RefreshToken> find(String token, String handle) {
+		Map<String, String> session = redisUtil.hGetAllAsString(sessionKey(token, handle));
+		if (session.get("handle") == null && migrateLegacy(token, handle)) {
+			session = redisUtil.hGetAllAsString(sessionKey(token, handle));
+		}
+		if (session.get("handle") == null) {
+			return Optional.empty();
+		}
+		RefreshToken refreshToken = RefreshToken.builder()
+			.id(token)
+			.userHandle(session.get("handle"))
+			.revoke("1".equals(session.get("revoked")))
+			.expiryDate(toLocalDateTime(session.get("expiresAt")))
+			.build();
+		return Optional.of(refreshToken);
+	}
+
+	/**
+	 * 기존 토큰을 무효화하고 블랙리스트에 올린 뒤 새 토큰을 저장한다. 같은 토큰으로 동시에 요청하면 하나만 성공한다.
+	 */
+	public RotationResult rotate(String oldToken, String newToken, String handle, long ttlMillis) {
+		RotationResult result = rotateOnce(oldToken, newToken, handle, ttlMillis);
+		if (result == RotationResult.NOT_FOUND && migrateLegacy(oldToken, handle)) {
+			return rotateOnce(oldToken, newToken, handle, ttlMillis);
+		}
+		return result;
+	}
+
+	private RotationResult rotateOnce(String oldToken, String newToken, String handle, long ttlMillis) {
+		Long result = redisUtil.execute(ROTATE_SCRIPT,
+			List.of(sessionKey(oldToken, handle), blacklistKey(oldToken, handle), userTokensKey(handle),
+				sessionKey(newToken, handle)),
+			oldToken, newToken, handle, String.valueOf(System.currentTimeMillis() + ttlMillis),
+			String.valueOf(ttlMillis), String.valueOf(REVOKED_TOKEN_RETENTION_SECONDS),
+			LocalDateTime.now().toString());
+		if (result == null) {
+			return RotationResult.NOT_FOUND;
+		}
+		return switch (result.intValue()) {
+			case 1 -> RotationResult.ROTATED;
+			case -1 -> RotationResult.BLACKLISTED;
+			case -3 -> RotationResult.REVOKED;
+			default -> RotationResult.NOT_FOUND;
+		};
+	}
+
+	public boolean revoke(String token, String handle) {
+		Long result = redisUtil.execute(REVOKE_SCRIPT, List.of(sessionKey(token, handle), userTokensKey(handle)),
+			token, String.valueOf(REVOKED_TOKEN_RETENTION_SECONDS));
+		return result != null && result == 1;
+	}
+
+	/**
+	 * 회원의 모든 리프레시 토큰을 무효화한다.
+	 *
+	 * @return 무효화한 토큰 수
+	 */
+	public long revokeAll(String handle) {
+		migrateLegacyUserTokens(handle);
+		Long revoked = redisUtil.execute(REVOKE_ALL_SCRIPT, List.of(userTokensKey(handle)),
+			sessionKeyPrefix(handle), String.valueOf(REVOKED_TOKEN_RETENTION_SECONDS));
+		return revoked != null ? revoked : 0;
+	}
+
+	public void delete(String token, String handle) {
+		redisUtil.delete(sessionKey(token, handle));
+	}
+
+	public void blacklist(String token, String handle, long ttlMillis) {
+		redisUtil.set(blacklistKey(token, handle), LocalDateTime.now().toString(), ttlMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public boolean isBlacklisted(String token, String handle) {
+		return redisUtil.hasKey(blacklistKey(token, handle)) || redisUtil.hasKey(LEGACY_BLACKLIST_PREFIX + token);
+	}
+
+	/**
+	 * 이전 형식으로 저장된 토큰과 블랙리스트 항목을 남은 TTL 그대로 새 형식으로 옮긴다.
+	 * 옮긴 토큰 키는 지워 다른 노드가 같은 토큰을 다시 옮기거나 이전 형식으로 교체하지 않게 한다.
+	 *
+	 * @return 옮긴 항목이 있으면 true
+	 */
+	private boolean migrateLegacy(String token, String handle) {
+		boolean migrated = migrateLegacyBlacklist(token, handle);
+
+		String legacyKey = LEGACY_TOKEN_PREFIX + token;
+		RefreshToken legacy = redisUtil.get(legacyKey, RefreshToken.class);
+		long ttlMillis = redisUtil.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+		if (legacy == null || ttlMillis <= 0 || !handle.equals(legacy.getUserHandle())) {
+			return migrated;
+		}
+		redisUtil.execute(MIGRATE_SCRIPT, List.of(sessionKey(token, handle), userTokensKey(handle)),
+			token, handle, legacy.isRevoke() ? "1" : "0", String.valueOf(System.currentTimeMillis() + ttlMillis),
+			String.valueOf(ttlMillis));
+		redisUtil.delete(legacyKey);
+		log.info("Migrated legacy refresh token for user: {}", handle);
+		return true;
+	}
+
+	private boolean migrateLegacyBlacklist(String token, String handle) {
+		String legacyKey = LEGACY_BLACKLIST_PREFIX + token;
+		long ttlMillis = redisUtil.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+		if (ttlMillis <= 0) {
+			return false;
+		}
+		Object blacklistedAt = redisUtil.get(legacyKey);
+		redisUtil.set(blacklistKey(token, handle), blacklistedAt != null ? blacklistedAt.toString() : "", ttlMillis,
+			TimeUnit.MILLISECONDS);
+		return true;
+	}
+
+	// 전체 무효화가 이전 형식 토큰도 함께 무효화하도록 먼저 옮긴다.
+	@SuppressWarnings("unchecked")
+	private void migrateLegacyUserTokens(String handle) {
+		String legacyUserKey = LEGACY_USER_PREFIX + handle;
+		Set<String> legacyTokens = redisUtil.get(legacyUserKey, Set.class);
+		if (legacyTokens == null) {
+			return;
+		}
+		legacyTokens.forEach(token -> migrateLegacy(token, handle));
+		redisUtil.delete(legacyUserKey);
+	}
+
+	private static LocalDateTime toLocalDateTime(String epochMillis) {
+		if (epochMillis == null) {
+			return null;
+		}
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+	}
+
+	private static String sessionKey(String token, String handle) {
+		return sessionKeyPrefix(handle) + token;
+	}
+
+	private static String sessionKeyPrefix(String handle) {
+		return RedisKeys.tagged(SESSION_PREFIX, handle) + ":";
+	}
+
+	private static String userTokensKey(String handle) {
+		return RedisKeys.tagged(USER_TOKENS_PREFIX, handle);
+	}
+
+	private static String blacklistKey(String token, String handle) {
+		return RedisKeys.tagged(BLACKLIST_PREFIX, handle) + ":" + token;
+	}
+}
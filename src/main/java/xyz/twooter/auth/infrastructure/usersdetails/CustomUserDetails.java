@@ -13,6 +13,7 @@ import xyz.twooter.member.domain.Member;
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
+	// 액세스 토큰에서 복원한 회원은 id, handle 만 채워져 있다.
 	private final Member member;
 
 	public Member getMember() {
@@ -1,26 +1,69 @@
 package xyz.twooter.auth.infrastructure.usersdetails;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import lombok.RequiredArgsConstructor;
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
+import xyz.twooter.common.infrastructure.cache.BoundedCache;
 import xyz.twooter.member.domain.Member;
 import xyz.twooter.member.domain.exception.MemberNotFoundException;
 import xyz.twooter.member.domain.repository.MemberRepository;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final MemberRepository memberRepository;
 
+	// true 면 토큰의 클레임 대신 회원 전체를 조회해 handle 기준으로 ttl-ms 동안 보관한다.
+	// 지금은 회원 정보를 바꾸거나 탈퇴하는 경로가 없어 ttl 로만 비운다. 그런 경로가 생기면 거기서 캐시를 지운다.
+	private final boolean principalCacheEnabled;
+	private final long principalCacheTtlMillis;
+	private final BoundedCache<String, UserDetails> principalCache;
+
+	public CustomUserDetailsService(MemberRepository memberRepository,
+		@Value("${spring.jwt.principal-cache.enabled:false}") boolean principalCacheEnabled,
+		@Value("${spring.jwt.principal-cache.ttl-ms:60000}") long principalCacheTtlMillis,
+		@Value("${spring.jwt.principal-cache.max-size:10000}") int principalCacheMaxSize) {
+
+		this.memberRepository = memberRepository;
+		this.principalCacheEnabled = principalCacheEnabled;
+		this.principalCacheTtlMillis = principalCacheTtlMillis;
+		this.principalCache = new BoundedCache<>(principalCacheMaxSize);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public UserDetails loadUserByUsername(String handle) throws UsernameNotFoundException {
 		Member member = memberRepository.findByHandle(handle).orElseThrow(MemberNotFoundException::new);
 		return new CustomUserDetails(member);
 	}
+
+	/**
+	 * 검증된 액세스 토큰으로 인증 정보를 만든다.
+	 * 토큰에 회원 ID 가 있으면 DB 를 조회하지 않고, 회원 ID 가 없는 이전 토큰이거나 캐시를 켠 경우에만 회원을 조회한다.
+	 */
+	public UserDetails loadUserByClaims(JwtClaims claims) {
+		if (!principalCacheEnabled && claims.getMemberId() != null) {
+			return new CustomUserDetails(Member.builder()
+				.id(claims.getMemberId())
+				.handle(claims.getHandle())
+				.build());
+		}
+		return loadCachedUser(claims.getHandle());
+	}
+
+	private UserDetails loadCachedUser(String handle) {
+		UserDetails cached = principalCache.get(handle);
+		if (cached != null) {
+			return cached;
+		}
+
+		UserDetails userDetails = loadUserByUsername(handle);
+		principalCache.put(handle, userDetails, System.currentTimeMillis() + principalCacheTtlMillis);
+		return userDetails;
+	}
 }
@@ -1,6 +1,7 @@
 package xyz.twooter.common.entity;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PrePersist;
 import lombok.Getter;
 
 @EntityListeners(AuditingEntityListener.class)
@@ -18,4 +20,15 @@ public abstract class BaseCreateTimeEntity {
 	@CreatedDate
 	@Column(updatable = false, nullable = false)
 	private LocalDateTime createdAt;
+
+	/**
+	 * 타임라인 score 와 커서가 ms 단위이므로, 저장하는 작성 시각도 ms 단위로 잘라 DB 조회와 기준을 맞춘다.
+	 * (AuditingEntityListener 가 값을 채운 뒤에 호출된다)
+	 */
+	@PrePersist
+	protected void truncateCreatedAtToMillis() {
+		if (createdAt != null) {
+			createdAt = createdAt.truncatedTo(ChronoUnit.MILLIS);
+		}
+	}
 }
@@ -18,6 +18,7 @@ public enum ErrorCode {
 	MESSAGE_NOT_READABLE(400, "C007", "요청 메시지를 처리할 수 없습니다"),
 	MISSING_PARAMETER(400, "C008", "필수 파라미터가 누락되었습니다"),
 	INVALID_CURSOR(400, "C009", "유효하지 않은 커서 입니다."),
+	TOO_MANY_REQUESTS(429, "C010", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"),
 
 	/**
 	 * Domain
@@ -0,0 +1,66 @@
+package xyz.twooter.common.infrastructure.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter. 없는 값을 있다고 답할 수는 있지만(오탐), 넣은 값을 없다고 답하지는 않는다.
+ * 삭제는 지원하지 않으므로 만료된 값을 지우려면 새로 만들어 교체한다. 여러 스레드에서 동시에 사용할 수 있다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 예상 원소 수
+	 * @param falsePositiveRate  예상 원소 수만큼 넣었을 때의 오탐률 (0 ~ 1)
+	 */
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("Invalid bloom filter size: " + expectedInsertions + ", "
+				+ falsePositiveRate);
+		}
+		long optimalBits = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bits = new AtomicLongArray((int)((Math.max(optimalBits, Long.SIZE) + Long.SIZE - 1) / Long.SIZE));
+		this.bitSize = (long)bits.length() * Long.SIZE;
+		this.hashCount = Math.max(1, (int)Math.round((double)optimalBits / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value, 0);
+		long hash2 = hash(value, hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			long mask = 1L << index;
+			bits.getAndUpdate((int)(index >>> 6), word -> word | mask);
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value, 0);
+		long hash2 = hash(value, hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a 에 MurmurHash3 finalizer 를 더해 비트를 고르게 섞는다.
+	private static long hash(String value, long seed) {
+		long hash = 0xcbf29ce484222325L ^ seed;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
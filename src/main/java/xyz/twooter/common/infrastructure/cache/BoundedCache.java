@@ -0,0 +1,75 @@
+package xyz.twooter.common.infrastructure.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 경로에서 여러 스레드가 잠금 없이 함께 쓰는 크기 제한 로컬 캐시
+ * 항목마다 만료 시각을 두고, 최대 개수를 넘으면 먼저 넣은 항목부터 지운다. (조회 순서는 반영하지 않는다)
+ */
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	// 넣은 순서. 같은 키를 다시 넣거나 지운 뒤 남은 이전 항목은 꺼낼 때 건너뛴다.
+	private final ConcurrentLinkedQueue<Map.Entry<K, Entry<V>>> insertionOrder = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queuedCount = new AtomicInteger();
+
+	public BoundedCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative");
+		}
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @return 없거나 만료되었으면 null
+	 */
+	public V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() < System.currentTimeMillis()) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.value();
+	}
+
+	public void put(K key, V value, long expiresAt) {
+		if (maxSize == 0) {
+			return;
+		}
+		Entry<V> entry = new Entry<>(value, expiresAt);
+		entries.put(key, entry);
+		insertionOrder.offer(Map.entry(key, entry));
+		queuedCount.incrementAndGet();
+		evictOverflow();
+	}
+
+	public void invalidate(K key) {
+		entries.remove(key);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evictOverflow() {
+		while (queuedCount.get() > maxSize) {
+			Map.Entry<K, Entry<V>> eldest = insertionOrder.poll();
+			if (eldest == null) {
+				return;
+			}
+			queuedCount.decrementAndGet();
+			// 그 사이 같은 키로 새로 넣은 항목은 지우지 않는다.
+			entries.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	private record Entry<V>(V value, long expiresAt) {
+	}
+}
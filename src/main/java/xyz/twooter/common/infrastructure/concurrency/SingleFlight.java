@@ -0,0 +1,50 @@
+package xyz.twooter.common.infrastructure.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 키로 동시에 들어온 조회 요청을 하나로 합친다.
+ * 먼저 들어온 요청만 loader 를 실행하고, 실행 중에 들어온 요청은 그 결과(또는 예외)를 함께 받는다.
+ * 결과를 저장해 두지 않으므로 실행이 끝난 뒤의 요청은 다시 loader 를 실행한다.
+ */
+@Component
+public class SingleFlight {
+
+	private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Supplier<T> loader) {
+		CompletableFuture<Object> call = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+		if (existing != null) {
+			return (T)await(existing);
+		}
+
+		try {
+			T result = loader.get();
+			call.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			call.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, call);
+		}
+	}
+
+	private Object await(CompletableFuture<Object> call) {
+		try {
+			return call.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package xyz.twooter.common.infrastructure.id;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 시간순으로 정렬되는 64비트 ID 생성기 (타임스탬프 41비트 + 노드 10비트 + 시퀀스 12비트)
+ * 같은 밀리초에 시퀀스를 모두 쓰거나 시계가 뒤로 가면, 마지막 타임스탬프를 이어 써서 ID 가 줄어들지 않도록 한다.
+ */
+public final class Snowflake {
+
+	// 2020-01-01T00:00:00Z
+	private static final long EPOCH_MILLIS = 1577836800000L;
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+	private static volatile Snowflake instance = new Snowflake(0);
+
+	private final long nodeId;
+	private long lastTimestamp = -1;
+	private long sequence = 0;
+
+	Snowflake(long nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("Snowflake node id must be between 0 and " + MAX_NODE_ID);
+		}
+		this.nodeId = nodeId;
+	}
+
+	/**
+	 * 이 노드의 ID 를 설정한다. 애플리케이션 시작 시 한 번만 호출한다.
+	 */
+	public static void configure(long nodeId) {
+		instance = new Snowflake(nodeId);
+	}
+
+	public static long nextId() {
+		return instance.next();
+	}
+
+	/**
+	 * ID 에 담긴 생성 시각을 UTC 기준으로 복원한다. (TimelineScore 와 같은 기준)
+	 */
+	public static LocalDateTime toCreatedAt(long id) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS),
+			ZoneOffset.UTC);
+	}
+
+	synchronized long next() {
+		long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+		if (timestamp == lastTimestamp) {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0) {
+				timestamp = lastTimestamp + 1;
+			}
+		} else {
+			sequence = 0;
+		}
+		lastTimestamp = timestamp;
+		return ((timestamp - EPOCH_MILLIS) << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+	}
+}
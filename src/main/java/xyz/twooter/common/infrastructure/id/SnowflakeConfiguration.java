@@ -0,0 +1,39 @@
+package xyz.twooter.common.infrastructure.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SnowflakeConfiguration {
+
+	private final Environment environment;
+
+	// 노드마다 달라야 한다. (0 ~ 1023, local 프로필에서만 생략할 수 있고 그때는 임의로 고른다)
+	@Value("${spring.id.node-id:-1}")
+	private long nodeId;
+
+	@PostConstruct
+	public void configureNodeId() {
+		if (nodeId >= 0) {
+			Snowflake.configure(nodeId);
+			return;
+		}
+		// 임의로 고른 번호는 다른 노드와 겹쳐 같은 ID 를 만들 수 있으므로 local 이 아니면 시작하지 않는다.
+		if (!environment.acceptsProfiles(Profiles.of("local"))) {
+			throw new IllegalStateException("spring.id.node-id must be set (0 ~ " + Snowflake.MAX_NODE_ID + ")");
+		}
+		long randomNodeId = ThreadLocalRandom.current().nextLong(Snowflake.MAX_NODE_ID + 1);
+		log.warn("spring.id.node-id is not set. Using random Snowflake node id: {}", randomNodeId);
+		Snowflake.configure(randomNodeId);
+	}
+}
@@ -0,0 +1,18 @@
+package xyz.twooter.common.infrastructure.id;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID 를 Snowflake 로 생성한다. IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 JDBC batch insert 가 가능하다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface SnowflakeId {
+}
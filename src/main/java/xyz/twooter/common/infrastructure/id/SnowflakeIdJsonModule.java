@@ -0,0 +1,19 @@
+package xyz.twooter.common.infrastructure.id;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * Snowflake ID 는 2^53 을 넘어 JavaScript 숫자로는 정확히 표현되지 않으므로 JSON 에서 문자열로 내보낸다.
+ * 응답의 ID 는 모두 Long 이고 개수 등은 long 이므로, Long 만 문자열로 바꾼다. (요청의 문자열 ID 는 그대로 Long 으로 읽힌다)
+ */
+@Component
+public class SnowflakeIdJsonModule extends SimpleModule {
+
+	public SnowflakeIdJsonModule() {
+		super("SnowflakeIdJsonModule");
+		addSerializer(Long.class, ToStringSerializer.instance);
+	}
+}
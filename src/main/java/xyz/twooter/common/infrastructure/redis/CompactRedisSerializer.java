@@ -0,0 +1,96 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 객체 기반 RedisTemplate 의 값 직렬화기.
+ * 새 형식은 [버전 바이트][타입 태그][값] 으로, String / Long / Integer / Boolean 은 Jackson 없이 바로 쓰고
+ * 그 밖의 타입만 기존 JSON 을 감싸서 쓴다.
+ * 버전 바이트는 JSON 의 첫 바이트가 될 수 없는 제어 문자이므로, 버전 바이트가 없는 값은 이전 JSON 형식으로 읽는다.
+ * 덕분에 배포 중에 두 형식이 섞여 있어도 모두 읽을 수 있고, 쓰는 형식은 설정으로 바꾼다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+	static final byte FORMAT_V1 = 0x01;
+	// 앞으로 추가할 버전을 위해 남겨 둔 범위 (JSON 공백 문자 0x09 미만)
+	private static final byte MAX_FORMAT_VERSION = 0x08;
+
+	private static final byte TYPE_STRING = 0x01;
+	private static final byte TYPE_LONG = 0x02;
+	private static final byte TYPE_INTEGER = 0x03;
+	private static final byte TYPE_TRUE = 0x04;
+	private static final byte TYPE_FALSE = 0x05;
+	private static final byte TYPE_JSON = 0x06;
+
+	private static final byte[] EMPTY = new byte[0];
+
+	private final RedisSerializer<Object> jsonSerializer;
+	private final RedisValueFormat writeFormat;
+
+	public CompactRedisSerializer(RedisSerializer<Object> jsonSerializer, RedisValueFormat writeFormat) {
+		this.jsonSerializer = jsonSerializer;
+		this.writeFormat = writeFormat;
+	}
+
+	@Override
+	public byte[] serialize(Object value) throws SerializationException {
+		if (value == null) {
+			return EMPTY;
+		}
+		if (writeFormat == RedisValueFormat.JSON) {
+			return jsonSerializer.serialize(value);
+		}
+
+		if (value instanceof String string) {
+			return withHeader(TYPE_STRING, string.getBytes(StandardCharsets.UTF_8));
+		}
+		if (value instanceof Long number) {
+			return withHeader(TYPE_LONG, ByteBuffer.allocate(Long.BYTES).putLong(number).array());
+		}
+		if (value instanceof Integer number) {
+			return withHeader(TYPE_INTEGER, ByteBuffer.allocate(Integer.BYTES).putInt(number).array());
+		}
+		if (value instanceof Boolean flag) {
+			return new byte[] {FORMAT_V1, flag ? TYPE_TRUE : TYPE_FALSE};
+		}
+		return withHeader(TYPE_JSON, jsonSerializer.serialize(value));
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		if (bytes[0] < FORMAT_V1 || bytes[0] > MAX_FORMAT_VERSION) {
+			// 버전 바이트가 없으면 이전 JSON 형식이다.
+			return jsonSerializer.deserialize(bytes);
+		}
+		if (bytes[0] != FORMAT_V1 || bytes.length < 2) {
+			throw new SerializationException("Unsupported Redis value format: " + bytes[0]);
+		}
+
+		byte type = bytes[1];
+		return switch (type) {
+			case TYPE_STRING -> new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_8);
+			case TYPE_LONG -> ByteBuffer.wrap(bytes, 2, Long.BYTES).getLong();
+			case TYPE_INTEGER -> ByteBuffer.wrap(bytes, 2, Integer.BYTES).getInt();
+			case TYPE_TRUE -> Boolean.TRUE;
+			case TYPE_FALSE -> Boolean.FALSE;
+			case TYPE_JSON -> jsonSerializer.deserialize(Arrays.copyOfRange(bytes, 2, bytes.length));
+			default -> throw new SerializationException("Unknown Redis value type: " + type);
+		};
+	}
+
+	private static byte[] withHeader(byte type, byte[] payload) {
+		byte[] bytes = new byte[payload.length + 2];
+		bytes[0] = FORMAT_V1;
+		bytes[1] = type;
+		System.arraycopy(payload, 0, bytes, 2, payload.length);
+		return bytes;
+	}
+}
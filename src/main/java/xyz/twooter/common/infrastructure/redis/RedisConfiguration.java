@@ -1,14 +1,25 @@
 package xyz.twooter.common.infrastructure.redis;
 
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -18,6 +29,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+
 @Configuration
 @EnableRedisRepositories
 public class RedisConfiguration {
@@ -28,13 +45,69 @@ public class RedisConfiguration {
 	@Value("${spring.data.redis.port}")
 	private int redisPort;
 
+	// 쉼표로 구분한 host:port 목록. 값이 있으면 host/port 대신 클러스터로 연결한다.
+	@Value("${spring.data.redis.cluster.nodes:}")
+	private List<String> clusterNodes;
+
+	@Value("${spring.data.redis.cluster.max-redirects:3}")
+	private int clusterMaxRedirects;
+
+	// 슬롯 이동/장애 조치를 MOVED 응답 외에도 이 주기로 확인해 토폴로지를 갱신한다.
+	@Value("${spring.data.redis.cluster.topology-refresh-ms:30000}")
+	private long topologyRefreshMillis;
+
+	// 요청 경로용 클라이언트. 일반 명령은 공유 연결 하나로 보내고, pipeline/트랜잭션용 전용 연결만 풀에서 꺼낸다.
+	@Value("${spring.data.redis.client.command-timeout-ms:2000}")
+	private long commandTimeoutMillis;
+
+	@Value("${spring.data.redis.client.connect-timeout-ms:1000}")
+	private long connectTimeoutMillis;
+
+	@Value("${spring.data.redis.client.auto-reconnect:true}")
+	private boolean autoReconnect;
+
+	@Value("${spring.data.redis.client.pool.max-active:16}")
+	private int poolMaxActive;
+
+	@Value("${spring.data.redis.client.pool.max-idle:8}")
+	private int poolMaxIdle;
+
+	@Value("${spring.data.redis.client.pool.min-idle:0}")
+	private int poolMinIdle;
+
+	// 객체 기반 RedisTemplate 이 값을 쓰는 형식 (json, compact)
+	@Value("${spring.data.redis.value-format:json}")
+	private RedisValueFormat valueWriteFormat;
+
+	// 블로킹 명령(BRPOP, BLMOVE, XREADGROUP BLOCK)용 클라이언트. 대기 시간(3초)보다 명령 타임아웃을 길게 둔다.
+	@Value("${spring.data.redis.blocking.command-timeout-ms:10000}")
+	private long blockingCommandTimeoutMillis;
+
+	@Value("${spring.data.redis.blocking.pool.max-active:4}")
+	private int blockingPoolMaxActive;
+
+	/**
+	 * 요청 경로(조회, 캐시, 토큰 등)에서 쓰는 연결 팩토리.
+	 * spring.data.redis.cluster.nodes 가 있으면 클러스터에 연결하며, 명령은 키의 슬롯을 가진 노드로 바로 보낸다.
+	 */
 	@Bean
+	@Primary
 	public RedisConnectionFactory redisConnectionFactory() {
-		RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration(redisHost, redisPort);
-		// 필요한 경우 비밀번호 설정
-		// redisConfig.setPassword(RedisPassword.of("yourpassword"));
+		return connectionFactory(
+			clientConfiguration(commandTimeoutMillis, poolConfig(poolMaxActive, poolMaxIdle, poolMinIdle)));
+	}
 
-		return new LettuceConnectionFactory(redisConfig);
+	/**
+	 * 블로킹 명령 전용 연결 팩토리.
+	 * 클라이언트(이벤트 루프)와 연결 풀을 요청 경로와 나눠, 큐 리스너가 대기 중이어도 요청 경로의 명령이 뒤에 밀리지 않게 한다.
+	 * 연결을 공유하지 않고 명령마다 풀에서 꺼낸 연결을 쓴다.
+	 */
+	@Bean
+	public RedisConnectionFactory blockingRedisConnectionFactory() {
+		LettuceConnectionFactory connectionFactory = connectionFactory(clientConfiguration(
+			blockingCommandTimeoutMillis, poolConfig(blockingPoolMaxActive, blockingPoolMaxActive, 0)));
+		connectionFactory.setShareNativeConnection(false);
+		return connectionFactory;
 	}
 
 	@Bean
@@ -51,7 +124,9 @@ public class RedisConfiguration {
 			ObjectMapper.DefaultTyping.NON_FINAL,
 			JsonTypeInfo.As.PROPERTY);
 
-		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+		// 이전 JSON 형식도 읽을 수 있으므로 쓰는 형식만 설정으로 바꾼다.
+		RedisSerializer<Object> serializer = new CompactRedisSerializer(
+			new GenericJackson2JsonRedisSerializer(objectMapper), valueWriteFormat);
 
 		// 직렬화 설정
 		template.setKeySerializer(new StringRedisSerializer());
@@ -63,11 +138,70 @@ public class RedisConfiguration {
 	}
 
 	@Bean
-	public RedisTemplate<String, String> redisStringTemplate(RedisConnectionFactory connectionFactory) {
-		RedisTemplate<String, String> template = new RedisTemplate<>();
-		template.setConnectionFactory(connectionFactory);
-		template.setKeySerializer(new StringRedisSerializer());
-		template.setValueSerializer(new StringRedisSerializer());
-		return template;
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
+	@Bean
+	public StringRedisTemplate redisStringTemplate(RedisConnectionFactory connectionFactory) {
+		return new StringRedisTemplate(connectionFactory);
+	}
+
+	@Bean
+	public StringRedisTemplate blockingStringRedisTemplate() {
+		return new StringRedisTemplate(blockingRedisConnectionFactory());
+	}
+
+	private LettuceConnectionFactory connectionFactory(LettuceClientConfiguration clientConfiguration) {
+		if (clusterNodes.isEmpty()) {
+			return new LettuceConnectionFactory(standaloneConfiguration(), clientConfiguration);
+		}
+		return new LettuceConnectionFactory(clusterConfiguration(), clientConfiguration);
+	}
+
+	private RedisClusterConfiguration clusterConfiguration() {
+		RedisClusterConfiguration clusterConfiguration = new RedisClusterConfiguration(clusterNodes);
+		clusterConfiguration.setMaxRedirects(clusterMaxRedirects);
+		return clusterConfiguration;
+	}
+
+	private RedisStandaloneConfiguration standaloneConfiguration() {
+		// 필요한 경우 비밀번호 설정
+		// redisConfig.setPassword(RedisPassword.of("yourpassword"));
+		return new RedisStandaloneConfiguration(redisHost, redisPort);
+	}
+
+	private LettuceClientConfiguration clientConfiguration(long commandTimeout,
+		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig) {
+		ClientOptions.Builder clientOptions = clusterNodes.isEmpty()
+			? ClientOptions.builder()
+			: ClusterClientOptions.builder().topologyRefreshOptions(topologyRefreshOptions());
+		clientOptions.autoReconnect(autoReconnect)
+			// 연결이 끊긴 동안 들어온 명령은 쌓아 두지 않고 바로 실패시킨다.
+			.disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+			.socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(connectTimeoutMillis)).build());
+		return LettucePoolingClientConfiguration.builder()
+			.commandTimeout(Duration.ofMillis(commandTimeout))
+			.clientOptions(clientOptions.build())
+			.poolConfig(poolConfig)
+			.build();
+	}
+
+	private ClusterTopologyRefreshOptions topologyRefreshOptions() {
+		return ClusterTopologyRefreshOptions.builder()
+			.enablePeriodicRefresh(Duration.ofMillis(topologyRefreshMillis))
+			// MOVED/ASK 리다이렉트나 재연결이 일어나면 주기를 기다리지 않고 바로 갱신한다.
+			.enableAllAdaptiveRefreshTriggers()
+			.build();
+	}
+
+	private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig(int maxActive, int maxIdle, int minIdle) {
+		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMaxTotal(maxActive);
+		poolConfig.setMaxIdle(maxIdle);
+		poolConfig.setMinIdle(minIdle);
+		return poolConfig;
 	}
 }
@@ -0,0 +1,43 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Redis 키 이름 규칙.
+ * 클러스터는 키에 {...} (해시 태그)가 있으면 중괄호 안의 값만으로 슬롯을 정한다.
+ * 한 번에 함께 다루는 키(회원별 타임라인/조회자 상태, 한 회원의 리프레시 토큰, 큐와 처리 중 목록)는 같은 태그를 붙여 한 슬롯에 둔다.
+ */
+public final class RedisKeys {
+
+	private RedisKeys() {
+	}
+
+	/**
+	 * 해시 태그를 붙인 키를 만든다. (예: tagged("timeline:user:", 1) -> timeline:user:{1})
+	 */
+	public static String tagged(String prefix, Object tag) {
+		return prefix + "{" + tag + "}";
+	}
+
+	/**
+	 * 키가 속한 클러스터 슬롯 (0 ~ 16383)
+	 */
+	public static int slot(String key) {
+		return SlotHash.getSlot(key);
+	}
+
+	/**
+	 * 키를 슬롯별로 묶는다. 슬롯과 각 슬롯 안의 키는 처음 나온 순서를 유지한다.
+	 */
+	public static Map<Integer, List<String>> groupBySlot(Collection<String> keys) {
+		Map<Integer, List<String>> keysBySlot = new LinkedHashMap<>();
+		keys.forEach(key -> keysBySlot.computeIfAbsent(slot(key), slot -> new ArrayList<>()).add(key));
+		return keysBySlot;
+	}
+}
@@ -2,16 +2,55 @@ package xyz.twooter.common.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import xyz.twooter.common.error.BusinessException;
 import xyz.twooter.common.error.ErrorCode;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Component
@@ -20,6 +59,37 @@ public class RedisUtil {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate redisStringTemplate;
+    // 블로킹 명령(BRPOP, BLMOVE, XREADGROUP BLOCK)은 요청 경로와 분리된 연결로 보냅니다.
+    private final StringRedisTemplate blockingStringRedisTemplate;
+
+    private static final int DEFAULT_SCAN_BATCH_SIZE = 1000;
+
+    // Spring Data Redis 가 XAUTOCLAIM 을 지원하지 않아 스크립트로 호출합니다. (Redis 6.2+)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> XAUTOCLAIM_SCRIPT = new DefaultRedisScript<>(
+        "return redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[4], 'COUNT', ARGV[5])",
+        List.class);
+
+    // Spring Data Redis 의 trim 은 MAXLEN 만 지원해 스크립트로 호출합니다. (Redis 6.2+)
+    private static final DefaultRedisScript<Long> XTRIM_MINID_SCRIPT = new DefaultRedisScript<>(
+        "return redis.call('XTRIM', KEYS[1], 'MINID', '~', ARGV[1])",
+        Long.class);
+
+    // 값이 일치할 때만 키를 삭제합니다. (락을 잡은 쪽만 해제)
+    private static final DefaultRedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0",
+        Long.class);
+
+    // 이미 있는 Set 에서만 멤버를 토글합니다. (키가 없으면 -1, 추가하면 1, 삭제하면 0)
+    private static final DefaultRedisScript<Long> SET_TOGGLE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+            + "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then "
+            + "redis.call('SREM', KEYS[1], ARGV[1]) return 0 end "
+            + "redis.call('SADD', KEYS[1], ARGV[1]) "
+            + "return 1",
+        Long.class);
 
     // ==========================================================
     //      기존 객체(Object) 기반 메서드들 (JWT 등)
@@ -163,17 +233,94 @@ public class RedisUtil {
 
     /**
      * 패턴에 일치하는 모든 키를 조회합니다.
+     * KEYS 대신 SCAN 으로 조금씩 읽으므로 서버를 막지 않지만, 결과를 모두 메모리에 올립니다.
+     * 키가 많을 수 있다면 {@link #scan(String, int)} 을 사용하세요.
      *
      * @param pattern 키 패턴 (예: user:*)
      * @return 일치하는 키 집합
      */
     public Set<String> keys(String pattern) {
+        try (Stream<String> keys = scan(pattern, DEFAULT_SCAN_BATCH_SIZE)) {
+            return keys.collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * 패턴에 일치하는 키를 SCAN 커서로 batchSize 씩 나눠 조회합니다.
+     * 스트림을 소비하는 만큼만 SCAN 을 보내며, 다 쓴 스트림은 반드시 닫아야 합니다. (try-with-resources)
+     * SCAN 특성상 같은 키가 두 번 나올 수 있고, 순회 중에 추가/삭제된 키는 포함되지 않을 수 있습니다.
+     * 클러스터에서는 마스터 노드를 차례로 순회합니다.
+     *
+     * @param pattern   키 패턴 (예: timeline:user:*)
+     * @param batchSize SCAN 한 번에 살펴볼 키 수 (COUNT)
+     * @return 일치하는 키의 지연 스트림
+     */
+    public Stream<String> scan(String pattern, int batchSize) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        if (isClusterMode()) {
+            return scanCluster(pattern, options);
+        }
+        return cursorStream(pattern, () -> redisStringTemplate.scan(options));
+    }
+
+    // 클러스터에서는 SCAN 커서가 노드마다 따로이므로 마스터 노드를 하나씩 순회합니다.
+    private Stream<String> scanCluster(String pattern, ScanOptions options) {
+        RedisClusterConnection connection;
+        List<RedisClusterNode> masters = new ArrayList<>();
         try {
-            return redisTemplate.keys(pattern);
+            connection = redisStringTemplate.getRequiredConnectionFactory().getClusterConnection();
         } catch (Exception e) {
-            log.error("Failed to get keys with pattern: {}", pattern, e);
+            log.error("Failed to scan keys with pattern: {}", pattern, e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+        try {
+            connection.clusterGetNodes().forEach(node -> {
+                if (node.isMaster()) {
+                    masters.add(node);
+                }
+            });
+        } catch (Exception e) {
+            connection.close();
+            log.error("Failed to scan keys with pattern: {}", pattern, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return masters.stream()
+            .flatMap(node -> cursorStream(pattern, () -> connection.scan(node, options)))
+            .map(key -> new String(key, StandardCharsets.UTF_8))
+            .onClose(connection::close);
+    }
+
+    private <T> Stream<T> cursorStream(String pattern, Supplier<Cursor<T>> scanner) {
+        Cursor<T> cursor;
+        try {
+            cursor = scanner.get();
+        } catch (Exception e) {
+            log.error("Failed to scan keys with pattern: {}", pattern, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        // 다음 SCAN 은 순회 도중에 보내지므로, 그때 난 오류도 BusinessException 으로 바꿉니다.
+        Iterator<T> keys = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return cursor.hasNext();
+                } catch (Exception e) {
+                    log.error("Failed to scan keys with pattern: {}", pattern, e);
+                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                }
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return cursor.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(keys, Spliterator.NONNULL), false)
+            .onClose(cursor::close);
     }
 
     /**
@@ -289,6 +436,36 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * 키가 없을 때만 값을 저장하고 만료 시간을 설정합니다. (SET NX EX, 짧은 락 용도)
+     *
+     * @return 저장했으면 true, 이미 키가 있으면 false
+     */
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        try {
+            return Boolean.TRUE.equals(redisStringTemplate.opsForValue().setIfAbsent(key, value, timeout, unit));
+        } catch (Exception e) {
+            log.error("Failed to setIfAbsent for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 값이 expectedValue 와 같을 때만 키를 삭제합니다. (Lua, setIfAbsent 로 잡은 락 해제용)
+     * 락이 만료된 뒤 다른 쪽이 다시 잡은 락은 지우지 않습니다.
+     *
+     * @return 삭제했으면 true
+     */
+    public boolean deleteIfEquals(String key, String expectedValue) {
+        try {
+            Long deleted = redisStringTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(key), expectedValue);
+            return deleted != null && deleted > 0;
+        } catch (Exception e) {
+            log.error("Failed to deleteIfEquals for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * List의 왼쪽에 값을 추가합니다. (큐에 작업 넣기)
      */
@@ -306,13 +483,68 @@ public class RedisUtil {
      */
     public String brPop(String key, long timeout, TimeUnit unit) {
         try {
-            return redisStringTemplate.opsForList().rightPop(key, timeout, unit);
+            return blockingStringRedisTemplate.opsForList().rightPop(key, timeout, unit);
         } catch (Exception e) {
             log.error("Failed to brPop for key: {}", key, e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * source List의 오른쪽에서 값을 꺼내 destination List의 왼쪽에 원자적으로 옮깁니다. (BLMOVE, Blocking)
+     * 꺼낸 작업을 처리 중 목록에 남겨두어 처리 도중 장애가 나도 유실되지 않도록 할 때 사용합니다.
+     */
+    public String blMove(String source, String destination, long timeout, TimeUnit unit) {
+        try {
+            return blockingStringRedisTemplate.opsForList().move(source, RedisListCommands.Direction.RIGHT,
+                destination, RedisListCommands.Direction.LEFT, timeout, unit);
+        } catch (Exception e) {
+            log.error("Failed to blMove from: {} to: {}", source, destination, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * source List의 오른쪽에서 값을 꺼내 destination List의 오른쪽에 원자적으로 옮깁니다. (LMOVE)
+     * 옮긴 값은 destination 에서 가장 먼저 꺼내지므로, 처리 중이던 작업을 큐의 맨 앞으로 되돌릴 때 사용합니다.
+     */
+    public String lMoveToFront(String source, String destination) {
+        try {
+            return redisStringTemplate.opsForList().move(source, RedisListCommands.Direction.RIGHT,
+                destination, RedisListCommands.Direction.RIGHT);
+        } catch (Exception e) {
+            log.error("Failed to lMove from: {} to: {}", source, destination, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * source List의 오른쪽에서 값을 꺼내 destination List의 왼쪽에 원자적으로 옮깁니다. (LMOVE)
+     * LPUSH 로 넣은 것과 같은 위치이므로, 다른 큐에 쌓인 작업을 순서대로 옮겨 담을 때 사용합니다.
+     */
+    public String lMoveToBack(String source, String destination) {
+        try {
+            return redisStringTemplate.opsForList().move(source, RedisListCommands.Direction.RIGHT,
+                destination, RedisListCommands.Direction.LEFT);
+        } catch (Exception e) {
+            log.error("Failed to lMove from: {} to: {}", source, destination, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * List에서 값과 일치하는 요소를 count 개 삭제합니다.
+     */
+    public long lRem(String key, long count, String value) {
+        try {
+            Long removed = redisStringTemplate.opsForList().remove(key, count, value);
+            return removed == null ? 0 : removed;
+        } catch (Exception e) {
+            log.error("Failed to lRem for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Sorted Set에 값을 추가합니다.
      */
@@ -325,6 +557,23 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * Sorted Set에 여러 값을 한 번에 추가합니다.
+     */
+    public void zAddAll(String key, Map<String, Double> scoreByValue) {
+        if (scoreByValue.isEmpty()) {
+            return;
+        }
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            scoreByValue.forEach((value, score) -> tuples.add(ZSetOperations.TypedTuple.of(value, score)));
+            redisStringTemplate.opsForZSet().add(key, tuples);
+        } catch (Exception e) {
+            log.error("Failed to zAddAll for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Sorted Set에서 멤버를 삭제합니다.
      */
@@ -337,6 +586,31 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * Sorted Set에서 점수가 min 이상 max 이하인 값을 조회합니다.
+     */
+    public Set<String> zRangeByScore(String key, double min, double max) {
+        try {
+            return redisStringTemplate.opsForZSet().rangeByScore(key, min, max);
+        } catch (Exception e) {
+            log.error("Failed to zRangeByScore for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Sorted Set에서 점수가 min 이상 max 이하인 값을 삭제합니다.
+     */
+    public long zRemRangeByScore(String key, double min, double max) {
+        try {
+            Long removed = redisStringTemplate.opsForZSet().removeRangeByScore(key, min, max);
+            return removed != null ? removed : 0;
+        } catch (Exception e) {
+            log.error("Failed to zRemRangeByScore for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Sorted Set에서 범위를 기준으로 값을 조회합니다. (최신순)
      */
@@ -349,6 +623,62 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * Sorted Set에서 범위를 기준으로 값과 score를 함께 조회합니다. (최신순)
+     */
+    public Set<ZSetOperations.TypedTuple<String>> zReverseRangeWithScores(String key, long start, long end) {
+        try {
+            return redisStringTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        } catch (Exception e) {
+            log.error("Failed to zReverseRangeWithScores for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * score 가 max 이하인 값을 score 와 함께 높은 순으로 count 개 조회합니다. (ZREVRANGEBYSCORE ... LIMIT 0 count)
+     */
+    public Set<ZSetOperations.TypedTuple<String>> zReverseRangeByScoreWithScores(String key, double max, long count) {
+        try {
+            return redisStringTemplate.opsForZSet()
+                .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, count);
+        } catch (Exception e) {
+            log.error("Failed to zReverseRangeByScoreWithScores for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Sorted Set에서 여러 멤버의 score 를 한 번에 조회합니다. (ZMSCORE, Redis 6.2+)
+     *
+     * @return 멤버 순서대로의 score 목록, 없는 멤버는 null
+     */
+    public List<Double> zMScore(String key, List<String> values) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<Double> scores = redisStringTemplate.opsForZSet().score(key, values.toArray());
+            return scores == null ? new ArrayList<>(Collections.nCopies(values.size(), null)) : scores;
+        } catch (Exception e) {
+            log.error("Failed to zMScore for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Sorted Set의 크기를 조회합니다.
+     */
+    public long zCard(String key) {
+        try {
+            Long size = redisStringTemplate.opsForZSet().zCard(key);
+            return size == null ? 0 : size;
+        } catch (Exception e) {
+            log.error("Failed to zCard for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Sorted Set의 크기를 제한합니다. (Capping)
      */
@@ -360,4 +690,602 @@ public class RedisUtil {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * 여러 Sorted Set에 같은 값을 추가하고 크기를 제한합니다. (Pipeline)
+     * 키 개수와 상관없이 한 번의 왕복으로 ZADD + ZREMRANGEBYRANK 를 전송합니다. (클러스터에서는 노드마다 한 번)
+     */
+    public void zAddAndTrim(List<String> keys, String value, double score, int limit) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        executePipelinedByNode("zAddAndTrim", keys, (connection, nodeKeys) -> nodeKeys.forEach(key -> {
+            connection.zAdd(key, score, value);
+            connection.zRemRange(key, 0, -(long)(limit + 1));
+        }));
+    }
+
+    // ==========================================================
+    //      배치 / 파이프라인 (여러 키를 한 번의 왕복으로)
+    // ==========================================================
+
+    /**
+     * 여러 명령을 한 번의 왕복(Pipeline)으로 전송합니다.
+     * 콜백 안에서 호출한 명령의 반환값은 항상 null 이고, 응답은 파이프라인이 끝난 뒤 전송 순서대로 반환됩니다.
+     *
+     * @param commands 전송할 명령들
+     * @return 명령 순서대로의 응답 목록
+     */
+    public List<Object> executePipelined(Consumer<StringRedisConnection> commands) {
+        return executePipelined("executePipelined", commands);
+    }
+
+    /**
+     * 여러 Sorted Set에 각각의 값들을 한 번에 추가합니다. (Pipeline, ZADD)
+     *
+     * @param scoreByValueByKey 키별 (값, score) 목록
+     */
+    public void zAddAll(Map<String, Map<String, Double>> scoreByValueByKey) {
+        if (scoreByValueByKey.isEmpty()) {
+            return;
+        }
+        executePipelinedByNode("zAddAll", scoreByValueByKey.keySet(), (connection, nodeKeys) -> nodeKeys.forEach(
+            key -> scoreByValueByKey.get(key).forEach((value, score) -> connection.zAdd(key, score, value))));
+    }
+
+    /**
+     * 여러 Sorted Set에서 같은 멤버를 한 번에 삭제합니다. (Pipeline, ZREM)
+     */
+    public void zRemFromKeys(List<String> keys, String... values) {
+        if (keys.isEmpty() || values.length == 0) {
+            return;
+        }
+        executePipelinedByNode("zRemFromKeys", keys,
+            (connection, nodeKeys) -> nodeKeys.forEach(key -> connection.zRem(key, values)));
+    }
+
+    /**
+     * 여러 키의 존재 여부를 한 번에 확인합니다. (Pipeline, EXISTS)
+     *
+     * @return 키 순서대로의 존재 여부
+     */
+    public List<Boolean> hasKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = executePipelined("hasKeys", connection -> keys.forEach(key -> connection.exists(key)));
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+
+    /**
+     * 여러 Sorted Set에서 같은 범위를 한 번에 조회합니다. (Pipeline, ZREVRANGE, 최신순)
+     *
+     * @return 키 순서대로의 조회 결과, 없는 키는 빈 Set
+     */
+    public List<Set<String>> zReverseRange(List<String> keys, long start, long end) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = executePipelined("zReverseRange",
+            connection -> keys.forEach(key -> connection.zRevRange(key, start, end)));
+        return castResults(results);
+    }
+
+    /**
+     * 여러 Sorted Set에서 score 가 max 이하인 값을 score 와 함께 높은 순으로 count 개씩 한 번에 조회합니다.
+     * (Pipeline, ZREVRANGEBYSCORE ... LIMIT 0 count)
+     *
+     * @return 키 순서대로의 조회 결과, 없는 키는 빈 Set
+     */
+    public List<Set<ZSetOperations.TypedTuple<String>>> zReverseRangeByScoreWithScores(List<String> keys, double max,
+        long count) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = executePipelined("zReverseRangeByScoreWithScores",
+            connection -> keys.forEach(key -> connection.zRevRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY,
+                max, 0, count)));
+        return castResults(results);
+    }
+
+    private List<Object> executePipelined(String operation, Consumer<StringRedisConnection> commands) {
+        try {
+            return redisStringTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                commands.accept((StringRedisConnection) connection);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Failed to {} in pipeline", operation, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 키마다 보내는 쓰기 명령을 파이프라인으로 전송합니다.
+     * 클러스터에서는 키를 슬롯 -> 담당 노드 순으로 묶어 노드마다 파이프라인을 따로 보내므로,
+     * 한 노드가 실패하거나 슬롯을 옮기는 중이어도 다른 노드로 가는 명령은 반영됩니다. (실패한 노드가 있으면 마지막에 예외)
+     */
+    private void executePipelinedByNode(String operation, Collection<String> keys,
+        BiConsumer<StringRedisConnection, List<String>> commands) {
+        boolean failed = false;
+        for (List<String> nodeKeys : groupByNode(keys)) {
+            try {
+                executePipelined(operation, connection -> commands.accept(connection, nodeKeys));
+            } catch (BusinessException e) {
+                failed = true;
+            }
+        }
+        if (failed) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Collection<List<String>> groupByNode(Collection<String> keys) {
+        if (!isClusterMode()) {
+            return List.of(new ArrayList<>(keys));
+        }
+        Map<String, List<String>> keysByNode = new LinkedHashMap<>();
+        try (RedisClusterConnection connection = redisStringTemplate.getRequiredConnectionFactory()
+            .getClusterConnection()) {
+            RedisKeys.groupBySlot(keys).forEach((slot, slotKeys) -> keysByNode
+                .computeIfAbsent(connection.clusterGetNodeForSlot(slot).asString(), node -> new ArrayList<>())
+                .addAll(slotKeys));
+        } catch (Exception e) {
+            // 토폴로지를 읽지 못하면 나누지 않고 보냅니다. 명령은 클라이언트가 슬롯에 맞는 노드로 보냅니다.
+            log.warn("Failed to group {} keys by cluster node", keys.size(), e);
+            return List.of(new ArrayList<>(keys));
+        }
+        return keysByNode.values();
+    }
+
+    private boolean isClusterMode() {
+        return redisStringTemplate.getConnectionFactory() instanceof LettuceConnectionFactory connectionFactory
+            && connectionFactory.isClusterAware();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castResults(List<Object> results) {
+        return (List<T>) (List<?>) results;
+    }
+
+    /**
+     * Set에 값을 추가합니다.
+     */
+    public void sAdd(String key, String... values) {
+        try {
+            redisStringTemplate.opsForSet().add(key, values);
+        } catch (Exception e) {
+            log.error("Failed to sAdd for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Set에서 값을 삭제합니다.
+     */
+    public void sRem(String key, String... values) {
+        try {
+            redisStringTemplate.opsForSet().remove(key, (Object[]) values);
+        } catch (Exception e) {
+            log.error("Failed to sRem for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Set에 값이 있는지 확인합니다.
+     */
+    public boolean sIsMember(String key, String value) {
+        try {
+            return Boolean.TRUE.equals(redisStringTemplate.opsForSet().isMember(key, value));
+        } catch (Exception e) {
+            log.error("Failed to sIsMember for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 이미 있는 Set 에서 멤버를 원자적으로 토글하고 만료 시간을 갱신합니다. (Lua)
+     *
+     * @return 추가했으면 1, 삭제했으면 0, 키가 없으면 -1
+     */
+    public long sToggle(String key, String value, long ttlSeconds) {
+        try {
+            Long result = redisStringTemplate.execute(SET_TOGGLE_SCRIPT, List.of(key), value,
+                String.valueOf(ttlSeconds));
+            return result == null ? -1 : result;
+        } catch (Exception e) {
+            log.error("Failed to sToggle for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Set의 모든 값을 조회합니다.
+     */
+    public Set<String> sMembers(String key) {
+        try {
+            return redisStringTemplate.opsForSet().members(key);
+        } catch (Exception e) {
+            log.error("Failed to sMembers for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 키의 값을 한 번에 조회합니다. (MGET)
+     *
+     * @return 키 순서대로의 값 목록, 없는 키는 null
+     */
+    public List<String> mGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<String> values = redisStringTemplate.opsForValue().multiGet(keys);
+            return values == null ? new ArrayList<>(Collections.nCopies(keys.size(), null)) : values;
+        } catch (Exception e) {
+            log.error("Failed to mGet for {} keys", keys.size(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 여러 키-값 쌍을 같은 만료 시간으로 저장합니다. (Pipeline, SET EX)
+     */
+    public void mSetWithExpiration(Map<String, String> valueByKey, long timeout, TimeUnit unit) {
+        if (valueByKey.isEmpty()) {
+            return;
+        }
+        long timeoutSeconds = Math.max(1, unit.toSeconds(timeout));
+        executePipelinedByNode("mSetWithExpiration", valueByKey.keySet(), (connection, nodeKeys) -> nodeKeys
+            .forEach(key -> connection.setEx(key, timeoutSeconds, valueByKey.get(key))));
+    }
+
+    /**
+     * 여러 키를 한 번에 삭제합니다. (String 기반)
+     *
+     * @return 삭제된 키 개수
+     */
+    public long deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        try {
+            Long deleted = redisStringTemplate.delete(keys);
+            return deleted == null ? 0 : deleted;
+        } catch (Exception e) {
+            log.error("Failed to delete {} keys", keys.size(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Hash 필드 값을 원자적으로 증감합니다. (String 기반, HINCRBY)
+     *
+     * @return 증감 후 값
+     */
+    public long hIncrBy(String key, String field, long delta) {
+        try {
+            Long value = redisStringTemplate.opsForHash().increment(key, field, delta);
+            return value == null ? 0 : value;
+        } catch (Exception e) {
+            log.error("Failed to hIncrBy for key: {}, field: {}", key, field, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Hash의 여러 필드 값을 한 번에 조회합니다. (String 기반, HMGET)
+     *
+     * @return 필드 순서대로의 값 목록, 없는 필드는 null
+     */
+    public List<String> hMGet(String key, List<String> fields) {
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<Object> values = redisStringTemplate.opsForHash().multiGet(key, new ArrayList<>(fields));
+            List<String> result = new ArrayList<>(fields.size());
+            for (Object value : values) {
+                result.add(value == null ? null : value.toString());
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to hMGet for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Hash의 모든 필드-값 쌍을 조회합니다. (String 기반)
+     */
+    public Map<String, String> hGetAllAsString(String key) {
+        try {
+            Map<String, String> entries = new HashMap<>();
+            redisStringTemplate.opsForHash().entries(key)
+                .forEach((field, value) -> entries.put(field.toString(), value.toString()));
+            return entries;
+        } catch (Exception e) {
+            log.error("Failed to get all hash entries for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Lua 스크립트를 실행합니다. 여러 명령을 한 번의 왕복으로, 원자적으로 처리할 때 사용합니다.
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        try {
+            return redisStringTemplate.execute(script, keys, (Object[]) args);
+        } catch (Exception e) {
+            log.error("Failed to execute script for keys: {}", keys, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ==========================================================
+    //      Stream 기반 메서드들 (Consumer Group)
+    // ==========================================================
+
+    /**
+     * Stream에 레코드를 추가합니다. (XADD)
+     *
+     * @return 생성된 레코드 ID
+     */
+    public String xAdd(String key, Map<String, String> fields) {
+        try {
+            RecordId recordId = redisStringTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(key));
+            return recordId == null ? null : recordId.getValue();
+        } catch (Exception e) {
+            log.error("Failed to xAdd for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Consumer Group을 생성합니다. Stream이 없으면 함께 생성합니다. (XGROUP CREATE ... MKSTREAM)
+     *
+     * @return 새로 생성했으면 true, 이미 존재하면 false
+     */
+    public boolean xGroupCreate(String key, String group) {
+        try {
+            redisStringTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                .xGroupCreate(key.getBytes(StandardCharsets.UTF_8), group, ReadOffset.from("0"), true));
+            return true;
+        } catch (Exception e) {
+            if (isBusyGroupError(e)) {
+                return false;
+            }
+            log.error("Failed to xGroupCreate for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Consumer Group으로 아직 전달되지 않은 레코드를 읽습니다. (XREADGROUP, Blocking)
+     */
+    public List<MapRecord<String, Object, Object>> xReadGroup(String key, String group, String consumer, long count,
+        Duration block) {
+        try {
+            List<MapRecord<String, Object, Object>> records = blockingStringRedisTemplate.opsForStream().read(
+                org.springframework.data.redis.connection.stream.Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count).block(block),
+                StreamOffset.create(key, ReadOffset.lastConsumed()));
+            return records == null ? List.of() : records;
+        } catch (Exception e) {
+            log.error("Failed to xReadGroup for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 처리가 끝난 레코드를 ack 합니다. (XACK)
+     */
+    public long xAck(String key, String group, String... recordIds) {
+        try {
+            Long acknowledged = redisStringTemplate.opsForStream().acknowledge(key, group, recordIds);
+            return acknowledged == null ? 0 : acknowledged;
+        } catch (Exception e) {
+            log.error("Failed to xAck for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * minIdle 이상 ack 되지 않은 레코드를 주어진 consumer 로 가져옵니다. (XAUTOCLAIM)
+     */
+    public List<MapRecord<String, Object, Object>> xAutoClaim(String key, String group, String consumer,
+        Duration minIdle, long count) {
+        try {
+            List<?> result = redisStringTemplate.execute(XAUTOCLAIM_SCRIPT, List.of(key), group, consumer,
+                String.valueOf(minIdle.toMillis()), "0-0", String.valueOf(count));
+            if (result == null || result.size() < 2 || !(result.get(1) instanceof List<?> entries)) {
+                return List.of();
+            }
+
+            List<MapRecord<String, Object, Object>> records = new ArrayList<>();
+            for (Object entry : entries) {
+                // 이미 삭제된 레코드는 필드 없이 반환됩니다.
+                if (!(entry instanceof List<?> idAndFields) || idAndFields.size() < 2
+                    || !(idAndFields.get(1) instanceof List<?> fields)) {
+                    continue;
+                }
+                Map<Object, Object> values = new HashMap<>();
+                for (int i = 0; i + 1 < fields.size(); i += 2) {
+                    values.put(fields.get(i), fields.get(i + 1));
+                }
+                records.add(StreamRecords.newRecord().in(key).withId(String.valueOf(idAndFields.get(0))).ofMap(values));
+            }
+            return records;
+        } catch (Exception e) {
+            log.error("Failed to xAutoClaim for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * ack 되지 않은 레코드의 상세 정보(경과 시간, 전달 횟수)를 조회합니다. (XPENDING)
+     */
+    public PendingMessages xPending(String key, String group, long count) {
+        try {
+            return redisStringTemplate.opsForStream().pending(key, group, Range.unbounded(), count);
+        } catch (Exception e) {
+            log.error("Failed to xPending for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * ack 되지 않은 레코드 수를 조회합니다. (XPENDING 요약, Consumer Group 의 lag)
+     */
+    public long xPendingCount(String key, String group) {
+        try {
+            PendingMessagesSummary summary = redisStringTemplate.opsForStream().pending(key, group);
+            return summary == null ? 0 : summary.getTotalPendingMessages();
+        } catch (Exception e) {
+            log.error("Failed to xPendingCount for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * ID로 단일 레코드를 조회합니다. (XRANGE id id)
+     */
+    public MapRecord<String, Object, Object> xGet(String key, String recordId) {
+        try {
+            List<MapRecord<String, Object, Object>> records = redisStringTemplate.opsForStream()
+                .range(key, Range.closed(recordId, recordId));
+            return records == null || records.isEmpty() ? null : records.get(0);
+        } catch (Exception e) {
+            log.error("Failed to xGet for key: {}, id: {}", key, recordId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 가장 오래된 pending 레코드의 ID를 조회합니다. (XPENDING 요약)
+     *
+     * @return pending 레코드가 없으면 null
+     */
+    public String xOldestPendingId(String key, String group) {
+        try {
+            PendingMessagesSummary summary = redisStringTemplate.opsForStream().pending(key, group);
+            return summary == null || summary.getTotalPendingMessages() == 0 ? null : summary.minMessageId();
+        } catch (Exception e) {
+            log.error("Failed to xOldestPendingId for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Consumer Group에 마지막으로 전달된 레코드의 ID를 조회합니다. (XINFO GROUPS)
+     *
+     * @return 그룹이 없으면 null
+     */
+    public String xLastDeliveredId(String key, String group) {
+        try {
+            StreamInfo.XInfoGroups groups = redisStringTemplate.opsForStream().groups(key);
+            return groups.stream()
+                .filter(info -> group.equals(info.groupName()))
+                .map(StreamInfo.XInfoGroup::lastDeliveredId)
+                .findFirst()
+                .orElse(null);
+        } catch (Exception e) {
+            log.error("Failed to xLastDeliveredId for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Consumer Group의 consumer 목록(pending 수, 유휴 시간)을 조회합니다. (XINFO CONSUMERS)
+     */
+    public List<StreamInfo.XInfoConsumer> xConsumers(String key, String group) {
+        try {
+            return redisStringTemplate.opsForStream().consumers(key, group).stream().toList();
+        } catch (Exception e) {
+            log.error("Failed to xConsumers for key: {}, group: {}", key, group, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Consumer Group에서 consumer 를 삭제합니다. (XGROUP DELCONSUMER)
+     * 삭제한 consumer 의 pending 레코드는 재전달되지 않으므로, pending 이 없을 때만 호출해야 합니다.
+     */
+    public void xGroupDelConsumer(String key, String group, String consumer) {
+        try {
+            redisStringTemplate.opsForStream().deleteConsumer(key,
+                org.springframework.data.redis.connection.stream.Consumer.from(group, consumer));
+        } catch (Exception e) {
+            log.error("Failed to xGroupDelConsumer for key: {}, group: {}, consumer: {}", key, group, consumer, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Stream에서 ID가 minId 보다 작은 레코드를 대략적으로 삭제합니다. (XTRIM MINID ~)
+     *
+     * @return 삭제된 레코드 수
+     */
+    public long xTrimMinId(String key, String minId) {
+        try {
+            Long trimmed = redisStringTemplate.execute(XTRIM_MINID_SCRIPT, List.of(key), minId);
+            return trimmed == null ? 0 : trimmed;
+        } catch (Exception e) {
+            log.error("Failed to xTrimMinId for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Stream의 길이를 조회합니다. (XLEN)
+     */
+    public long xLen(String key) {
+        try {
+            Long size = redisStringTemplate.opsForStream().size(key);
+            return size == null ? 0 : size;
+        } catch (Exception e) {
+            log.error("Failed to xLen for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Stream의 길이를 대략 maxLength 로 제한합니다. (XTRIM MAXLEN ~)
+     * 아직 ack 되지 않은 레코드도 삭제될 수 있으므로, Consumer Group 으로 읽는 Stream 에는 xTrimMinId 를 사용합니다.
+     */
+    public void xTrim(String key, long maxLength) {
+        try {
+            redisStringTemplate.opsForStream().trim(key, maxLength, true);
+        } catch (Exception e) {
+            log.error("Failed to xTrim for key: {}", key, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ==========================================================
+    //      Pub/Sub
+    // ==========================================================
+
+    /**
+     * 채널에 메시지를 발행합니다.
+     */
+    public void publish(String channel, String message) {
+        try {
+            redisStringTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.error("Failed to publish to channel: {}", channel, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private boolean isBusyGroupError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
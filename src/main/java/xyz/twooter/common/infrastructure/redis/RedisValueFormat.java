@@ -0,0 +1,13 @@
+package xyz.twooter.common.infrastructure.redis;
+
+/**
+ * 객체 기반 RedisTemplate 이 값을 쓰는 형식. 읽을 때는 형식과 상관없이 둘 다 읽는다.
+ */
+public enum RedisValueFormat {
+
+	// 클래스 이름을 포함한 JSON (이전 형식)
+	JSON,
+
+	// 버전 바이트 + 타입 태그를 붙인 바이너리, 알려진 타입은 Jackson 없이 쓴다.
+	COMPACT
+}
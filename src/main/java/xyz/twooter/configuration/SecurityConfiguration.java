@@ -1,5 +1,7 @@
 package xyz.twooter.configuration;
 
+import java.util.Arrays;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,14 +13,20 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import lombok.RequiredArgsConstructor;
 import xyz.twooter.auth.application.TokenService;
 import xyz.twooter.auth.infrastructure.jwt.CustomAuthenticationEntryPoint;
 import xyz.twooter.auth.infrastructure.jwt.JWTFilter;
 import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.auth.infrastructure.password.BoundedPasswordEncoder;
+import xyz.twooter.auth.infrastructure.password.PasswordHashExecutor;
 import xyz.twooter.auth.infrastructure.usersdetails.CustomUserDetailsService;
 import xyz.twooter.common.filter.ExceptionTranslationFilter;
 
@@ -27,6 +35,11 @@ import xyz.twooter.common.filter.ExceptionTranslationFilter;
 @RequiredArgsConstructor
 public class SecurityConfiguration {
 
+	// 비로그인 사용자도 조회할 수 있는 GET 경로
+	private static final String[] PUBLIC_READ_PATHS = {
+		"/api/posts/*", "/api/timeline/user/*", "/api/members/*/followers", "/api/members/*/followings"
+	};
+
 	private final JWTUtil jwtUtil;
 	private final CustomUserDetailsService userDetailsService;
 	private final CustomAuthenticationEntryPoint authenticationEntryPoint;
@@ -37,9 +50,10 @@ public class SecurityConfiguration {
 		return configuration.getAuthenticationManager();
 	}
 
+	// 해시는 요청 스레드가 아닌 전용 스레드 풀에서 실행한다.
 	@Bean
-	public BCryptPasswordEncoder bCryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordHashExecutor passwordHashExecutor) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor);
 	}
 
 	@Bean
@@ -54,8 +68,7 @@ public class SecurityConfiguration {
 			// 경로별 인가 설정
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers("/h2-console/**", "/api/auth/**", "/docs/**").permitAll()
-				.requestMatchers(HttpMethod.GET, "/api/posts/*", "/api/timeline/user/*").permitAll()
-				.requestMatchers(HttpMethod.GET, "/api/members/*/followers", "/api/members/*/followings").permitAll()
+				.requestMatchers(HttpMethod.GET, PUBLIC_READ_PATHS).permitAll()
 				.anyRequest().authenticated()
 			)
 			.headers(headers -> headers
@@ -67,9 +80,16 @@ public class SecurityConfiguration {
 			)
 			.exceptionHandling(e -> e.authenticationEntryPoint(authenticationEntryPoint))
 			// JWT 필터 추가
-			.addFilterBefore(new JWTFilter(jwtUtil, userDetailsService, tokenService),
+			.addFilterBefore(new JWTFilter(jwtUtil, userDetailsService, tokenService, publicReadMatcher()),
 				UsernamePasswordAuthenticationFilter.class)
 			.addFilterBefore(new ExceptionTranslationFilter(), JWTFilter.class)
 			.build();
 	}
+
+	// 공개 조회 경로는 인증 정보를 실제로 사용할 때까지 토큰 검증을 미룬다.
+	private RequestMatcher publicReadMatcher() {
+		return new OrRequestMatcher(Arrays.stream(PUBLIC_READ_PATHS)
+			.map(path -> (RequestMatcher)AntPathRequestMatcher.antMatcher(HttpMethod.GET, path))
+			.toList());
+	}
 }
@@ -2,14 +2,13 @@ package xyz.twooter.media.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import xyz.twooter.common.infrastructure.id.SnowflakeId;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "media")
@@ -18,7 +17,7 @@ import lombok.NoArgsConstructor;
 public class Media {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SnowflakeId
 	private Long id;
 
 	@Column(nullable = false, length = 1000)
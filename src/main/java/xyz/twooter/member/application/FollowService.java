@@ -8,14 +8,10 @@ import java.util.Objects;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import xyz.twooter.auth.domain.exception.IllegalMemberIdException;
 import xyz.twooter.common.infrastructure.pagination.CursorUtil;
-import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.member.domain.Follow;
 import xyz.twooter.member.domain.Member;
 import xyz.twooter.member.domain.exception.AlreadyFollowingException;
@@ -26,6 +22,7 @@ import xyz.twooter.member.presentation.dto.response.FollowResponse;
 import xyz.twooter.member.presentation.dto.response.MemberProfileWithRelation;
 import xyz.twooter.member.presentation.dto.response.MemberWithRelationResponse;
 import xyz.twooter.member.presentation.dto.response.UnFollowResponse;
+import xyz.twooter.post.application.TimelineFanoutPublisher;
 import xyz.twooter.post.application.dto.TimelineFanoutMessage;
 
 @Service
@@ -37,9 +34,7 @@ public class FollowService {
 	private final MemberRepository memberRepository;
 	private final FollowRepository followRepository;
 
-	private final RedisUtil redisUtil;
-	private final ObjectMapper objectMapper;
-	private static final String TIMELINE_QUEUE_KEY = "queue:timeline:fanout";
+	private final TimelineFanoutPublisher timelineFanoutPublisher;
 
 	@Transactional
 	public FollowResponse followMember(Member member, Long targetMemberId) {
@@ -56,7 +51,7 @@ public class FollowService {
 
 		Follow savedFollow = followRepository.save(follow);
 
-		publishFanoutMessage(TimelineFanoutMessage.ofFollowCreation(followerId, followeeId));
+		timelineFanoutPublisher.publish(TimelineFanoutMessage.ofFollowCreation(followerId, followeeId));
 
 		return FollowResponse.from(savedFollow);
 	}
@@ -66,7 +61,7 @@ public class FollowService {
 		validateTargetMemberExists(targetMemberId);
 
 		followRepository.deleteByFollowerIdAndFolloweeId(member.getId(), targetMemberId);
-		publishFanoutMessage(TimelineFanoutMessage.ofFollowDeletion(member.getId(), targetMemberId));
+		timelineFanoutPublisher.publish(TimelineFanoutMessage.ofFollowDeletion(member.getId(), targetMemberId));
 
 		return UnFollowResponse.of(targetMemberId);
 	}
@@ -109,17 +104,6 @@ public class FollowService {
 		return MemberWithRelationResponse.of(followings, limit);
 	}
 
-	// 공통 메시지 발행 헬퍼 메서드
-	private void publishFanoutMessage(TimelineFanoutMessage message) {
-		try {
-			String messageJson = objectMapper.writeValueAsString(message);
-			redisUtil.lPush(TIMELINE_QUEUE_KEY, messageJson);
-			log.info("Published fan-out message: {}", messageJson);
-		} catch (JsonProcessingException e) {
-			log.error("Failed to publish fan-out message: {}", message.toString(), e);
-		}
-	}
-
 	private void validateTargetMemberExists(Long memberId) {
 		if (Objects.isNull(memberId) || !memberRepository.existsById(memberId)) {
 			throw new IllegalMemberIdException();
@@ -2,7 +2,6 @@ package xyz.twooter.member.application;
 
 import java.util.Objects;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,13 +20,14 @@ import xyz.twooter.member.presentation.dto.response.MemberSummaryResponse;
 public class MemberService {
 
 	private final MemberRepository memberRepository;
-	private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
+	/**
+	 * 회원을 생성한다. 비밀번호 해시는 트랜잭션 밖에서 미리 계산해 전달한다.
+	 */
 	@Transactional
-	public MemberSummaryResponse createMember(SignUpRequest request) {
+	public MemberSummaryResponse createMember(SignUpRequest request, String encodedPassword) {
 		checkDuplicateEmail(request.getEmail());
-		Member member = Member.createDefaultMember(request.getEmail(),
-			bCryptPasswordEncoder.encode(request.getPassword()), request.getHandle());
+		Member member = Member.createDefaultMember(request.getEmail(), encodedPassword, request.getHandle());
 		memberRepository.save(member);
 		return MemberSummaryResponse.of(member);
 	}
@@ -38,6 +38,12 @@ public class MemberService {
 		return MemberSummaryResponse.of(member);
 	}
 
+	public Long findMemberIdByHandle(String handle) {
+		return memberRepository.findByHandle(handle)
+			.map(Member::getId)
+			.orElseThrow(MemberNotFoundException::new);
+	}
+
 	public MemberSummaryResponse createMemberSummary(Member member) {
 		Member foundMember = memberRepository.findById(member.getId())
 			.orElseThrow(IllegalMemberIdException::new);
@@ -4,8 +4,6 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
@@ -16,6 +14,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import xyz.twooter.common.entity.BaseTimeEntity;
 import xyz.twooter.common.error.InvalidValueException;
+import xyz.twooter.common.infrastructure.id.SnowflakeId;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "member")
@@ -36,7 +35,7 @@ public class Member extends BaseTimeEntity {
 	public static final String DEFAULT_AVATAR_BASE = "https://avatar.iran.liara.run/username?username=";
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SnowflakeId
 	private Long id;
 
 	@Email
@@ -3,6 +3,7 @@ package xyz.twooter.member.domain.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import xyz.twooter.member.domain.repository.projection.FollowerIdPage;
 import xyz.twooter.member.domain.repository.projection.MemberProfileProjection;
 
 public interface FollowCustomRepository {
@@ -22,4 +23,10 @@ public interface FollowCustomRepository {
 		Long cursorId, // null이 될 수 있음 (첫 페이지)
 		int limit
 	);
+
+	/**
+	 * followee 의 팔로워 ID 를 follow.id 오름차순으로 afterFollowId 다음부터 size 개 조회한다.
+	 * (followee_id 인덱스가 PK 를 포함하므로 인덱스 범위 스캔으로 처리된다)
+	 */
+	FollowerIdPage findFollowerIdPage(Long followeeId, long afterFollowId, int size);
 }
@@ -16,6 +16,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long>, FollowCus
 
 	List<Follow> findByFolloweeIdIn(List<Long> followeeIds);
 
-	@Query("SELECT f.followerId FROM Follow f WHERE f.followeeId = :followeeId")
-	List<Long> findAllFollowerIdsByFolloweeId(@Param("followeeId") Long followeeId);
+	long countByFolloweeId(Long followeeId);
+
+	@Query("SELECT f.followeeId FROM Follow f WHERE f.followerId = :followerId AND f.followeeId IN :followeeIds")
+	List<Long> findFolloweeIdsByFollowerIdAndFolloweeIdIn(@Param("followerId") Long followerId,
+		@Param("followeeIds") List<Long> followeeIds);
 }
@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
@@ -16,6 +17,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import xyz.twooter.member.domain.QFollow;
 import xyz.twooter.member.domain.QMember;
+import xyz.twooter.member.domain.repository.projection.FollowerIdPage;
 import xyz.twooter.member.domain.repository.projection.MemberProfileProjection;
 
 @RequiredArgsConstructor
@@ -46,6 +48,30 @@ public class FollowRepositoryImpl implements FollowCustomRepository {
 		);
 	}
 
+	@Override
+	public FollowerIdPage findFollowerIdPage(Long followeeId, long afterFollowId, int size) {
+		List<Tuple> rows = queryFactory
+			.select(follow.id, follow.followerId)
+			.from(follow)
+			.where(
+				follow.followeeId.eq(followeeId),
+				follow.id.gt(afterFollowId)
+			)
+			.orderBy(follow.id.asc())
+			.limit(size)
+			.fetch();
+
+		if (rows.isEmpty()) {
+			return FollowerIdPage.empty(afterFollowId);
+		}
+
+		long[] followerIds = new long[rows.size()];
+		for (int i = 0; i < rows.size(); i++) {
+			followerIds[i] = rows.get(i).get(follow.followerId);
+		}
+		return new FollowerIdPage(followerIds, rows.get(rows.size() - 1).get(follow.id));
+	}
+
 	private List<MemberProfileProjection> findMembersWithFollowRelation(
 		FollowRelationType type, Long memberId, Long viewerId,
 		LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
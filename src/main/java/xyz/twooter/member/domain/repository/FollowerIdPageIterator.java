@@ -0,0 +1,54 @@
+package xyz.twooter.member.domain.repository;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import xyz.twooter.member.domain.repository.projection.FollowerIdPage;
+
+/**
+ * 특정 사용자의 팔로워 ID 를 keyset 페이지 단위로 순회한다.
+ * 한 번에 한 페이지만 메모리에 올리므로 팔로워 수와 무관하게 사용하는 힙이 pageSize 로 제한되고,
+ * 페이지마다 짧은 쿼리를 실행하므로 전체 fan-out 동안 ResultSet 을 열어 두지 않는다.
+ */
+public class FollowerIdPageIterator implements Iterator<long[]> {
+
+	private final FollowRepository followRepository;
+	private final Long followeeId;
+	private final int pageSize;
+
+	private long lastFollowId = 0;
+	private FollowerIdPage nextPage;
+	private boolean exhausted = false;
+
+	public FollowerIdPageIterator(FollowRepository followRepository, Long followeeId, int pageSize) {
+		this.followRepository = followRepository;
+		this.followeeId = followeeId;
+		this.pageSize = Math.max(1, pageSize);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (nextPage == null && !exhausted) {
+			FollowerIdPage page = followRepository.findFollowerIdPage(followeeId, lastFollowId, pageSize);
+			if (page == null || page.isEmpty()) {
+				exhausted = true;
+			} else {
+				nextPage = page;
+				lastFollowId = page.lastFollowId();
+				// 요청한 크기보다 작게 왔다면 마지막 페이지이므로 다음 조회를 생략한다.
+				exhausted = page.size() < pageSize;
+			}
+		}
+		return nextPage != null;
+	}
+
+	@Override
+	public long[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		long[] followerIds = nextPage.followerIds();
+		nextPage = null;
+		return followerIds;
+	}
+}
@@ -0,0 +1,22 @@
+package xyz.twooter.member.domain.repository.projection;
+
+/**
+ * 팔로워 ID 를 follow.id 기준 keyset 으로 잘라 읽은 한 페이지
+ *
+ * @param followerIds  팔로워 ID 목록 (박싱하지 않은 long 배열)
+ * @param lastFollowId 이 페이지의 마지막 follow.id, 다음 페이지 조회의 기준점
+ */
+public record FollowerIdPage(long[] followerIds, long lastFollowId) {
+
+	public static FollowerIdPage empty(long afterFollowId) {
+		return new FollowerIdPage(new long[0], afterFollowId);
+	}
+
+	public boolean isEmpty() {
+		return followerIds.length == 0;
+	}
+
+	public int size() {
+		return followerIds.length;
+	}
+}
@@ -0,0 +1,130 @@
+package xyz.twooter.post.application;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.domain.repository.PostLikeCountRepository;
+
+/**
+ * write-behind 모드에서 Redis 에 쌓인 좋아요 수 변화량을 주기적으로 post.like_count 에 반영한다.
+ * 여러 노드 중 락을 잡은 한 노드만 반영한다. 변화량 Hash 를 반영용 키로 통째로 옮긴 뒤 반영하므로
+ * 그 사이에 들어온 변화량은 새 Hash 에 쌓이고, 반영에 실패하면 다음 반영에서 옮겨 둔 값만 다시 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountFlusher implements SmartLifecycle {
+
+	private static final String FLUSH_LOCK_KEY = "post:like-count:flush-lock";
+	private static final long FLUSH_LOCK_TTL_SECONDS = 30;
+	// 반영용 키가 비어 있을 때만 변화량 Hash 를 옮긴다. 남아 있으면 이전 반영이 끝나지 않은 것이므로 그것부터 처리한다.
+	private static final DefaultRedisScript<Long> MOVE_DELTAS_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then "
+			+ "redis.call('RENAME', KEYS[1], KEYS[2]) end "
+			+ "return redis.call('EXISTS', KEYS[2])",
+		Long.class);
+
+	private final RedisUtil redisUtil;
+	private final PostLikeCountRepository postLikeCountRepository;
+	private final PostViewCache postViewCache;
+
+	private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor();
+	private final String workerId = UUID.randomUUID().toString();
+	private volatile boolean isRunning = false;
+
+	@Value("${spring.post.like-count.write-behind:false}")
+	private boolean writeBehindEnabled;
+
+	@Value("${spring.post.like-count.flush-interval-ms:1000}")
+	private long flushIntervalMillis;
+
+	@Override
+	public void start() {
+		if (writeBehindEnabled) {
+			log.info("Starting LikeCountFlusher with interval {}ms", flushIntervalMillis);
+			flushScheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+		this.isRunning = true;
+	}
+
+	@Override
+	public void stop() {
+		this.isRunning = false;
+		flushScheduler.shutdown();
+		try {
+			if (!flushScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+				flushScheduler.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			flushScheduler.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		if (writeBehindEnabled) {
+			// 종료 직전까지 쌓인 변화량을 반영한다.
+			flushSafely();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.isRunning;
+	}
+
+	/**
+	 * 쌓인 변화량을 DB 에 반영한다. 다른 노드가 반영 중이면 건너뛴다.
+	 *
+	 * @return 반영한 포스트 수
+	 */
+	public int flush() {
+		if (!redisUtil.setIfAbsent(FLUSH_LOCK_KEY, workerId, FLUSH_LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
+			return 0;
+		}
+		try {
+			Long hasSnapshot = redisUtil.execute(MOVE_DELTAS_SCRIPT,
+				List.of(LikeCounter.LIKE_COUNT_DELTA_KEY, LikeCounter.LIKE_COUNT_FLUSHING_KEY));
+			if (hasSnapshot == null || hasSnapshot == 0) {
+				return 0;
+			}
+
+			Map<Long, Long> deltaByPostId = new HashMap<>();
+			redisUtil.hGetAllAsString(LikeCounter.LIKE_COUNT_FLUSHING_KEY).forEach((postId, delta) -> {
+				long value = Long.parseLong(delta);
+				if (value != 0) {
+					deltaByPostId.put(Long.valueOf(postId), value);
+				}
+			});
+			if (!deltaByPostId.isEmpty()) {
+				postLikeCountRepository.addLikeCounts(deltaByPostId);
+			}
+			redisUtil.delete(LikeCounter.LIKE_COUNT_FLUSHING_KEY);
+			postViewCache.evict(deltaByPostId.keySet().toArray(Long[]::new));
+			log.debug("Flushed like count deltas for {} posts", deltaByPostId.size());
+			return deltaByPostId.size();
+		} finally {
+			// 반영이 락 TTL 보다 오래 걸려 다른 노드가 락을 다시 잡았다면 그 락은 지우지 않는다.
+			redisUtil.deleteIfEquals(FLUSH_LOCK_KEY, workerId);
+		}
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("Failed to flush like count deltas", e);
+		}
+	}
+}
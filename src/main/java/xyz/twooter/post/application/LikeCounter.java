@@ -0,0 +1,128 @@
+package xyz.twooter.post.application;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.domain.repository.PostLikeCountRepository;
+import xyz.twooter.post.domain.repository.PostLikeRepository;
+
+/**
+ * 포스트 좋아요 수 증감
+ * write-behind 모드에서는 요청 트랜잭션에서 post row 를 갱신하지 않고 Redis Hash 에 변화량만 쌓는다.
+ * 쌓인 변화량은 LikeCountFlusher 가 주기적으로 DB 에 반영하고, 조회 시에는 아직 반영되지 않은 값을 더해 보여준다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCounter {
+
+	public static final String LIKE_COUNT_DELTA_KEY = "post:like-count:delta";
+	// LikeCountFlusher 가 반영 중인 변화량. 변화량 키 이름을 해시 태그로 붙여 클러스터에서도 같은 슬롯에 둔다.
+	public static final String LIKE_COUNT_FLUSHING_KEY = "{" + LIKE_COUNT_DELTA_KEY + "}:flushing";
+
+	private final PostLikeRepository postLikeRepository;
+	private final PostLikeCountRepository postLikeCountRepository;
+	private final PostViewCache postViewCache;
+	private final RedisUtil redisUtil;
+
+	@Value("${spring.post.like-count.write-behind:false}")
+	private boolean writeBehindEnabled;
+
+	public void increase(Long postId) {
+		if (!writeBehindEnabled) {
+			postLikeRepository.incrementLikeCount(postId);
+			postViewCache.evict(postId);
+			return;
+		}
+		afterCommit(() -> addDelta(postId, 1));
+	}
+
+	public void decrease(Long postId) {
+		if (!writeBehindEnabled) {
+			postLikeRepository.decrementLikeCount(postId);
+			postViewCache.evict(postId);
+			return;
+		}
+		afterCommit(() -> addDelta(postId, -1));
+	}
+
+	/**
+	 * 여러 포스트의 좋아요 수를 한 번에 증감한다. (모아서 반영한 좋아요 변경용)
+	 */
+	public void addAll(Map<Long, Long> deltaByPostId) {
+		if (deltaByPostId.isEmpty()) {
+			return;
+		}
+		if (!writeBehindEnabled) {
+			postLikeCountRepository.addLikeCounts(deltaByPostId);
+			postViewCache.evict(deltaByPostId.keySet().toArray(Long[]::new));
+			return;
+		}
+		afterCommit(() -> deltaByPostId.forEach(this::addDelta));
+	}
+
+	/**
+	 * 아직 DB 에 반영되지 않은 좋아요 수 변화량을 조회한다. 변화량이 없는 포스트는 결과에 포함되지 않는다.
+	 * 반영 중으로 옮겨진 변화량도 DB 에 커밋되기 전까지는 함께 더한다.
+	 */
+	public Map<Long, Long> findPendingDeltas(Collection<Long> postIds) {
+		Map<Long, Long> deltaByPostId = new HashMap<>();
+		if (!writeBehindEnabled || postIds.isEmpty()) {
+			return deltaByPostId;
+		}
+
+		List<Long> distinctPostIds = postIds.stream().distinct().toList();
+		List<String> fields = distinctPostIds.stream().map(String::valueOf).toList();
+		try {
+			for (String key : List.of(LIKE_COUNT_DELTA_KEY, LIKE_COUNT_FLUSHING_KEY)) {
+				List<String> deltas = redisUtil.hMGet(key, fields);
+				for (int i = 0; i < distinctPostIds.size(); i++) {
+					if (deltas.get(i) != null) {
+						deltaByPostId.merge(distinctPostIds.get(i), Long.parseLong(deltas.get(i)), Long::sum);
+					}
+				}
+			}
+		} catch (BusinessException e) {
+			// 변화량을 읽지 못하면 DB 에 반영된 값만 보여준다.
+			log.warn("Failed to read pending like count deltas", e);
+		}
+		return deltaByPostId;
+	}
+
+	public long findPendingDelta(Long postId) {
+		return findPendingDeltas(List.of(postId)).getOrDefault(postId, 0L);
+	}
+
+	private void addDelta(Long postId, long delta) {
+		try {
+			redisUtil.hIncrBy(LIKE_COUNT_DELTA_KEY, String.valueOf(postId), delta);
+		} catch (BusinessException e) {
+			log.error("Failed to buffer like count delta. postId: {}, delta: {}", postId, delta, e);
+		}
+	}
+
+	// 롤백된 좋아요가 집계되지 않도록 커밋 이후에 변화량을 쌓는다.
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
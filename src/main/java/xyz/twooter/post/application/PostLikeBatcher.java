@@ -0,0 +1,218 @@
+package xyz.twooter.post.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.post.application.dto.PostLikeOperation;
+import xyz.twooter.post.domain.repository.PostLikeBatchRepository;
+import xyz.twooter.post.domain.repository.projection.PostLikeKey;
+
+/**
+ * 좋아요 추가/취소를 메모리 대기열에 모았다가 몇 ms 마다, 또는 batch-size 만큼 모이면 한 트랜잭션으로 반영한다.
+ * 대기열이 가득 차면 submit 이 false 를 반환해 호출 측이 요청을 거절하도록 하고, 종료 시에는 남은 변경을 모두 반영한다.
+ * 재시도해도 반영하지 못한 변경은 버리고, 이미 토글해 둔 Redis 좋아요 상태를 되돌려 DB 와 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostLikeBatcher implements SmartLifecycle {
+
+	private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+	private final PostLikeBatchRepository postLikeBatchRepository;
+	private final LikeCounter likeCounter;
+	private final PostLikeStateStore postLikeStateStore;
+	private final ViewerStateService viewerStateService;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${spring.post.like-batch.enabled:false}")
+	private boolean enabled;
+
+	@Value("${spring.post.like-batch.capacity:10000}")
+	private int capacity;
+
+	@Value("${spring.post.like-batch.size:500}")
+	private int batchSize;
+
+	@Value("${spring.post.like-batch.flush-interval-ms:5}")
+	private long flushIntervalMillis;
+
+	private BlockingQueue<PostLikeOperation> queue;
+	private Thread flushThread;
+	private volatile boolean accepting = false;
+	private volatile boolean isRunning = false;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 변경을 대기열에 넣는다.
+	 *
+	 * @return 대기열이 가득 찼거나 종료 중이면 false
+	 */
+	public boolean submit(PostLikeOperation operation) {
+		return accepting && queue.offer(operation);
+	}
+
+	@Override
+	public void start() {
+		if (enabled) {
+			log.info("Starting PostLikeBatcher (capacity: {}, batch size: {})", capacity, batchSize);
+			this.queue = new ArrayBlockingQueue<>(capacity);
+			this.accepting = true;
+			this.flushThread = new Thread(this::processQueue, "post-like-batcher");
+			this.flushThread.start();
+		}
+		this.isRunning = true;
+	}
+
+	@Override
+	public void stop() {
+		this.accepting = false;
+		this.isRunning = false;
+		if (this.flushThread != null) {
+			try {
+				// 새 요청은 받지 않고, 대기열에 남은 변경을 모두 반영할 때까지 기다린다.
+				this.flushThread.join(TimeUnit.SECONDS.toMillis(30));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (!queue.isEmpty()) {
+				log.error("PostLikeBatcher stopped with {} unflushed operations", queue.size());
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.isRunning;
+	}
+
+	private void processQueue() {
+		while (isRunning || !queue.isEmpty()) {
+			try {
+				List<PostLikeOperation> batch = collectBatch();
+				if (!batch.isEmpty()) {
+					flushWithRetry(batch);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		log.info("PostLikeBatcher drained.");
+	}
+
+	// 첫 변경이 들어온 뒤 flush-interval-ms 동안, 또는 batch-size 가 찰 때까지 모은다.
+	private List<PostLikeOperation> collectBatch() throws InterruptedException {
+		List<PostLikeOperation> batch = new ArrayList<>(batchSize);
+		PostLikeOperation first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return batch;
+		}
+		batch.add(first);
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= batchSize || remaining <= 0) {
+				break;
+			}
+			PostLikeOperation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+		}
+		return batch;
+	}
+
+	void flushWithRetry(List<PostLikeOperation> batch) {
+		for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+			try {
+				flush(batch);
+				return;
+			} catch (Exception e) {
+				log.warn("Failed to flush {} like operations (attempt {}/{})", batch.size(), attempt,
+					MAX_FLUSH_ATTEMPTS, e);
+			}
+		}
+		log.error("Dropping {} like operations after {} attempts: {}", batch.size(), MAX_FLUSH_ATTEMPTS, batch);
+		revertDropped(batch);
+	}
+
+	// 같은 (포스트, 회원) 쌍은 마지막 변경이 Redis 상태를 만들었으므로 그 변경만 되돌린다.
+	private void revertDropped(List<PostLikeOperation> batch) {
+		Map<PostLikeKey, PostLikeOperation> lastByKey = new LinkedHashMap<>();
+		batch.forEach(operation -> lastByKey.put(operation.key(), operation));
+
+		lastByKey.values().forEach(operation -> {
+			try {
+				postLikeStateStore.revert(operation.postId(), operation.memberId(), operation.liked());
+				if (operation.liked()) {
+					viewerStateService.removeLike(operation.memberId(), operation.postId());
+				} else {
+					viewerStateService.recordLike(operation.memberId(), operation.postId());
+				}
+			} catch (Exception e) {
+				log.error("Failed to revert dropped like operation: {}", operation, e);
+			}
+		});
+	}
+
+	/**
+	 * 모은 변경을 한 트랜잭션으로 반영한다. 같은 (포스트, 회원) 쌍은 하나로 합치고,
+	 * 실제로 추가/삭제되는 행만큼 좋아요 수를 증감한다.
+	 * 대기열에 들어간 순서는 Redis 를 토글한 순서와 다를 수 있으므로, 쌍마다 지금의 Redis 상태를 반영한다.
+	 * Redis 상태를 알 수 없는 쌍만 마지막 변경을 따른다.
+	 */
+	public void flush(List<PostLikeOperation> batch) {
+		Map<PostLikeKey, Boolean> likedByKey = new LinkedHashMap<>();
+		batch.forEach(operation -> likedByKey.put(operation.key(), operation.liked()));
+		try {
+			likedByKey.putAll(postLikeStateStore.findLiked(likedByKey.keySet()));
+		} catch (BusinessException e) {
+			log.warn("Failed to read like state for {} pairs. Applying queued operations.", likedByKey.size(), e);
+		}
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Set<PostLikeKey> existing = new HashSet<>(postLikeBatchRepository.findExisting(likedByKey.keySet()));
+			List<PostLikeKey> inserts = new ArrayList<>();
+			List<PostLikeKey> deletes = new ArrayList<>();
+			Map<Long, Long> deltaByPostId = new HashMap<>();
+			likedByKey.forEach((key, liked) -> {
+				if (liked && !existing.contains(key)) {
+					inserts.add(key);
+					deltaByPostId.merge(key.postId(), 1L, Long::sum);
+				} else if (!liked && existing.contains(key)) {
+					deletes.add(key);
+					deltaByPostId.merge(key.postId(), -1L, Long::sum);
+				}
+			});
+
+			postLikeBatchRepository.insertAll(inserts);
+			postLikeBatchRepository.deleteAll(deletes);
+			deltaByPostId.values().removeIf(delta -> delta == 0);
+			likeCounter.addAll(deltaByPostId);
+		});
+	}
+}
@@ -4,8 +4,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.error.ErrorCode;
+import xyz.twooter.common.infrastructure.id.Snowflake;
 import xyz.twooter.member.domain.Member;
-import xyz.twooter.post.domain.PostLike;
+import xyz.twooter.post.application.dto.PostLikeOperation;
 import xyz.twooter.post.domain.exception.PostNotFoundException;
 import xyz.twooter.post.domain.repository.PostLikeRepository;
 import xyz.twooter.post.domain.repository.PostRepository;
@@ -18,6 +21,10 @@ public class PostLikeService {
 
 	private final PostLikeRepository postLikeRepository;
 	private final PostRepository postRepository;
+	private final LikeCounter likeCounter;
+	private final ViewerStateService viewerStateService;
+	private final PostLikeStateStore postLikeStateStore;
+	private final PostLikeBatcher postLikeBatcher;
 
 	public long getLikeCount(Long postId) {
 		return postLikeRepository.countByPostId(postId);
@@ -31,15 +38,9 @@ public class PostLikeService {
 	public PostLikeResponse toggleLikeAndCount(Long postId, Member member) {
 		validateTargetPost(postId);
 
-		boolean isNowLiked = postLikeRepository.existsByPostIdAndMemberId(postId, member.getId())
-			? deleteLike(postId, member)
-			: saveLike(postId, member);
-
-		if (isNowLiked) {
-			postLikeRepository.incrementLikeCount(postId);
-		} else {
-			postLikeRepository.decrementLikeCount(postId);
-		}
+		boolean isNowLiked = postLikeBatcher.isEnabled()
+			? toggleLikeInBatch(postId, member)
+			: toggleLike(postId, member);
 
 		return PostLikeResponse.builder()
 			.postId(postId)
@@ -47,32 +48,50 @@ public class PostLikeService {
 			.build();
 	}
 
-	private boolean deleteLike(Long postId, Member member) {
-		postLikeRepository.deleteByPostIdAndMemberId(postId, member.getId());
-		return false;
-	}
+	// 지운 행이 있으면 취소, 없으면 추가한다. 영향받은 행 수로 상태와 카운터 변화를 함께 결정한다.
+	private boolean toggleLike(Long postId, Member member) {
+		if (postLikeRepository.deleteLike(postId, member.getId()) > 0) {
+			likeCounter.decrease(postId);
+			viewerStateService.removeLike(member.getId(), postId);
+			return false;
+		}
 
-	private boolean saveLike(Long postId, Member member) {
-		postLikeRepository.save(
-			PostLike.builder()
-				.memberId(member.getId())
-				.postId(postId)
-				.build());
+		// 같은 회원의 동시 요청이 먼저 저장했다면 중복 키를 무시하고 0 이 반환된다. 이미 좋아요한 것으로 보고 카운터는 그 요청이 올린다.
+		if (postLikeRepository.insertLikeIfAbsent(Snowflake.nextId(), postId, member.getId()) > 0) {
+			likeCounter.increase(postId);
+			viewerStateService.recordLike(member.getId(), postId);
+		}
 		return true;
 	}
 
+	// 좋아요 상태는 Redis 에서 바로 토글해 응답하고, post_like 반영과 카운터 증감은 PostLikeBatcher 가 모아서 처리한다.
+	private boolean toggleLikeInBatch(Long postId, Member member) {
+		boolean isNowLiked = postLikeStateStore.toggle(postId, member.getId());
+		if (!postLikeBatcher.submit(new PostLikeOperation(postId, member.getId(), isNowLiked))) {
+			postLikeStateStore.revert(postId, member.getId(), isNowLiked);
+			throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+		}
+
+		if (isNowLiked) {
+			viewerStateService.recordLike(member.getId(), postId);
+		} else {
+			viewerStateService.removeLike(member.getId(), postId);
+		}
+		return isNowLiked;
+	}
+
 	@Transactional
 	public void decreaseLikeCount(Long postId) {
-		postLikeRepository.decrementLikeCount(postId);
+		likeCounter.decrease(postId);
 	}
 
 	@Transactional
 	public void increaseLikeCount(Long postId) {
-		postLikeRepository.incrementLikeCount(postId);
+		likeCounter.increase(postId);
 	}
 
 	private void validateTargetPost(Long postId) {
-		if (!postRepository.existsById(postId) || postRepository.findIsDeletedById(postId)) {
+		if (postRepository.findDeletionStatusById(postId).orElse(true)) {
 			throw new PostNotFoundException();
 		}
 	}
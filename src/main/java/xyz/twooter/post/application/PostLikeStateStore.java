@@ -0,0 +1,98 @@
+package xyz.twooter.post.application;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.error.ErrorCode;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.domain.repository.PostLikeRepository;
+import xyz.twooter.post.domain.repository.projection.PostLikeKey;
+
+/**
+ * 좋아요 일괄 반영 모드에서 좋아요 상태의 기준이 되는 포스트별 Redis Set (좋아요한 회원 ID)
+ * 요청은 이 Set 을 토글한 결과로 바로 응답하고, DB 반영은 PostLikeBatcher 가 뒤이어 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostLikeStateStore {
+
+	public static final String POST_LIKERS_KEY_PREFIX = "post:likers:";
+	// 좋아요가 하나도 없는 포스트도 Set 이 채워졌음을 알 수 있도록 넣어 두는 멤버
+	private static final String LOADED_MARKER = "-";
+
+	private final PostLikeRepository postLikeRepository;
+	private final RedisUtil redisUtil;
+
+	@Value("${spring.post.like-batch.state-ttl-seconds:86400}")
+	private long stateTtlSeconds;
+
+	/**
+	 * 좋아요 상태를 토글한다.
+	 *
+	 * @return 토글 후 좋아요 상태
+	 */
+	public boolean toggle(Long postId, Long memberId) {
+		String key = key(postId);
+		long result = redisUtil.sToggle(key, String.valueOf(memberId), stateTtlSeconds);
+		if (result < 0) {
+			load(postId);
+			result = redisUtil.sToggle(key, String.valueOf(memberId), stateTtlSeconds);
+		}
+		if (result < 0) {
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+		return result == 1;
+	}
+
+	/**
+	 * 토글을 되돌린다. (일괄 반영 대기열이 가득 차 요청을 거절할 때)
+	 */
+	public void revert(Long postId, Long memberId, boolean liked) {
+		if (liked) {
+			redisUtil.sRem(key(postId), String.valueOf(memberId));
+		} else {
+			redisUtil.sAdd(key(postId), String.valueOf(memberId));
+		}
+	}
+
+	/**
+	 * (포스트, 회원) 쌍마다 지금의 좋아요 상태를 한 번의 pipeline 으로 읽는다.
+	 * Set 이 채워져 있지 않은(만료된) 포스트의 쌍은 알 수 없으므로 결과에 넣지 않는다.
+	 */
+	public Map<PostLikeKey, Boolean> findLiked(Collection<PostLikeKey> keys) {
+		List<PostLikeKey> targets = List.copyOf(keys);
+		List<Object> results = redisUtil.executePipelined(connection -> targets.forEach(target -> {
+			connection.sIsMember(key(target.postId()), LOADED_MARKER);
+			connection.sIsMember(key(target.postId()), String.valueOf(target.memberId()));
+		}));
+
+		Map<PostLikeKey, Boolean> likedByKey = new HashMap<>();
+		for (int i = 0; i < targets.size(); i++) {
+			if (Boolean.TRUE.equals(results.get(i * 2))) {
+				likedByKey.put(targets.get(i), Boolean.TRUE.equals(results.get(i * 2 + 1)));
+			}
+		}
+		return likedByKey;
+	}
+
+	private void load(Long postId) {
+		List<Long> memberIds = postLikeRepository.findMemberIdsByPostId(postId);
+		String[] members = Stream.concat(Stream.of(LOADED_MARKER), memberIds.stream().map(String::valueOf))
+			.toArray(String[]::new);
+		redisUtil.sAdd(key(postId), members);
+		redisUtil.expire(key(postId), stateTtlSeconds, TimeUnit.SECONDS);
+	}
+
+	private static String key(Long postId) {
+		return POST_LIKERS_KEY_PREFIX + postId;
+	}
+}
@@ -1,7 +1,5 @@
 package xyz.twooter.post.application;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,7 +8,6 @@ import xyz.twooter.common.error.BusinessException;
 import xyz.twooter.common.error.ErrorCode;
 import xyz.twooter.common.infrastructure.pagination.CursorUtil;
 import xyz.twooter.common.infrastructure.pagination.PaginationMetadata;
-import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.media.application.MediaService;
 import xyz.twooter.media.presentation.dto.response.MediaSimpleResponse;
 import xyz.twooter.member.application.MemberService;
@@ -46,16 +43,17 @@ public class PostService {
     private final MemberService memberService;
     private final MediaService mediaService;
     private final CursorUtil cursorUtil;
-    private final RedisUtil redisUtil;
-    private final ObjectMapper objectMapper;
-    private static final String TIMELINE_QUEUE_KEY = "queue:timeline:fanout";
+    private final TimelineFanoutPublisher timelineFanoutPublisher;
+    private final PostViewCache postViewCache;
+    private final ViewerStateService viewerStateService;
+    private final LikeCounter likeCounter;
 
     @Transactional
     public PostCreateResponse createPost(PostCreateRequest request, Member member) {
         Post post = createAndSavePost(request, member);
         MemberSummaryResponse authorSummary = memberService.createMemberSummary(member);
         List<MediaSimpleResponse> mediaResponses = processAndAttachMedia(request, post);
-        publishFanoutMessage(TimelineFanoutMessage.ofPostCreation(post));
+        timelineFanoutPublisher.publish(TimelineFanoutMessage.ofPostCreation(post));
         return PostCreateResponse.of(post, authorSummary, mediaResponses);
     }
 
@@ -75,7 +73,9 @@ public class PostService {
     public RepostCreateResponse repostAndIncreaseCount(Long postId, Member member) {
         Post repostAction = repost(postId, member);
         increaseRepostCount(postId);
-        publishFanoutMessage(TimelineFanoutMessage.ofPostCreation(repostAction));
+        postViewCache.evict(postId);
+        viewerStateService.recordRepost(member.getId(), postId);
+        timelineFanoutPublisher.publish(TimelineFanoutMessage.ofPostCreation(repostAction));
         return RepostCreateResponse.builder()
                 .repostId(repostAction.getId())
                 .originalPostId(repostAction.getRepostOfId())
@@ -99,7 +99,7 @@ public class PostService {
                         .nickname(projection.getAuthorNickname())
                         .build())
                 .content(projection.getContent())
-                .likeCount(projection.getLikeCount())
+                .likeCount(projection.getLikeCount() + likeCounter.findPendingDelta(postId))
                 .isLiked(projection.getIsLiked())
                 .repostCount(projection.getRepostCount())
                 .isReposted(projection.getIsReposted())
@@ -119,9 +119,11 @@ public class PostService {
         }
         if (post.getRepostOfId() != null) {
             postRepository.decrementRepostCount(post.getRepostOfId());
+            viewerStateService.removeRepost(member.getId(), post.getRepostOfId());
         }
         post.softDelete();
-        publishFanoutMessage(TimelineFanoutMessage.ofPostDeletion(post));
+        postViewCache.evict(postId, post.getRepostOfId());
+        timelineFanoutPublisher.publish(TimelineFanoutMessage.ofPostDeletion(post));
         return PostDeleteResponse.builder().postId(postId).build();
     }
 
@@ -145,29 +147,21 @@ public class PostService {
         return postRepository.save(Post.createRepost(member.getId(), postId));
     }
 
-    private void publishFanoutMessage(TimelineFanoutMessage message) {
-        try {
-            String messageJson = objectMapper.writeValueAsString(message);
-            redisUtil.lPush(TIMELINE_QUEUE_KEY, messageJson);
-            log.info("Published fan-out message: {}", messageJson);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to publish fan-out message: {}", message.toString(), e);
-        }
-    }
-
     private PostThreadResponse buildPostThreadResponse(List<PostDetailProjection> replies, int limit) {
         boolean hasNext = replies.size() > limit;
         List<PostDetailProjection> responseItems = hasNext ? replies.subList(0, limit) : replies;
         List<Long> postIds = replies.stream().map(PostDetailProjection::getPostId).distinct().toList();
         Map<Long, List<MediaEntity>> mediaByPostId = mediaService.getMediaByPostIds(postIds);
+        Map<Long, Long> pendingLikeDeltas = likeCounter.findPendingDeltas(postIds);
         List<PostResponse> postResponses = responseItems.stream()
-                .map(projection -> convertToPostResponse(projection, mediaByPostId))
+                .map(projection -> convertToPostResponse(projection, mediaByPostId, pendingLikeDeltas))
                 .toList();
         PaginationMetadata metadata = buildPaginationMetadata(postResponses, hasNext);
         return PostThreadResponse.builder().posts(postResponses).metadata(metadata).build();
     }
 
-    private PostResponse convertToPostResponse(PostDetailProjection projection, Map<Long, List<MediaEntity>> mediaByPostId) {
+    private PostResponse convertToPostResponse(PostDetailProjection projection, Map<Long, List<MediaEntity>> mediaByPostId,
+            Map<Long, Long> pendingLikeDeltas) {
         if (Boolean.TRUE.equals(projection.getIsDeleted())) {
             return PostResponse.deletedPost(projection.getPostId(), projection.getCreatedAt());
         }
@@ -180,7 +174,7 @@ public class PostService {
                         .nickname(projection.getAuthorNickname())
                         .build())
                 .content(projection.getContent())
-                .likeCount(projection.getLikeCount())
+                .likeCount(projection.getLikeCount() + pendingLikeDeltas.getOrDefault(projection.getPostId(), 0L))
                 .isLiked(projection.getIsLiked())
                 .repostCount(projection.getRepostCount())
                 .isReposted(projection.getIsReposted())
@@ -0,0 +1,189 @@
+package xyz.twooter.post.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.infrastructure.cache.BoundedCache;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.post.domain.repository.projection.PostViewProjection;
+
+/**
+ * 타임라인 하이드레이션용 포스트 뷰 캐시 (로컬 -> Redis -> DB)
+ * 조회자와 무관한 정보만 포스트 ID 별로 저장하고, 좋아요/리포스트/삭제 시 해당 포스트를 무효화한다.
+ */
+@Component
+@Slf4j
+public class PostViewCache {
+
+	public static final String POST_VIEW_KEY_PREFIX = "post:view:";
+
+	private final PostRepository postRepository;
+	private final RedisUtil redisUtil;
+	private final ObjectMapper objectMapper;
+
+	private final long ttlSeconds;
+	// 다른 노드의 무효화는 로컬 캐시에 전달되지 않으므로 로컬 TTL 을 짧게 유지한다.
+	private final long localTtlMillis;
+	private final BoundedCache<Long, PostViewProjection> localCache;
+
+	public PostViewCache(PostRepository postRepository, RedisUtil redisUtil, ObjectMapper objectMapper,
+		@Value("${spring.timeline.post-view.ttl-seconds:600}") long ttlSeconds,
+		@Value("${spring.timeline.post-view.local-ttl-ms:5000}") long localTtlMillis,
+		@Value("${spring.timeline.post-view.local-max-size:10000}") int localMaxSize) {
+
+		this.postRepository = postRepository;
+		this.redisUtil = redisUtil;
+		this.objectMapper = objectMapper;
+		this.ttlSeconds = ttlSeconds;
+		this.localTtlMillis = localTtlMillis;
+		this.localCache = new BoundedCache<>(localMaxSize);
+	}
+
+	/**
+	 * 포스트 ID 목록의 뷰를 조회한다. 로컬 캐시, Redis(MGET), DB 순으로 모자란 것만 채운다.
+	 * 존재하지 않는 포스트는 결과에 포함되지 않는다.
+	 */
+	public Map<Long, PostViewProjection> getAll(Collection<Long> postIds) {
+		Map<Long, PostViewProjection> views = new HashMap<>();
+		if (postIds.isEmpty()) {
+			return views;
+		}
+
+		List<Long> localMisses = findLocal(postIds, views);
+		List<Long> redisMisses = findRedis(localMisses, views);
+		if (!redisMisses.isEmpty()) {
+			List<PostViewProjection> loaded = postRepository.findPostViewsByIds(redisMisses);
+			loaded.forEach(view -> views.put(view.getPostId(), view));
+			putLocal(loaded);
+			putRedis(loaded);
+		}
+		return views;
+	}
+
+	/**
+	 * 포스트 뷰를 무효화한다. 트랜잭션 안이라면 커밋 이후에 한 번 더 지워
+	 * 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올린 경우를 정리한다.
+	 */
+	public void evict(Long... postIds) {
+		List<Long> targetIds = Arrays.stream(postIds).filter(Objects::nonNull).distinct().toList();
+		if (targetIds.isEmpty()) {
+			return;
+		}
+
+		evictNow(targetIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictNow(targetIds);
+				}
+			});
+		}
+	}
+
+	private void evictNow(List<Long> postIds) {
+		postIds.forEach(localCache::invalidate);
+		try {
+			redisUtil.deleteAll(postIds.stream().map(PostViewCache::key).toList());
+		} catch (BusinessException e) {
+			log.warn("Failed to evict post views from Redis: {}", postIds, e);
+		}
+	}
+
+	private List<Long> findLocal(Collection<Long> postIds, Map<Long, PostViewProjection> views) {
+		List<Long> misses = new ArrayList<>();
+		for (Long postId : postIds) {
+			PostViewProjection view = localCache.get(postId);
+			if (view == null) {
+				misses.add(postId);
+			} else {
+				views.put(postId, view);
+			}
+		}
+		return misses;
+	}
+
+	private List<Long> findRedis(List<Long> postIds, Map<Long, PostViewProjection> views) {
+		if (postIds.isEmpty()) {
+			return postIds;
+		}
+
+		List<String> values;
+		try {
+			values = redisUtil.mGet(postIds.stream().map(PostViewCache::key).toList());
+		} catch (BusinessException e) {
+			// 캐시 장애는 조회 실패로 이어지지 않도록 DB 에서 읽는다.
+			log.warn("Failed to read post views from Redis. Falling back to DB.", e);
+			return postIds;
+		}
+
+		List<Long> misses = new ArrayList<>();
+		List<PostViewProjection> hits = new ArrayList<>();
+		for (int i = 0; i < postIds.size(); i++) {
+			PostViewProjection view = deserialize(values.get(i));
+			if (view == null) {
+				misses.add(postIds.get(i));
+			} else {
+				views.put(postIds.get(i), view);
+				hits.add(view);
+			}
+		}
+		putLocal(hits);
+		return misses;
+	}
+
+	private void putLocal(List<PostViewProjection> views) {
+		long expiresAt = System.currentTimeMillis() + localTtlMillis;
+		views.forEach(view -> localCache.put(view.getPostId(), view, expiresAt));
+	}
+
+	private void putRedis(List<PostViewProjection> views) {
+		Map<String, String> valueByKey = new HashMap<>();
+		for (PostViewProjection view : views) {
+			try {
+				valueByKey.put(key(view.getPostId()), objectMapper.writeValueAsString(view));
+			} catch (JsonProcessingException e) {
+				log.error("Failed to serialize post view: {}", view, e);
+			}
+		}
+
+		try {
+			redisUtil.mSetWithExpiration(valueByKey, ttlSeconds, TimeUnit.SECONDS);
+		} catch (BusinessException e) {
+			log.warn("Failed to write post views to Redis", e);
+		}
+	}
+
+	private PostViewProjection deserialize(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(value, PostViewProjection.class);
+		} catch (JsonProcessingException e) {
+			log.warn("Discarding unreadable post view: {}", value, e);
+			return null;
+		}
+	}
+
+	private static String key(Long postId) {
+		return POST_VIEW_KEY_PREFIX + postId;
+	}
+}
@@ -0,0 +1,45 @@
+package xyz.twooter.post.application;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.application.dto.TimelineFanoutMessage;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineFanoutPublisher {
+
+	// 처리 중 목록 등 큐와 함께 쓰는 키는 같은 해시 태그를 붙인다. (TimelineQueueListener)
+	public static final String TIMELINE_QUEUE_KEY = "queue:{timeline:fanout}";
+	public static final String TIMELINE_STREAM_KEY = "stream:timeline:fanout";
+	public static final String STREAM_PAYLOAD_FIELD = "payload";
+
+	private final RedisUtil redisUtil;
+	private final ObjectMapper objectMapper;
+
+	@Value("${spring.timeline.queue.transport:list}")
+	private TimelineQueueTransport transport;
+
+	public void publish(TimelineFanoutMessage message) {
+		try {
+			String messageJson = objectMapper.writeValueAsString(message);
+			if (transport == TimelineQueueTransport.STREAM) {
+				redisUtil.xAdd(TIMELINE_STREAM_KEY, Map.of(STREAM_PAYLOAD_FIELD, messageJson));
+			} else {
+				redisUtil.lPush(TIMELINE_QUEUE_KEY, messageJson);
+			}
+			log.info("Published fan-out message: {}", messageJson);
+		} catch (JsonProcessingException e) {
+			log.error("Failed to publish fan-out message: {}", message.toString(), e);
+		}
+	}
+}
@@ -1,15 +1,28 @@
 package xyz.twooter.post.application;
 
-import java.time.ZoneOffset;
-import java.util.ArrayList;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,12 +30,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.member.domain.repository.FollowRepository;
+import xyz.twooter.member.domain.repository.FollowerIdPageIterator;
 import xyz.twooter.post.application.dto.EventType;
 import xyz.twooter.post.application.dto.TimelineFanoutMessage;
 import xyz.twooter.post.domain.Post;
 import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.post.domain.repository.projection.TimelineEntryProjection;
 
 @Component
 @RequiredArgsConstructor
@@ -35,12 +51,89 @@ public class TimelineQueueListener implements SmartLifecycle {
 	private final PostRepository postRepository;
 
 	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+	private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor();
+	private final String workerId = UUID.randomUUID().toString();
 	private Thread listenerThread;
 	private volatile boolean isRunning = false;
+	private long lastHeartbeatAt = 0;
+	private volatile ScheduledFuture<?> legacyDrainTask;
 
 	public static final int TIMELINE_CACHE_LIMIT = 1000;
-	private static final String TIMELINE_QUEUE_KEY = "queue:timeline:fanout";
+	// 팔로워가 많은 작성자의 포스트는 팔로워 타임라인 대신 작성자별 목록에만 기록하고, 조회 시 병합한다.
+	public static final String AUTHOR_POSTS_ZSET_PREFIX = "timeline:author:";
+	public static final String HIGH_FOLLOWER_AUTHORS_KEY = "timeline:high-follower-authors";
+	// push 로 되돌릴 때 팔로워 타임라인에 채워 넣을 작성자의 최근 포스트 수 (FOLLOW_CREATED 와 같은 50개)
+	private static final int DEMOTION_BACKFILL_LIMIT = 50;
+	private static final String TIMELINE_QUEUE_KEY = TimelineFanoutPublisher.TIMELINE_QUEUE_KEY;
+	private static final String TIMELINE_STREAM_KEY = TimelineFanoutPublisher.TIMELINE_STREAM_KEY;
+	// 모든 노드가 공유하는 Consumer Group (노드별 consumer 이름은 workerId)
+	private static final String STREAM_CONSUMER_GROUP = "timeline-fanout";
+	private static final int STREAM_READ_COUNT = 10;
+	private static final int STREAM_RECLAIM_COUNT = 100;
+	private static final long STREAM_RECLAIM_INTERVAL_SECONDS = 30;
+	// 신뢰 모드: 워커별 처리 중 목록, 워커 목록/생존 신호, 최종 실패 메시지 보관 목록
+	// 큐와 같은 해시 태그를 붙여 BLMOVE/LMOVE 의 두 목록이 클러스터에서도 한 슬롯에 있게 한다.
+	private static final String PROCESSING_QUEUE_PREFIX = "queue:{timeline:fanout}:processing:";
+	private static final String WORKERS_KEY = "queue:{timeline:fanout}:workers";
+	private static final String WORKER_HEARTBEAT_PREFIX = "queue:{timeline:fanout}:heartbeat:";
+	private static final String DEAD_LETTER_QUEUE_KEY = "queue:{timeline:fanout}:dead";
+	private static final long WORKER_HEARTBEAT_TTL_SECONDS = 30;
 	private static final String TIMELINE_ZSET_PREFIX = "timeline:user:";
+	// 해시 태그를 붙이기 전 릴리스의 키. 이전 버전 노드가 남아 있을 수 있는 이번 릴리스 동안만 옮기고, 다음 릴리스에서 지운다.
+	// 이전 릴리스는 클러스터를 지원하지 않았으므로 이 키들은 단일 Redis 에만 있다. (LMOVE 의 두 키가 다른 슬롯이어도 된다)
+	private static final String LEGACY_QUEUE_KEY = "queue:timeline:fanout";
+	private static final String LEGACY_PROCESSING_QUEUE_PREFIX = LEGACY_QUEUE_KEY + ":processing:";
+	private static final String LEGACY_WORKERS_KEY = LEGACY_QUEUE_KEY + ":workers";
+	private static final String LEGACY_WORKER_HEARTBEAT_PREFIX = LEGACY_QUEUE_KEY + ":heartbeat:";
+	// timeline:user:123 (새 키는 timeline:user:{123})
+	private static final String LEGACY_TIMELINE_PATTERN = TIMELINE_ZSET_PREFIX + "[0-9]*";
+	private static final long LEGACY_TIMELINE_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+	private static final int LEGACY_SCAN_BATCH_SIZE = 1000;
+
+	// 팔로워를 chunk 단위로 묶어 pipeline 으로 전송 (false 면 팔로워마다 개별 호출)
+	@Value("${spring.timeline.fanout.batch-enabled:true}")
+	private boolean batchFanoutEnabled;
+
+	@Value("${spring.timeline.fanout.chunk-size:500}")
+	private int fanoutChunkSize;
+
+	// 팔로워 ID 를 한 번에 읽어 올 keyset 페이지 크기 (이벤트당 힙 사용량의 상한)
+	@Value("${spring.timeline.fanout.follower-page-size:1000}")
+	private int followerPageSize;
+
+	// 팔로워 수가 이 값을 넘는 작성자는 push 하지 않고 조회 시 pull 한다.
+	@Value("${spring.timeline.fanout.high-follower-threshold:10000}")
+	private long highFollowerThreshold;
+
+	// 이미 pull 대상인 작성자는 팔로워 수가 임계값 x 이 비율 이하로 줄어야 push 로 되돌린다. (경계에서 오가는 것을 막는다)
+	@Value("${spring.timeline.fanout.high-follower-demote-ratio:0.8}")
+	private double highFollowerDemoteRatio;
+
+	// list: LPUSH/BRPOP 큐, stream: 모든 노드가 공유하는 Consumer Group
+	@Value("${spring.timeline.queue.transport:list}")
+	private TimelineQueueTransport transport;
+
+	// true 면 BLMOVE 로 처리 중 목록에 옮긴 뒤 처리하고, 완료 시 ack 한다. (false 면 BRPOP 후 바로 처리)
+	@Value("${spring.timeline.queue.reliable:false}")
+	private boolean reliableQueueEnabled;
+
+	@Value("${spring.timeline.queue.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${spring.timeline.queue.retry-backoff-ms:500}")
+	private long retryBackoffMillis;
+
+	// 이 시간 이상 ack 되지 않은 Stream 레코드는 다른 consumer 가 가져가 재처리한다.
+	@Value("${spring.timeline.queue.stream.min-idle-ms:60000}")
+	private long streamMinIdleMillis;
+
+	// ack 된 레코드만 잘라내므로 길이가 이 값을 넘으면 처리가 밀리고 있다는 뜻이다. (경고만 남긴다)
+	@Value("${spring.timeline.queue.stream.max-length:100000}")
+	private long streamMaxLength;
+
+	// 이전 릴리스의 큐/타임라인 키를 새 키로 옮기고 정리한다.
+	@Value("${spring.timeline.queue.migrate-legacy-keys:true}")
+	private boolean migrateLegacyKeys;
 
 	private Map<EventType, Consumer<TimelineFanoutMessage>> handlers;
 
@@ -50,16 +143,30 @@ public class TimelineQueueListener implements SmartLifecycle {
 			EventType.POST_CREATED, this::handlePostCreated,
 			EventType.POST_DELETED, this::handlePostDeleted,
 			EventType.FOLLOW_CREATED, this::handleFollowCreated,
-			EventType.UNFOLLOW_CREATED, this::handleFollowDeleted
+			EventType.UNFOLLOW_CREATED, this::handleFollowDeleted,
+			EventType.TIMELINE_REBUILD, this::handleTimelineRebuild
 		);
 	}
 
 	@Override
 	public void start() {
 		log.info("Starting TimelineQueueListener...");
+		if (isStreamTransport()) {
+			redisUtil.xGroupCreate(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP);
+			retryScheduler.scheduleWithFixedDelay(this::reclaimPendingStreamEntriesSafely,
+				STREAM_RECLAIM_INTERVAL_SECONDS, STREAM_RECLAIM_INTERVAL_SECONDS, TimeUnit.SECONDS);
+		} else if (reliableQueueEnabled) {
+			registerWorker();
+			recoverOrphanedMessages();
+			retryScheduler.scheduleWithFixedDelay(this::recoverOrphanedMessagesSafely,
+				WORKER_HEARTBEAT_TTL_SECONDS, WORKER_HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+		}
+		if (migrateLegacyKeys) {
+			startLegacyMigration();
+		}
+		this.isRunning = true;
 		this.listenerThread = new Thread(this::processQueue);
 		this.listenerThread.start();
-		this.isRunning = true;
 	}
 
 	@Override
@@ -74,8 +181,19 @@ public class TimelineQueueListener implements SmartLifecycle {
 			if (!this.executorService.awaitTermination(5, TimeUnit.SECONDS)) {
 				this.executorService.shutdownNow();
 			}
+			if (this.listenerThread != null) {
+				this.listenerThread.join(TimeUnit.SECONDS.toMillis(5));
+			}
 		} catch (InterruptedException e) {
 			this.executorService.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		this.retryScheduler.shutdownNow();
+		if (isStreamTransport()) {
+			removeStreamConsumer();
+		} else if (reliableQueueEnabled) {
+			// 끝내지 못한 메시지와 재시도 대기 중인 메시지를 큐로 되돌린 뒤 워커 등록을 해제한다.
+			unregisterWorker();
 		}
 		log.info("TimelineQueueListener stopped.");
 	}
@@ -89,9 +207,20 @@ public class TimelineQueueListener implements SmartLifecycle {
 		log.info("Timeline fan-out queue listener thread started.");
 		while (isRunning && !Thread.currentThread().isInterrupted()) {
 			try {
-				String messageJson = redisUtil.brPop(TIMELINE_QUEUE_KEY, 3, TimeUnit.SECONDS);
-				if (messageJson != null) {
-					executorService.submit(() -> fanout(messageJson));
+				if (isStreamTransport()) {
+					processStreamBatch();
+				} else if (reliableQueueEnabled) {
+					refreshHeartbeat();
+					String messageJson = redisUtil.blMove(TIMELINE_QUEUE_KEY, processingQueueKey(), 3,
+						TimeUnit.SECONDS);
+					if (messageJson != null) {
+						executorService.submit(() -> processReliably(messageJson));
+					}
+				} else {
+					String messageJson = redisUtil.brPop(TIMELINE_QUEUE_KEY, 3, TimeUnit.SECONDS);
+					if (messageJson != null) {
+						executorService.submit(() -> fanout(messageJson));
+					}
 				}
 			} catch (Exception e) {
 				if (!isRunning) {
@@ -103,51 +232,493 @@ public class TimelineQueueListener implements SmartLifecycle {
 		log.info("Timeline fan-out queue listener thread finished.");
 	}
 
-	private void fanout(String messageJson) {
+	private boolean isStreamTransport() {
+		return transport == TimelineQueueTransport.STREAM;
+	}
+
+	private void processStreamBatch() {
+		List<MapRecord<String, Object, Object>> records = redisUtil.xReadGroup(TIMELINE_STREAM_KEY,
+			STREAM_CONSUMER_GROUP, workerId, STREAM_READ_COUNT, Duration.ofSeconds(3));
+		for (MapRecord<String, Object, Object> record : records) {
+			executorService.submit(() -> processStreamRecord(record));
+		}
+	}
+
+	/**
+	 * Stream 레코드를 처리하고 ack 한다.
+	 * 실패한 레코드는 ack 하지 않고 pending 으로 남겨 두며, min-idle 이 지나면 XAUTOCLAIM 으로 다시 처리된다.
+	 */
+	private void processStreamRecord(MapRecord<String, Object, Object> record) {
+		String recordId = record.getId().getValue();
+		Object payload = record.getValue().get(TimelineFanoutPublisher.STREAM_PAYLOAD_FIELD);
 		try {
-			TimelineFanoutMessage message = objectMapper.readValue(messageJson, TimelineFanoutMessage.class);
-			Consumer<TimelineFanoutMessage> handler = handlers.get(message.getType());
-			if (handler != null) {
-				handler.accept(message);
-			} else {
-				log.warn("No handler found for event type: {}", message.getType());
+			if (payload != null) {
+				dispatch(payload.toString());
 			}
+			redisUtil.xAck(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP, recordId);
+		} catch (Exception e) {
+			log.warn("Failed to execute fan-out for stream record: {}, payload: {}", recordId, payload, e);
+		}
+	}
+
+	/**
+	 * 오래 ack 되지 않은 레코드를 정리한다.
+	 * 전달 횟수가 최대 시도 횟수에 도달한 레코드는 dead-letter 목록으로 옮기고, 나머지는 이 consumer 가 가져와 재처리한다.
+	 */
+	private void reclaimPendingStreamEntries() {
+		Duration minIdle = Duration.ofMillis(streamMinIdleMillis);
+
+		PendingMessages pendingMessages = redisUtil.xPending(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP,
+			STREAM_RECLAIM_COUNT);
+		if (pendingMessages != null) {
+			for (PendingMessage pendingMessage : pendingMessages) {
+				if (pendingMessage.getTotalDeliveryCount() >= maxAttempts
+					&& pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+					moveStreamRecordToDeadLetter(pendingMessage.getIdAsString());
+				}
+			}
+		}
+
+		List<MapRecord<String, Object, Object>> claimed = redisUtil.xAutoClaim(TIMELINE_STREAM_KEY,
+			STREAM_CONSUMER_GROUP, workerId, minIdle, STREAM_RECLAIM_COUNT);
+		for (MapRecord<String, Object, Object> record : claimed) {
+			executorService.submit(() -> processStreamRecord(record));
+		}
+
+		long lag = redisUtil.xPendingCount(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP);
+		log.info("Timeline fan-out stream pending: {}, reclaimed: {}", lag, claimed.size());
+		trimAcknowledgedStreamEntries();
+		removeIdleStreamConsumers(minIdle);
+	}
+
+	/**
+	 * 모든 consumer 가 ack 한 레코드만 잘라낸다.
+	 * 가장 오래된 pending 레코드(없으면 그룹에 마지막으로 전달된 레코드)보다 앞선 레코드만 지우므로,
+	 * 재처리를 기다리는 레코드나 아직 전달되지 않은 레코드는 남는다.
+	 */
+	private void trimAcknowledgedStreamEntries() {
+		String minId = redisUtil.xOldestPendingId(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP);
+		if (minId == null) {
+			minId = redisUtil.xLastDeliveredId(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP);
+		}
+		if (minId == null) {
+			return;
+		}
+		redisUtil.xTrimMinId(TIMELINE_STREAM_KEY, minId);
+		long length = redisUtil.xLen(TIMELINE_STREAM_KEY);
+		if (length > streamMaxLength) {
+			log.warn("Timeline fan-out stream backlog exceeds max length: {} > {}", length, streamMaxLength);
+		}
+	}
+
+	/**
+	 * 재시작 등으로 남은 다른 노드의 consumer 를 정리한다.
+	 * pending 레코드가 남은 consumer 는 XAUTOCLAIM 으로 모두 옮겨진 뒤에 삭제된다.
+	 */
+	private void removeIdleStreamConsumers(Duration minIdle) {
+		for (StreamInfo.XInfoConsumer consumer : redisUtil.xConsumers(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP)) {
+			if (!consumer.consumerName().equals(workerId) && consumer.pendingCount() == 0
+				&& consumer.idleTimeMs() >= minIdle.toMillis()) {
+				redisUtil.xGroupDelConsumer(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP, consumer.consumerName());
+				log.info("Removed idle timeline stream consumer: {}", consumer.consumerName());
+			}
+		}
+	}
+
+	/**
+	 * 종료 시 이 노드의 consumer 를 그룹에서 삭제한다.
+	 * 끝내지 못한 레코드가 남아 있으면 삭제하지 않고, 다른 노드가 가져간 뒤 removeIdleStreamConsumers 에서 정리한다.
+	 */
+	private void removeStreamConsumer() {
+		try {
+			boolean hasPending = redisUtil.xConsumers(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP).stream()
+				.anyMatch(consumer -> consumer.consumerName().equals(workerId) && consumer.pendingCount() > 0);
+			if (!hasPending) {
+				redisUtil.xGroupDelConsumer(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP, workerId);
+			}
+		} catch (Exception e) {
+			log.error("Failed to remove timeline stream consumer: {}", workerId, e);
+		}
+	}
+
+	private void reclaimPendingStreamEntriesSafely() {
+		try {
+			reclaimPendingStreamEntries();
+		} catch (Exception e) {
+			log.error("Failed to reclaim pending timeline stream entries", e);
+		}
+	}
+
+	private void moveStreamRecordToDeadLetter(String recordId) {
+		MapRecord<String, Object, Object> record = redisUtil.xGet(TIMELINE_STREAM_KEY, recordId);
+		Object payload = record == null ? null : record.getValue().get(TimelineFanoutPublisher.STREAM_PAYLOAD_FIELD);
+		if (payload != null) {
+			redisUtil.lPush(DEAD_LETTER_QUEUE_KEY, payload.toString());
+		}
+		redisUtil.xAck(TIMELINE_STREAM_KEY, STREAM_CONSUMER_GROUP, recordId);
+		log.error("Moved fan-out stream record to dead-letter queue: {}, payload: {}", recordId, payload);
+	}
+
+	private void fanout(String messageJson) {
+		try {
+			dispatch(messageJson);
 		} catch (Exception e) {
 			log.error("Failed to execute fan-out for message: {}", messageJson, e);
 		}
 	}
 
+	private void dispatch(String messageJson) throws Exception {
+		TimelineFanoutMessage message = objectMapper.readValue(messageJson, TimelineFanoutMessage.class);
+		Consumer<TimelineFanoutMessage> handler = handlers.get(message.getType());
+		if (handler != null) {
+			handler.accept(message);
+		} else {
+			log.warn("No handler found for event type: {}", message.getType());
+		}
+	}
+
+	/**
+	 * 처리 중 목록에 옮겨진 메시지를 처리한다.
+	 * 성공하면 처리 중 목록에서 제거(ack)하고, 실패하면 backoff 후 재시도하거나 dead-letter 목록으로 보낸다.
+	 */
+	private void processReliably(String messageJson) {
+		try {
+			dispatch(messageJson);
+			acknowledge(messageJson);
+		} catch (Exception e) {
+			log.warn("Failed to execute fan-out for message: {}", messageJson, e);
+			handleFailure(messageJson);
+		}
+	}
+
+	private void handleFailure(String messageJson) {
+		TimelineFanoutMessage retryMessage;
+		try {
+			retryMessage = objectMapper.readValue(messageJson, TimelineFanoutMessage.class).withNextAttempt();
+		} catch (Exception e) {
+			moveToDeadLetter(messageJson);
+			return;
+		}
+
+		if (retryMessage.getAttempts() >= maxAttempts) {
+			moveToDeadLetter(messageJson);
+			return;
+		}
+
+		// 재시도 메시지를 큐에 넣기 전까지는 원본을 처리 중 목록에 남겨 두어, 그 사이 장애가 나도 복구 대상이 되게 한다.
+		long delayMillis = retryBackoffMillis * (1L << Math.min(retryMessage.getAttempts() - 1, 10));
+		retryScheduler.schedule(() -> requeueForRetry(messageJson, retryMessage), delayMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void requeueForRetry(String originalJson, TimelineFanoutMessage retryMessage) {
+		try {
+			redisUtil.lPush(TIMELINE_QUEUE_KEY, objectMapper.writeValueAsString(retryMessage));
+			acknowledge(originalJson);
+			log.info("Re-queued fan-out message, attempt: {}", retryMessage.getAttempts());
+		} catch (Exception e) {
+			log.error("Failed to re-queue fan-out message: {}", originalJson, e);
+		}
+	}
+
+	private void moveToDeadLetter(String messageJson) {
+		redisUtil.lPush(DEAD_LETTER_QUEUE_KEY, messageJson);
+		acknowledge(messageJson);
+		log.error("Moved fan-out message to dead-letter queue: {}", messageJson);
+	}
+
+	private void acknowledge(String messageJson) {
+		redisUtil.lRem(processingQueueKey(), 1, messageJson);
+	}
+
+	private String processingQueueKey() {
+		return PROCESSING_QUEUE_PREFIX + workerId;
+	}
+
+	private void registerWorker() {
+		redisUtil.sAdd(WORKERS_KEY, workerId);
+		refreshHeartbeat();
+	}
+
+	private void refreshHeartbeat() {
+		long now = System.currentTimeMillis();
+		if (now - lastHeartbeatAt < TimeUnit.SECONDS.toMillis(WORKER_HEARTBEAT_TTL_SECONDS) / 3) {
+			return;
+		}
+		redisUtil.set(WORKER_HEARTBEAT_PREFIX + workerId, workerId, WORKER_HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+		lastHeartbeatAt = now;
+	}
+
+	private void unregisterWorker() {
+		try {
+			int requeued = requeueAll(processingQueueKey());
+			redisUtil.delete(WORKER_HEARTBEAT_PREFIX + workerId);
+			redisUtil.sRem(WORKERS_KEY, workerId);
+			log.info("Unregistered timeline worker: {}, re-queued {} in-flight messages", workerId, requeued);
+		} catch (Exception e) {
+			log.error("Failed to unregister timeline worker: {}", workerId, e);
+		}
+	}
+
+	/**
+	 * 생존 신호가 끊긴 워커의 처리 중 목록을 큐의 맨 앞으로 되돌린다.
+	 */
+	private void recoverOrphanedMessages() {
+		Set<String> workerIds = redisUtil.sMembers(WORKERS_KEY);
+		if (workerIds == null) {
+			return;
+		}
+		for (String otherWorkerId : workerIds) {
+			if (otherWorkerId.equals(workerId) || redisUtil.hasKey(WORKER_HEARTBEAT_PREFIX + otherWorkerId)) {
+				continue;
+			}
+			int requeued = requeueAll(PROCESSING_QUEUE_PREFIX + otherWorkerId);
+			redisUtil.sRem(WORKERS_KEY, otherWorkerId);
+			log.warn("Recovered {} in-flight messages from dead timeline worker: {}", requeued, otherWorkerId);
+		}
+	}
+
+	private void recoverOrphanedMessagesSafely() {
+		try {
+			recoverOrphanedMessages();
+		} catch (Exception e) {
+			log.error("Failed to recover orphaned timeline messages", e);
+		}
+	}
+
+	private int requeueAll(String processingKey) {
+		int count = 0;
+		while (redisUtil.lMoveToFront(processingKey, TIMELINE_QUEUE_KEY) != null) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 이전 릴리스의 키를 정리하는 작업을 시작한다.
+	 * 이전 타임라인 ZSET 은 배포 중 이전 버전 노드가 계속 읽을 수 있도록 바로 지우지 않고 TTL 만 건다.
+	 * 이전 큐는 이전 버전 노드가 모두 내려갈 때까지 주기적으로 새 큐로 옮긴다.
+	 */
+	private void startLegacyMigration() {
+		retryScheduler.execute(this::expireLegacyTimelinesSafely);
+		if (!isStreamTransport()) {
+			legacyDrainTask = retryScheduler.scheduleWithFixedDelay(this::drainLegacyQueueSafely, 0,
+				WORKER_HEARTBEAT_TTL_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * 이전 큐에 남은 메시지를 새 큐의 뒤에 순서대로 옮기고, 종료된 이전 버전 워커의 처리 중 목록을 새 큐의 맨 앞으로 되돌린다.
+	 * 이전 큐가 비어 있고 등록된 이전 버전 워커가 없으면 더 옮길 것이 없으므로 작업을 멈춘다.
+	 */
+	private void drainLegacyQueue() {
+		int drained = 0;
+		while (redisUtil.lMoveToBack(LEGACY_QUEUE_KEY, TIMELINE_QUEUE_KEY) != null) {
+			drained++;
+		}
+		int recovered = recoverLegacyProcessingQueues();
+		if (drained > 0 || recovered > 0) {
+			log.info("Moved legacy timeline fan-out messages, queued: {}, in-flight: {}", drained, recovered);
+		}
+		if (drained == 0 && !redisUtil.hasKey(LEGACY_WORKERS_KEY) && legacyDrainTask != null) {
+			legacyDrainTask.cancel(false);
+			log.info("Legacy timeline fan-out queue is empty, stopped draining");
+		}
+	}
+
+	// 이전 버전 워커도 처리 중 목록을 쓰기 전에 워커 목록에 등록했으므로, 워커 목록만 보면 모든 처리 중 목록을 찾을 수 있다.
+	private int recoverLegacyProcessingQueues() {
+		Set<String> legacyWorkerIds = redisUtil.sMembers(LEGACY_WORKERS_KEY);
+		if (legacyWorkerIds == null) {
+			return 0;
+		}
+		int recovered = 0;
+		for (String legacyWorkerId : legacyWorkerIds) {
+			if (redisUtil.hasKey(LEGACY_WORKER_HEARTBEAT_PREFIX + legacyWorkerId)) {
+				continue;
+			}
+			while (redisUtil.lMoveToFront(LEGACY_PROCESSING_QUEUE_PREFIX + legacyWorkerId, TIMELINE_QUEUE_KEY) != null) {
+				recovered++;
+			}
+			redisUtil.sRem(LEGACY_WORKERS_KEY, legacyWorkerId);
+		}
+		return recovered;
+	}
+
+	private void drainLegacyQueueSafely() {
+		try {
+			drainLegacyQueue();
+		} catch (Exception e) {
+			log.error("Failed to drain legacy timeline fan-out queue", e);
+		}
+	}
+
+	/**
+	 * TTL 이 없는 이전 타임라인 ZSET 에 TTL 을 건다. 이미 TTL 이 있는 키는 건드리지 않으므로 재시작해도 만료 시각이 늦춰지지 않는다.
+	 */
+	private long expireLegacyTimelines() {
+		long expired = 0;
+		try (Stream<String> keys = redisUtil.scan(LEGACY_TIMELINE_PATTERN, LEGACY_SCAN_BATCH_SIZE)) {
+			Iterator<String> iterator = keys.iterator();
+			while (iterator.hasNext()) {
+				String key = iterator.next();
+				if (redisUtil.getExpire(key, TimeUnit.SECONDS) == -1) {
+					redisUtil.expire(key, LEGACY_TIMELINE_TTL_SECONDS, TimeUnit.SECONDS);
+					expired++;
+				}
+			}
+		}
+		log.info("Set TTL on {} legacy timeline keys", expired);
+		return expired;
+	}
+
+	private void expireLegacyTimelinesSafely() {
+		try {
+			expireLegacyTimelines();
+		} catch (Exception e) {
+			log.error("Failed to expire legacy timeline keys", e);
+		}
+	}
+
+	/**
+	 * 회원의 홈 타임라인 키. 회원 ID 를 해시 태그로 붙여 한 회원의 타임라인 관련 키가 클러스터의 한 슬롯에 모이게 한다.
+	 */
+	public static String timelineKey(long userId) {
+		return RedisKeys.tagged(TIMELINE_ZSET_PREFIX, userId);
+	}
+
+	/**
+	 * 팔로워가 많은 작성자의 포스트 목록 키
+	 */
+	public static String authorPostsKey(long authorId) {
+		return RedisKeys.tagged(AUTHOR_POSTS_ZSET_PREFIX, authorId);
+	}
+
 	private void handlePostCreated(TimelineFanoutMessage message) {
 		Long postId = message.getPostId();
 		Long authorId = message.getAuthorId();
-		double score = message.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+		double score = TimelineScore.of(message.getCreatedAt(), postId);
 
-		List<Long> followerIds = followRepository.findAllFollowerIdsByFolloweeId(authorId);
-		List<Long> targetUserIds = new ArrayList<>(followerIds);
-		targetUserIds.add(authorId);
+		if (isHighFollowerAuthor(authorId)) {
+			// 작성자 ID 를 해시 태그로 쓰므로 두 키는 같은 슬롯에 있다.
+			redisUtil.zAddAndTrim(List.of(timelineKey(authorId), authorPostsKey(authorId)), String.valueOf(postId),
+				score, TIMELINE_CACHE_LIMIT);
+			log.info("Skipped follower push for high-follower author: {}, postId: {}", authorId, postId);
+			return;
+		}
 
-		for (Long userId : targetUserIds) {
-			String timelineKey = TIMELINE_ZSET_PREFIX + userId;
-			redisUtil.zAdd(timelineKey, String.valueOf(postId), score);
-			redisUtil.zRemRangeByRank(timelineKey, TIMELINE_CACHE_LIMIT);
+		String member = String.valueOf(postId);
+		addToTimelines(new long[] {authorId}, member, score);
+		FollowerIdPageIterator followerPages = new FollowerIdPageIterator(followRepository, authorId,
+			followerPageSize);
+		while (followerPages.hasNext()) {
+			addToTimelines(followerPages.next(), member, score);
 		}
 		log.info("Fan-out complete for POST_CREATED, postId: {}", postId);
 	}
 
+	private void addToTimelines(long[] userIds, String postId, double score) {
+		if (batchFanoutEnabled) {
+			addToTimelinesInChunks(userIds, postId, score);
+			return;
+		}
+		for (long userId : userIds) {
+			String timelineKey = timelineKey(userId);
+			redisUtil.zAdd(timelineKey, postId, score);
+			redisUtil.zRemRangeByRank(timelineKey, TIMELINE_CACHE_LIMIT);
+		}
+	}
+
+	private boolean isHighFollowerAuthor(Long authorId) {
+		if (highFollowerThreshold <= 0) {
+			return false;
+		}
+		long followerCount = followRepository.countByFolloweeId(authorId);
+		if (followerCount > highFollowerThreshold) {
+			redisUtil.sAdd(HIGH_FOLLOWER_AUTHORS_KEY, String.valueOf(authorId));
+			return true;
+		}
+		if (!redisUtil.sIsMember(HIGH_FOLLOWER_AUTHORS_KEY, String.valueOf(authorId))) {
+			return false;
+		}
+		if (followerCount > highFollowerThreshold * highFollowerDemoteRatio) {
+			return true;
+		}
+		demoteHighFollowerAuthor(authorId);
+		return false;
+	}
+
+	/**
+	 * pull 대상에서 빼기 전에 작성자 목록의 최근 포스트를 팔로워 타임라인에 채운다.
+	 * 목록에서 빠지면 조회 시 병합되지 않으므로, 그동안 push 되지 않았던 포스트가 보이지 않게 되는 것을 막는다.
+	 */
+	private void demoteHighFollowerAuthor(Long authorId) {
+		String authorPostsKey = authorPostsKey(authorId);
+		Set<ZSetOperations.TypedTuple<String>> recentPosts = redisUtil.zReverseRangeWithScores(authorPostsKey, 0,
+			DEMOTION_BACKFILL_LIMIT - 1);
+		if (recentPosts != null && !recentPosts.isEmpty()) {
+			FollowerIdPageIterator followerPages = new FollowerIdPageIterator(followRepository, authorId,
+				followerPageSize);
+			while (followerPages.hasNext()) {
+				long[] followerIds = followerPages.next();
+				for (ZSetOperations.TypedTuple<String> post : recentPosts) {
+					addToTimelines(followerIds, post.getValue(), post.getScore());
+				}
+			}
+		}
+		redisUtil.sRem(HIGH_FOLLOWER_AUTHORS_KEY, String.valueOf(authorId));
+		redisUtil.delete(authorPostsKey);
+		log.info("Demoted high-follower author: {}, backfilled posts: {}", authorId,
+			recentPosts == null ? 0 : recentPosts.size());
+	}
+
+	private void addToTimelinesInChunks(long[] userIds, String postId, double score) {
+		int chunkSize = Math.max(1, fanoutChunkSize);
+		for (int from = 0; from < userIds.length; from += chunkSize) {
+			List<String> timelineKeys = Arrays.stream(userIds, from, Math.min(from + chunkSize, userIds.length))
+				.mapToObj(TimelineQueueListener::timelineKey)
+				.toList();
+			redisUtil.zAddAndTrim(timelineKeys, postId, score, TIMELINE_CACHE_LIMIT);
+		}
+	}
+
 	private void handlePostDeleted(TimelineFanoutMessage message) {
 		Long postId = message.getPostId();
 		Long authorId = message.getAuthorId();
 
-		List<Long> followerIds = followRepository.findAllFollowerIdsByFolloweeId(authorId);
-		List<Long> targetUserIds = new ArrayList<>(followerIds);
-		targetUserIds.add(authorId);
+		if (isHighFollowerAuthor(authorId)) {
+			// push 되지 않았던 포스트이므로 작성자 쪽만 정리한다. (이전에 push 된 항목은 조회 시 삭제 여부로 걸러진다)
+			redisUtil.zRem(timelineKey(authorId), String.valueOf(postId));
+			redisUtil.zRem(authorPostsKey(authorId), String.valueOf(postId));
+			log.info("Fan-out complete for POST_DELETED (high-follower author), postId: {}", postId);
+			return;
+		}
 
-		for (Long userId : targetUserIds) {
-			redisUtil.zRem(TIMELINE_ZSET_PREFIX + userId, String.valueOf(postId));
+		String member = String.valueOf(postId);
+		redisUtil.zRem(timelineKey(authorId), member);
+		FollowerIdPageIterator followerPages = new FollowerIdPageIterator(followRepository, authorId,
+			followerPageSize);
+		while (followerPages.hasNext()) {
+			removeFromTimelines(followerPages.next(), member);
 		}
 		log.info("Fan-out complete for POST_DELETED, postId: {}", postId);
 	}
 
+	private void removeFromTimelines(long[] userIds, String postId) {
+		if (!batchFanoutEnabled) {
+			for (long userId : userIds) {
+				redisUtil.zRem(timelineKey(userId), postId);
+			}
+			return;
+		}
+		int chunkSize = Math.max(1, fanoutChunkSize);
+		for (int from = 0; from < userIds.length; from += chunkSize) {
+			List<String> timelineKeys = Arrays.stream(userIds, from, Math.min(from + chunkSize, userIds.length))
+				.mapToObj(TimelineQueueListener::timelineKey)
+				.toList();
+			redisUtil.zRemFromKeys(timelineKeys, postId);
+		}
+	}
+
 	private void handleFollowCreated(TimelineFanoutMessage message) {
 		Long followerId = message.getFollowerId();
 		Long followeeId = message.getFolloweeId();
@@ -155,9 +726,9 @@ public class TimelineQueueListener implements SmartLifecycle {
 		List<Post> recentPosts = postRepository.findTop50ByAuthorIdAndIsDeletedFalseAndRepostOfIdIsNullOrderByIdDesc(
 			followeeId);
 
-		String followerTimelineKey = TIMELINE_ZSET_PREFIX + followerId;
+		String followerTimelineKey = timelineKey(followerId);
 		for (Post post : recentPosts) {
-			double score = post.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+			double score = TimelineScore.of(post.getCreatedAt(), post.getId());
 			redisUtil.zAdd(followerTimelineKey, String.valueOf(post.getId()), score);
 		}
 
@@ -174,8 +745,33 @@ public class TimelineQueueListener implements SmartLifecycle {
 			return;
 		}
 
-		String followerTimelineKey = TIMELINE_ZSET_PREFIX + followerId;
+		String followerTimelineKey = timelineKey(followerId);
 		redisUtil.zRem(followerTimelineKey, postIdsToRemove.stream().map(String::valueOf).toArray(String[]::new));
 		log.info("Fan-out complete for UNFOLLOW_CREATED: follower={}, followee={}", followerId, followeeId);
 	}
+
+	/**
+	 * 캐시가 비어 있는 사용자의 타임라인을 DB 의 최신 항목으로 채운다.
+	 */
+	private void handleTimelineRebuild(TimelineFanoutMessage message) {
+		Long memberId = message.getMemberId();
+
+		List<TimelineEntryProjection> entries = postRepository.findRecentHomeTimelineEntries(memberId,
+			TIMELINE_CACHE_LIMIT);
+		if (entries.isEmpty()) {
+			log.info("Nothing to rebuild for TIMELINE_REBUILD: member={}", memberId);
+			return;
+		}
+
+		Map<String, Double> scoreByPostId = new HashMap<>();
+		for (TimelineEntryProjection entry : entries) {
+			scoreByPostId.put(String.valueOf(entry.getFeedPostId()),
+				TimelineScore.of(entry.getFeedCreatedAt(), entry.getFeedPostId()));
+		}
+
+		String timelineKey = timelineKey(memberId);
+		redisUtil.zAddAll(timelineKey, scoreByPostId);
+		redisUtil.zRemRangeByRank(timelineKey, TIMELINE_CACHE_LIMIT);
+		log.info("Fan-out complete for TIMELINE_REBUILD: member={}, entries={}", memberId, entries.size());
+	}
 }
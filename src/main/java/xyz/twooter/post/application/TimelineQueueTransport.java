@@ -0,0 +1,13 @@
+package xyz.twooter.post.application;
+
+/**
+ * 타임라인 fan-out 메시지를 전달하는 방식
+ */
+public enum TimelineQueueTransport {
+
+	// List 기반 큐 (LPUSH / BRPOP, 신뢰 모드에서는 BLMOVE)
+	LIST,
+
+	// Stream 기반 Consumer Group (XADD / XREADGROUP / XACK), 모든 노드가 하나의 그룹을 공유한다.
+	STREAM
+}
@@ -0,0 +1,34 @@
+package xyz.twooter.post.application;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 타임라인 ZSET 의 score 계산
+ * score = (기준 시점 이후 경과 ms) * 4096 + (postId 하위 12bit)
+ * 같은 ms 에 작성된 포스트도 postId 로 구분되며, 2089년까지 double 에서 정밀도 손실 없이 표현된다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TimelineScore {
+
+	private static final long EPOCH_MILLIS = 1577836800000L; // 2020-01-01T00:00:00Z
+	private static final int TIEBREAK_BITS = 12;
+	private static final long TIEBREAK_MASK = (1L << TIEBREAK_BITS) - 1;
+
+	public static double of(LocalDateTime createdAt, long postId) {
+		long elapsedMillis = createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() - EPOCH_MILLIS;
+		return (double)((elapsedMillis << TIEBREAK_BITS) | (postId & TIEBREAK_MASK));
+	}
+
+	/**
+	 * score 에 담긴 작성 시각(ms 단위)을 복원한다.
+	 */
+	public static LocalDateTime toCreatedAt(double score) {
+		long elapsedMillis = ((long)score) >> TIEBREAK_BITS;
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(elapsedMillis + EPOCH_MILLIS), ZoneOffset.UTC);
+	}
+}
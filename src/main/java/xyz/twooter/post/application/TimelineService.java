@@ -2,24 +2,35 @@ package xyz.twooter.post.application;
 
 import static xyz.twooter.common.infrastructure.pagination.CursorUtil.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.infrastructure.concurrency.SingleFlight;
 import xyz.twooter.common.infrastructure.pagination.CursorUtil;
 import xyz.twooter.common.infrastructure.pagination.PaginationMetadata;
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.media.application.MediaService;
 import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.FollowRepository;
 import xyz.twooter.member.presentation.dto.response.MemberBasic;
+import xyz.twooter.post.application.dto.TimelineFanoutMessage;
+import xyz.twooter.post.application.dto.ViewerStates;
 import xyz.twooter.post.domain.model.PostType;
 import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.post.domain.repository.projection.PostViewProjection;
 import xyz.twooter.post.domain.repository.projection.TimelineItemProjection;
 import xyz.twooter.post.presentation.dto.response.MediaEntity;
 import xyz.twooter.post.presentation.dto.response.PostResponse;
@@ -33,10 +44,17 @@ import xyz.twooter.post.presentation.dto.response.TimelineResponse;
 public class TimelineService {
 
 	private final PostRepository postRepository;
+	private final PostViewCache postViewCache;
+	private final ViewerStateService viewerStateService;
+	private final LikeCounter likeCounter;
+	private final FollowRepository followRepository;
 	private final MediaService mediaService;
 	private final CursorUtil cursorUtil;
 	private final RedisUtil redisUtil;
-	private static final String TIMELINE_ZSET_PREFIX = "timeline:user:";
+	private final TimelineFanoutPublisher timelineFanoutPublisher;
+	private final SingleFlight singleFlight;
+	private static final String TIMELINE_REBUILD_LOCK_PREFIX = "timeline:rebuild-lock:";
+	private static final long TIMELINE_REBUILD_LOCK_TTL_SECONDS = 30;
 
 	public TimelineResponse getTimelineByUserId(String cursor, Integer limit, Member currentMember,
 		Long targetMemberId) {
@@ -44,57 +62,250 @@ public class TimelineService {
 		CursorUtil.Cursor decodedCursor = extractCursor(cursor);
 		int fetchLimit = limit + 1;
 
-		List<TimelineItemProjection> timelineItems = postRepository.findUserTimelineWithPagination(
-			targetMemberId,
-			memberId,
-			decodedCursor != null ? decodedCursor.getTimestamp() : null,
-			decodedCursor != null ? decodedCursor.getId() : null,
-			fetchLimit
-		);
+		// 조회자와 무관한 페이지를 한 번만 읽고, 좋아요/리포스트 여부는 조회자마다 덮어쓴다.
+		String flightKey = singleFlightKey("user", targetMemberId, cursor, fetchLimit, memberId);
+		List<TimelineItemProjection> timelineItems = singleFlight.execute(flightKey,
+			() -> postRepository.findUserTimelineWithPagination(
+				targetMemberId,
+				null,
+				decodedCursor != null ? decodedCursor.getTimestamp() : null,
+				decodedCursor != null ? decodedCursor.getId() : null,
+				fetchLimit
+			));
 
-		return buildTimelineResponseFromProjections(timelineItems, limit);
+		return buildTimelineResponseFromProjections(withViewerStates(timelineItems, memberId), limit);
 	}
 
 	public TimelineResponse getHomeTimeline(String cursor, Integer limit, Member currentMember) {
 		Long memberId = currentMember.getId();
-		String timelineKey = TIMELINE_ZSET_PREFIX + memberId;
+		String timelineKey = TimelineQueueListener.timelineKey(memberId);
+		CursorUtil.Cursor decodedCursor = extractCursor(cursor);
+		int fetchLimit = limit + 1;
 
-		long start = (cursor != null && !cursor.isBlank()) ? Long.parseLong(cursor) : 0;
-		long end = start + limit;
+		List<String> timelineKeys = new ArrayList<>();
+		timelineKeys.add(timelineKey);
+		findFollowedHighFollowerAuthors(memberId)
+			.forEach(authorId -> timelineKeys.add(TimelineQueueListener.authorPostsKey(authorId)));
 
-		Set<String> postIdsStr = redisUtil.zReverseRange(timelineKey, start, end);
+		List<TimelineEntry> entries = findTimelineEntries(timelineKeys, decodedCursor, fetchLimit);
 
-		if (postIdsStr == null || postIdsStr.isEmpty()) {
+		// 캐시가 비었거나, 상한까지 차 있어 더 오래된 항목이 잘려 나갔을 수 있으면 같은 커서로 DB 에서 이어 읽는다.
+		long cachedSize = entries.size() < fetchLimit ? redisUtil.zCard(timelineKey) : -1;
+		if (cachedSize == 0) {
+			requestTimelineRebuild(memberId);
+		}
+		if (cachedSize == 0 || cachedSize >= TimelineQueueListener.TIMELINE_CACHE_LIMIT) {
 			log.warn("Cache miss for user timeline: {}. Falling back to DB.", memberId);
-			CursorUtil.Cursor decodedCursor = extractCursor(cursor);
-			int fetchLimit = limit + 1;
-			List<TimelineItemProjection> timelineItems = postRepository.findHomeTimelineWithPagination(
-				memberId,
-				decodedCursor != null ? decodedCursor.getTimestamp() : null,
-				decodedCursor != null ? decodedCursor.getId() : null,
-				fetchLimit
-			);
+			String flightKey = singleFlightKey("home", memberId, cursor, fetchLimit, memberId);
+			List<TimelineItemProjection> timelineItems = singleFlight.execute(flightKey,
+				() -> postRepository.findHomeTimelineWithPagination(
+					memberId,
+					decodedCursor != null ? decodedCursor.getTimestamp() : null,
+					decodedCursor != null ? decodedCursor.getId() : null,
+					fetchLimit
+				));
 			return buildTimelineResponseFromProjections(timelineItems, limit);
 		}
 
-		List<Long> postIds = postIdsStr.stream().map(Long::valueOf).toList();
+		boolean hasNext = entries.size() > limit;
+		List<TimelineEntry> responseEntries = hasNext ? entries.subList(0, limit) : entries;
+		List<Long> responsePostIds = responseEntries.stream().map(TimelineEntry::postId).toList();
 
-		boolean hasNext = postIds.size() > limit;
-		List<Long> responsePostIds = hasNext ? postIds.subList(0, limit) : postIds;
+		List<TimelineItemProjection> sortedProjections = hydrateTimelineItems(responsePostIds, memberId);
+
+		// 마지막 항목이 삭제되어 응답에서 빠지더라도 위치는 유지되도록 ZSET 항목의 score 와 ID 로 커서를 만든다.
+		String nextCursor = null;
+		if (hasNext) {
+			TimelineEntry lastEntry = responseEntries.get(responseEntries.size() - 1);
+			nextCursor = cursorUtil.encode(TimelineScore.toCreatedAt(lastEntry.score()), lastEntry.postId());
+		}
 
-		List<TimelineItemProjection> projections = postRepository.findTimelineItemsByPostIds(responsePostIds, memberId);
+		return buildTimelineResponseFromProjections(sortedProjections, limit, hasNext, nextCursor);
+	}
 
-		Map<Long, TimelineItemProjection> projectionMap = projections.stream()
-			.collect(Collectors.toMap(TimelineItemProjection::getOriginalPostId, p -> p));
+	/**
+	 * 타임라인 항목 ID 를 표시용 항목으로 채운다. 포스트 정보는 포스트 뷰 캐시에서 읽고,
+	 * 조회자별 좋아요/리포스트 여부는 ViewerStateService 에서 조회한다. 삭제된 항목은 제외하고 입력 순서를 유지한다.
+	 */
+	private List<TimelineItemProjection> hydrateTimelineItems(List<Long> feedPostIds, Long viewerId) {
+		Map<Long, PostViewProjection> views = postViewCache.getAll(feedPostIds);
+		List<Long> missingOriginalIds = views.values().stream()
+			.filter(PostViewProjection::isRepost)
+			.map(PostViewProjection::getRepostOfId)
+			.filter(originalId -> !views.containsKey(originalId))
+			.distinct()
+			.toList();
+		views.putAll(postViewCache.getAll(missingOriginalIds));
 
-		List<TimelineItemProjection> sortedProjections = responsePostIds.stream()
-			.map(projectionMap::get)
-			.filter(p -> p != null)
+		List<Long> displayedPostIds = feedPostIds.stream()
+			.map(views::get)
+			.filter(Objects::nonNull)
+			.map(view -> view.isRepost() ? view.getRepostOfId() : view.getPostId())
+			.distinct()
 			.toList();
+		ViewerStates viewerStates = viewerStateService.getViewerStates(viewerId, displayedPostIds);
+
+		List<TimelineItemProjection> items = new ArrayList<>();
+		for (Long feedPostId : feedPostIds) {
+			PostViewProjection feed = views.get(feedPostId);
+			PostViewProjection original = feed == null || !feed.isRepost() ? feed : views.get(feed.getRepostOfId());
+			if (feed == null || original == null || !feed.isVisible() || !original.isVisible()) {
+				continue;
+			}
+			items.add(toTimelineItem(feed, original,
+				viewerStates.isLiked(original.getPostId()), viewerStates.isReposted(original.getPostId())));
+		}
+		return items;
+	}
 
-		String nextCursor = hasNext ? String.valueOf(start + limit) : null;
+	private TimelineItemProjection toTimelineItem(PostViewProjection feed, PostViewProjection original,
+		boolean isLiked, boolean isReposted) {
+		boolean isRepost = feed.isRepost();
+		return new TimelineItemProjection(
+			isRepost ? "repost" : "post",
+			feed.getCreatedAt(),
+			feed.getPostId(),
+			original.getPostId(),
+			original.getContent(),
+			original.getAuthorId(),
+			original.getAuthorHandle(),
+			original.getAuthorNickname(),
+			original.getAuthorAvatarPath(),
+			original.getLikeCount(),
+			original.getRepostCount(),
+			isLiked,
+			isReposted,
+			original.getIsDeleted(),
+			original.getCreatedAt(),
+			isRepost ? feed.getAuthorId() : null,
+			isRepost ? feed.getAuthorHandle() : null,
+			isRepost ? feed.getAuthorNickname() : null,
+			isRepost ? feed.getAuthorAvatarPath() : null
+		);
+	}
 
-		return buildTimelineResponseFromProjections(sortedProjections, limit, hasNext, nextCursor);
+	/**
+	 * 조회자와 무관하게 읽은 항목에 조회자별 좋아요/리포스트 여부를 채운다.
+	 * 같은 목록을 여러 조회자가 공유하므로 항목을 바꾸지 않고 복사본을 만든다.
+	 */
+	private List<TimelineItemProjection> withViewerStates(List<TimelineItemProjection> items, Long viewerId) {
+		if (viewerId == null || items.isEmpty()) {
+			return items;
+		}
+		List<Long> postIds = items.stream().map(TimelineItemProjection::getOriginalPostId).distinct().toList();
+		ViewerStates viewerStates = viewerStateService.getViewerStates(viewerId, postIds);
+		return items.stream()
+			.map(item -> item.withViewerState(viewerStates.isLiked(item.getOriginalPostId()),
+				viewerStates.isReposted(item.getOriginalPostId())))
+			.toList();
+	}
+
+	/**
+	 * 동시에 같은 DB 조회를 하는 요청을 묶기 위한 키 (엔드포인트, 대상, 커서, 조회 개수, 로그인 여부)
+	 * 조회자별 상태는 읽은 뒤에 채우므로 조회자 ID 는 넣지 않아, 서로 다른 조회자도 같은 조회를 공유한다.
+	 */
+	private String singleFlightKey(String endpoint, Long targetMemberId, String cursor, int fetchLimit,
+		Long viewerId) {
+		return String.join(":", "timeline", endpoint, String.valueOf(targetMemberId),
+			cursor == null ? "" : cursor, String.valueOf(fetchLimit),
+			viewerId == null ? "anonymous" : "member");
+	}
+
+	private List<Long> findFollowedHighFollowerAuthors(Long memberId) {
+		Set<String> highFollowerAuthorIds = redisUtil.sMembers(TimelineQueueListener.HIGH_FOLLOWER_AUTHORS_KEY);
+		if (highFollowerAuthorIds == null || highFollowerAuthorIds.isEmpty()) {
+			return List.of();
+		}
+		return followRepository.findFolloweeIdsByFollowerIdAndFolloweeIdIn(memberId,
+			highFollowerAuthorIds.stream().map(Long::valueOf).toList());
+	}
+
+	/**
+	 * 비어 있는 타임라인 캐시를 채우는 작업을 큐에 넣는다. 사용자별 짧은 락으로 중복 요청을 막는다.
+	 */
+	private void requestTimelineRebuild(Long memberId) {
+		if (redisUtil.setIfAbsent(RedisKeys.tagged(TIMELINE_REBUILD_LOCK_PREFIX, memberId), "1",
+			TIMELINE_REBUILD_LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
+			timelineFanoutPublisher.publish(TimelineFanoutMessage.ofTimelineRebuild(memberId));
+		}
+	}
+
+	/**
+	 * 커서 이후의 항목을 ZREVRANGEBYSCORE 로 조회해 최신순으로 count 개 반환한다.
+	 * 여러 ZSET(내 타임라인, 팔로우 중인 고팔로워 작성자 목록)은 한 번의 pipeline 으로 읽어 score 기준으로 병합한다.
+	 */
+	private List<TimelineEntry> findTimelineEntries(List<String> timelineKeys, CursorUtil.Cursor cursor, int count) {
+		double maxScore = maxScore(cursor);
+		long fetchCount = count + 1L;
+		List<Set<ZSetOperations.TypedTuple<String>>> firstPages = redisUtil.zReverseRangeByScoreWithScores(
+			timelineKeys, maxScore, fetchCount);
+
+		Map<Long, TimelineEntry> entriesByPostId = new HashMap<>();
+		for (int i = 0; i < timelineKeys.size(); i++) {
+			Set<ZSetOperations.TypedTuple<String>> tuples = firstPages.get(i);
+			List<TimelineEntry> entries = toTimelineEntries(tuples, cursor, maxScore);
+			if (entries.size() < count && tuples != null && tuples.size() >= fetchCount) {
+				// 커서와 같은 score 의 항목이 걸러져 모자란 키만 따로 더 읽는다.
+				entries = findTimelineEntriesAfter(timelineKeys.get(i), cursor, count, fetchCount * 2);
+			}
+			for (TimelineEntry entry : entries) {
+				entriesByPostId.putIfAbsent(entry.postId(), entry);
+			}
+		}
+
+		return entriesByPostId.values().stream()
+			.sorted(TimelineEntry.LATEST_FIRST)
+			.limit(count)
+			.toList();
+	}
+
+	private List<TimelineEntry> findTimelineEntriesAfter(String timelineKey, CursorUtil.Cursor cursor, int count,
+		long fetchCount) {
+		double maxScore = maxScore(cursor);
+
+		// max 는 포함 범위이므로 커서 항목 자신과 같은 score 의 이전 항목을 걸러낸다. 걸러진 만큼 모자라면 더 읽는다.
+		while (true) {
+			Set<ZSetOperations.TypedTuple<String>> tuples = redisUtil.zReverseRangeByScoreWithScores(timelineKey,
+				maxScore, fetchCount);
+			if (tuples == null) {
+				return List.of();
+			}
+
+			List<TimelineEntry> entries = toTimelineEntries(tuples, cursor, maxScore);
+			if (entries.size() >= count || tuples.size() < fetchCount) {
+				return entries;
+			}
+			fetchCount *= 2;
+		}
+	}
+
+	private double maxScore(CursorUtil.Cursor cursor) {
+		return cursor == null
+			? Double.POSITIVE_INFINITY
+			: TimelineScore.of(cursor.getTimestamp(), cursor.getId());
+	}
+
+	private List<TimelineEntry> toTimelineEntries(Set<ZSetOperations.TypedTuple<String>> tuples,
+		CursorUtil.Cursor cursor, double maxScore) {
+		if (tuples == null) {
+			return List.of();
+		}
+		return tuples.stream()
+			.filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+			.map(tuple -> new TimelineEntry(Long.parseLong(tuple.getValue()), tuple.getScore()))
+			.filter(entry -> cursor == null || entry.isAfter(maxScore, cursor.getId()))
+			.toList();
+	}
+
+	private record TimelineEntry(long postId, double score) {
+
+		private static final Comparator<TimelineEntry> LATEST_FIRST = Comparator
+			.comparingDouble(TimelineEntry::score).reversed()
+			.thenComparing(Comparator.comparingLong(TimelineEntry::postId).reversed());
+
+		private boolean isAfter(double cursorScore, long cursorPostId) {
+			return score < cursorScore || (score == cursorScore && postId < cursorPostId);
+		}
 	}
 
 	private TimelineResponse buildTimelineResponseFromProjections(List<TimelineItemProjection> projections,
@@ -106,7 +317,7 @@ public class TimelineService {
 		String nextCursor = null;
 		if (hasNext && !responseItems.isEmpty()) {
 			TimelineItemProjection lastItem = responseItems.get(responseItems.size() - 1);
-			nextCursor = cursorUtil.encode(lastItem.getFeedCreatedAt(), lastItem.getOriginalPostId());
+			nextCursor = cursorUtil.encode(lastItem.getFeedCreatedAt(), lastItem.getFeedPostId());
 		}
 
 		return buildTimelineResponse(responseItems, hasNext, nextCursor);
@@ -127,9 +338,10 @@ public class TimelineService {
 			.distinct()
 			.toList();
 		Map<Long, List<MediaEntity>> mediaByPostId = mediaService.getMediaByPostIds(postIds);
+		Map<Long, Long> pendingLikeDeltas = likeCounter.findPendingDeltas(postIds);
 
 		List<TimelineItemResponse> timelineItems = responseItems.stream()
-			.map(projection -> convertToTimelineItemResponse(projection, mediaByPostId))
+			.map(projection -> convertToTimelineItemResponse(projection, mediaByPostId, pendingLikeDeltas))
 			.toList();
 
 		PaginationMetadata metadata = PaginationMetadata.builder()
@@ -145,7 +357,8 @@ public class TimelineService {
 
 	private TimelineItemResponse convertToTimelineItemResponse(
 		TimelineItemProjection projection,
-		Map<Long, List<MediaEntity>> mediaByPostId
+		Map<Long, List<MediaEntity>> mediaByPostId,
+		Map<Long, Long> pendingLikeDeltas
 	) {
 		List<MediaEntity> mediaEntities = mediaByPostId.getOrDefault(
 			projection.getOriginalPostId(),
@@ -161,7 +374,7 @@ public class TimelineService {
 				projection.getOriginalPostAuthorAvatarPath()
 			))
 			.content(projection.getOriginalPostContent())
-			.likeCount(projection.getLikeCount())
+			.likeCount(projection.getLikeCount() + pendingLikeDeltas.getOrDefault(projection.getOriginalPostId(), 0L))
 			.isLiked(projection.getIsLiked())
 			.repostCount(projection.getRepostCount())
 			.isReposted(projection.getIsReposted())
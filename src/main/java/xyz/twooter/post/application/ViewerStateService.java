@@ -0,0 +1,249 @@
+package xyz.twooter.post.application;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.post.application.dto.ViewerStates;
+import xyz.twooter.post.domain.repository.PostLikeRepository;
+import xyz.twooter.post.domain.repository.PostRepository;
+
+/**
+ * 조회자별 좋아요/리포스트 여부를 한 번에 조회한다.
+ * 회원별 최근 좋아요/리포스트 포스트 ID 를 Redis Sorted Set 에 두고, 집합이 다루지 않는 오래된 포스트만 DB 에서 확인한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ViewerStateService {
+
+	public static final String VIEWER_LIKES_KEY_PREFIX = "viewer:likes:";
+	public static final String VIEWER_REPOSTS_KEY_PREFIX = "viewer:reposts:";
+	// 회원의 좋아요/리포스트가 바뀔 때마다 올리는 번호. DB 를 읽는 동안 바뀌었다면 읽은 목록을 저장하지 않는다.
+	private static final String VIEWER_VERSION_KEY_PREFIX = "viewer:version:";
+	// 집합이 완전한 범위의 하한 (이 ID 이상의 포스트는 집합에 없으면 상호작용하지 않은 것)
+	private static final String FLOOR_MEMBER = "floor";
+
+	// 읽기 전에 확인한 번호가 그대로일 때만 최근 목록을 저장한다. (KEYS: 집합, 번호 / ARGV: 번호, ttl, 멤버1, 점수1, ...)
+	private static final DefaultRedisScript<Long> STORE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+			+ "redis.call('DEL', KEYS[1]) "
+			+ "for i = 3, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) end "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+			+ "return 1",
+		Long.class);
+	private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+		"local version = redis.call('INCR', KEYS[1]) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+			+ "return version",
+		Long.class);
+
+	private final PostLikeRepository postLikeRepository;
+	private final PostRepository postRepository;
+	private final RedisUtil redisUtil;
+
+	@Value("${spring.timeline.viewer-state.recent-size:1000}")
+	private int recentSize;
+
+	@Value("${spring.timeline.viewer-state.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	public ViewerStates getViewerStates(Long viewerId, Collection<Long> postIds) {
+		if (viewerId == null || postIds.isEmpty()) {
+			return ViewerStates.empty();
+		}
+
+		List<Long> distinctPostIds = postIds.stream().distinct().toList();
+		Set<Long> likedPostIds = findInteractedPostIds(likesKey(viewerId), versionKey(viewerId), distinctPostIds,
+			pageable -> postLikeRepository.findRecentLikedPostIds(viewerId, pageable),
+			targetIds -> postLikeRepository.findLikedPostIdsByMemberIdAndPostIdIn(viewerId, targetIds));
+		Set<Long> repostedPostIds = findInteractedPostIds(repostsKey(viewerId), versionKey(viewerId), distinctPostIds,
+			pageable -> postRepository.findRecentRepostedPostIds(viewerId, pageable),
+			targetIds -> postRepository.findRepostedPostIdsByMemberIdAndPostIdIn(viewerId, targetIds));
+		return ViewerStates.of(likedPostIds, repostedPostIds);
+	}
+
+	public void recordLike(Long memberId, Long postId) {
+		afterCommit(() -> addIfPresent(likesKey(memberId), versionKey(memberId), postId));
+	}
+
+	public void removeLike(Long memberId, Long postId) {
+		afterCommit(() -> remove(likesKey(memberId), versionKey(memberId), postId));
+	}
+
+	public void recordRepost(Long memberId, Long postId) {
+		afterCommit(() -> addIfPresent(repostsKey(memberId), versionKey(memberId), postId));
+	}
+
+	public void removeRepost(Long memberId, Long postId) {
+		afterCommit(() -> remove(repostsKey(memberId), versionKey(memberId), postId));
+	}
+
+	private Set<Long> findInteractedPostIds(String key, String versionKey, List<Long> postIds,
+		Function<Pageable, List<Long>> recentLoader, Function<List<Long>, List<Long>> databaseLoader) {
+		List<String> members = new ArrayList<>();
+		members.add(FLOOR_MEMBER);
+		postIds.forEach(postId -> members.add(String.valueOf(postId)));
+
+		List<Double> scores;
+		try {
+			scores = redisUtil.zMScore(key, members);
+		} catch (BusinessException e) {
+			log.warn("Failed to read viewer state: {}. Falling back to DB.", key, e);
+			return new HashSet<>(databaseLoader.apply(postIds));
+		}
+
+		Set<Long> interactedPostIds = new HashSet<>();
+		double floor;
+		if (scores.get(0) == null) {
+			// 집합이 없으면 최근 항목으로 채운 뒤, 읽어 온 값으로 바로 판단한다.
+			RecentInteractions recent = loadRecentInteractions(key, versionKey, recentLoader);
+			floor = recent.floor();
+			postIds.stream().filter(recent.postIds()::contains).forEach(interactedPostIds::add);
+		} else {
+			floor = scores.get(0);
+			for (int i = 0; i < postIds.size(); i++) {
+				if (scores.get(i + 1) != null) {
+					interactedPostIds.add(postIds.get(i));
+				}
+			}
+		}
+
+		// 점수는 double 이라 큰 ID 는 반올림된다. 하한과 같은 값으로 보이는 ID 도 DB 에서 확인한다.
+		double coveredFrom = floor;
+		List<Long> uncoveredPostIds = postIds.stream()
+			.filter(postId -> postId <= coveredFrom && !interactedPostIds.contains(postId))
+			.toList();
+		if (!uncoveredPostIds.isEmpty()) {
+			interactedPostIds.addAll(databaseLoader.apply(uncoveredPostIds));
+		}
+		return interactedPostIds;
+	}
+
+	/**
+	 * DB 에서 최근 항목을 읽어 집합을 만든다.
+	 * 읽는 동안 커밋된 좋아요/리포스트는 집합에 반영되지 않았을 수 있으므로, 읽기 전후로 번호가 바뀌었으면 저장하지 않는다.
+	 */
+	private RecentInteractions loadRecentInteractions(String key, String versionKey,
+		Function<Pageable, List<Long>> recentLoader) {
+		String version = readVersion(versionKey);
+		List<Long> loaded = recentLoader.apply(PageRequest.of(0, recentSize + 1));
+		boolean complete = loaded.size() <= recentSize;
+		List<Long> recentPostIds = complete ? loaded : loaded.subList(0, recentSize);
+		double floor = complete ? 0 : recentPostIds.get(recentPostIds.size() - 1);
+
+		if (version != null) {
+			List<String> args = new ArrayList<>();
+			args.add(version);
+			args.add(String.valueOf(ttlSeconds));
+			args.add(FLOOR_MEMBER);
+			args.add(String.valueOf(floor));
+			recentPostIds.forEach(postId -> {
+				args.add(String.valueOf(postId));
+				args.add(String.valueOf(postId.doubleValue()));
+			});
+			try {
+				redisUtil.execute(STORE_IF_UNCHANGED_SCRIPT, List.of(key, versionKey), args.toArray(String[]::new));
+			} catch (BusinessException e) {
+				log.warn("Failed to store viewer state: {}", key, e);
+			}
+		}
+		return new RecentInteractions(new HashSet<>(recentPostIds), floor);
+	}
+
+	/**
+	 * @return 현재 번호 (아직 없으면 빈 문자열), 읽지 못하면 null
+	 */
+	private String readVersion(String versionKey) {
+		try {
+			String version = redisUtil.mGet(List.of(versionKey)).get(0);
+			return version == null ? "" : version;
+		} catch (BusinessException e) {
+			log.warn("Failed to read viewer state version: {}", versionKey, e);
+			return null;
+		}
+	}
+
+	// 아직 채워지지 않은 집합에는 쓰지 않는다. 하한 없이 만든 집합은 완전하다고 볼 수 없기 때문이다.
+	private void addIfPresent(String key, String versionKey, Long postId) {
+		try {
+			bumpVersion(versionKey);
+			if (redisUtil.hasKey(key)) {
+				redisUtil.zAdd(key, String.valueOf(postId), postId.doubleValue());
+			}
+		} catch (BusinessException e) {
+			log.warn("Failed to record viewer state: {}. Dropping cached set.", key, e);
+			dropQuietly(key);
+		}
+	}
+
+	private void remove(String key, String versionKey, Long postId) {
+		try {
+			bumpVersion(versionKey);
+			redisUtil.zRem(key, String.valueOf(postId));
+		} catch (BusinessException e) {
+			log.warn("Failed to remove viewer state: {}. Dropping cached set.", key, e);
+			dropQuietly(key);
+		}
+	}
+
+	// 번호를 먼저 올려, 이 변경 전에 DB 를 읽은 조회가 오래된 목록을 저장하지 못하게 한다.
+	private void bumpVersion(String versionKey) {
+		redisUtil.execute(INCREMENT_SCRIPT, List.of(versionKey), String.valueOf(ttlSeconds));
+	}
+
+	private void dropQuietly(String key) {
+		try {
+			redisUtil.delete(key);
+		} catch (BusinessException e) {
+			log.error("Failed to drop viewer state: {}", key, e);
+		}
+	}
+
+	// 타임라인 키와 같은 해시 태그(회원 ID)를 붙여 같은 슬롯에 둔다.
+	private static String likesKey(Long memberId) {
+		return RedisKeys.tagged(VIEWER_LIKES_KEY_PREFIX, memberId);
+	}
+
+	private static String repostsKey(Long memberId) {
+		return RedisKeys.tagged(VIEWER_REPOSTS_KEY_PREFIX, memberId);
+	}
+
+	private static String versionKey(Long memberId) {
+		return RedisKeys.tagged(VIEWER_VERSION_KEY_PREFIX, memberId);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+	private record RecentInteractions(Set<Long> postIds, double floor) {
+	}
+}
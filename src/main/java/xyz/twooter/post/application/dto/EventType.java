@@ -4,5 +4,6 @@ public enum EventType {
 	POST_CREATED,
 	POST_DELETED,
 	FOLLOW_CREATED,
-	UNFOLLOW_CREATED
+	UNFOLLOW_CREATED,
+	TIMELINE_REBUILD
 }
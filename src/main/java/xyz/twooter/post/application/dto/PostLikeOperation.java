@@ -0,0 +1,13 @@
+package xyz.twooter.post.application.dto;
+
+import xyz.twooter.post.domain.repository.projection.PostLikeKey;
+
+/**
+ * 모아서 반영할 좋아요 변경 (liked 가 true 면 추가, false 면 취소)
+ */
+public record PostLikeOperation(Long postId, Long memberId, boolean liked) {
+
+	public PostLikeKey key() {
+		return new PostLikeKey(postId, memberId);
+	}
+}
@@ -21,16 +21,32 @@ public class TimelineFanoutMessage {
 	private LocalDateTime createdAt;
 	private Long followerId;
 	private Long followeeId;
+	private Long memberId;
+	// 신뢰 모드에서 처리에 실패해 재시도된 횟수
+	@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+	private Integer attempts;
 
 	@Builder
 	public TimelineFanoutMessage(EventType type, Long postId, Long authorId, LocalDateTime createdAt, Long followerId,
-		Long followeeId) {
+		Long followeeId, Long memberId) {
 		this.type = type;
 		this.postId = postId;
 		this.authorId = authorId;
 		this.createdAt = createdAt;
 		this.followerId = followerId;
 		this.followeeId = followeeId;
+		this.memberId = memberId;
+	}
+
+	public int getAttempts() {
+		return attempts == null ? 0 : attempts;
+	}
+
+	public TimelineFanoutMessage withNextAttempt() {
+		TimelineFanoutMessage next = new TimelineFanoutMessage(type, postId, authorId, createdAt, followerId,
+			followeeId, memberId);
+		next.attempts = getAttempts() + 1;
+		return next;
 	}
 
 	public static TimelineFanoutMessage ofPostCreation(Post post) {
@@ -65,4 +81,11 @@ public class TimelineFanoutMessage {
 			.followeeId(followeeId)
 			.build();
 	}
+
+	public static TimelineFanoutMessage ofTimelineRebuild(Long memberId) {
+		return TimelineFanoutMessage.builder()
+			.type(EventType.TIMELINE_REBUILD)
+			.memberId(memberId)
+			.build();
+	}
 }
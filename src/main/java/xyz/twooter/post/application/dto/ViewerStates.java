@@ -0,0 +1,34 @@
+package xyz.twooter.post.application.dto;
+
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회자 기준 포스트 상호작용 여부 (좋아요, 리포스트)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ViewerStates {
+
+	private static final ViewerStates EMPTY = new ViewerStates(Set.of(), Set.of());
+
+	private final Set<Long> likedPostIds;
+	private final Set<Long> repostedPostIds;
+
+	public static ViewerStates of(Set<Long> likedPostIds, Set<Long> repostedPostIds) {
+		return new ViewerStates(likedPostIds, repostedPostIds);
+	}
+
+	public static ViewerStates empty() {
+		return EMPTY;
+	}
+
+	public boolean isLiked(Long postId) {
+		return likedPostIds.contains(postId);
+	}
+
+	public boolean isReposted(Long postId) {
+		return repostedPostIds.contains(postId);
+	}
+}
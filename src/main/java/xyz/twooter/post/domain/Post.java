@@ -2,8 +2,6 @@ package xyz.twooter.post.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -11,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import xyz.twooter.common.entity.BaseTimeEntity;
+import xyz.twooter.common.infrastructure.id.SnowflakeId;
 import xyz.twooter.member.domain.Member;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -19,7 +18,7 @@ import xyz.twooter.member.domain.Member;
 @Getter
 public class Post extends BaseTimeEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SnowflakeId
 	private Long id;
 
 	@Column(name = "author_id", nullable = false)
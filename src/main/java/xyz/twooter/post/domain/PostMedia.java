@@ -2,8 +2,6 @@ package xyz.twooter.post.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -12,6 +10,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import xyz.twooter.common.entity.BaseCreateTimeEntity;
+import xyz.twooter.common.infrastructure.id.SnowflakeId;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "post_media", uniqueConstraints = {
@@ -22,7 +21,7 @@ import xyz.twooter.common.entity.BaseCreateTimeEntity;
 public class PostMedia extends BaseCreateTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SnowflakeId
 	private Long id;
 
 	@Column(name = "post_id", nullable = false)
@@ -1,8 +1,11 @@
 package xyz.twooter.post.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import xyz.twooter.post.domain.repository.projection.PostViewProjection;
+import xyz.twooter.post.domain.repository.projection.TimelineEntryProjection;
 import xyz.twooter.post.domain.repository.projection.TimelineItemProjection;
 
 public interface PostCustomRepository {
@@ -23,4 +26,10 @@ public interface PostCustomRepository {
 	);
 
 	List<TimelineItemProjection> findTimelineItemsByPostIds(List<Long> postIds, Long viewerId);
+
+	// 포스트 뷰 캐시 적재용: 조회자와 무관한 표시 정보만 조회 (삭제된 포스트 포함)
+	List<PostViewProjection> findPostViewsByIds(Collection<Long> postIds);
+
+	// 홈 타임라인 캐시 재구성용: 표시용 조인 없이 최신 항목의 ID 와 작성 시각만 조회
+	List<TimelineEntryProjection> findRecentHomeTimelineEntries(Long memberId, int limit);
 }
@@ -0,0 +1,81 @@
+package xyz.twooter.post.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import xyz.twooter.common.infrastructure.id.Snowflake;
+import xyz.twooter.post.domain.repository.projection.PostLikeKey;
+
+/**
+ * 모아 둔 좋아요 추가/취소를 여러 행을 한 번에 다루는 문장으로 반영한다.
+ * (post_id, member_id) 쌍 단위로 찾고 지워야 해서 JDBC 로 직접 작성한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeBatchRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public List<PostLikeKey> findExisting(Collection<PostLikeKey> keys) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		String sql = "SELECT post_id, member_id FROM post_like WHERE (post_id, member_id) IN ("
+			+ placeholders(keys.size(), "(?, ?)") + ")";
+		return jdbcTemplate.query(sql,
+			(rs, rowNum) -> new PostLikeKey(rs.getLong("post_id"), rs.getLong("member_id")),
+			keyArgs(keys).toArray());
+	}
+
+	/**
+	 * 행을 한 번에 추가한다. 그 사이 다른 경로로 먼저 들어온 쌍은 유니크 제약에 걸리지 않도록 건너뛴다.
+	 *
+	 * @return 실제로 추가한 행 수
+	 */
+	public int insertAll(Collection<PostLikeKey> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		String sql = "INSERT IGNORE INTO post_like (id, post_id, member_id, created_at) VALUES "
+			+ placeholders(keys.size(), "(?, ?, ?, ?)");
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object> args = new ArrayList<>(keys.size() * 4);
+		for (PostLikeKey key : keys) {
+			args.add(Snowflake.nextId());
+			args.add(key.postId());
+			args.add(key.memberId());
+			args.add(now);
+		}
+		return jdbcTemplate.update(sql, args.toArray());
+	}
+
+	public int deleteAll(Collection<PostLikeKey> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		String sql = "DELETE FROM post_like WHERE (post_id, member_id) IN ("
+			+ placeholders(keys.size(), "(?, ?)") + ")";
+		return jdbcTemplate.update(sql, keyArgs(keys).toArray());
+	}
+
+	private static List<Object> keyArgs(Collection<PostLikeKey> keys) {
+		List<Object> args = new ArrayList<>(keys.size() * 2);
+		for (PostLikeKey key : keys) {
+			args.add(key.postId());
+			args.add(key.memberId());
+		}
+		return args;
+	}
+
+	private static String placeholders(int count, String row) {
+		return String.join(", ", Collections.nCopies(count, row));
+	}
+}
@@ -0,0 +1,36 @@
+package xyz.twooter.post.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 모아 둔 좋아요 수 변화량을 post.like_count 에 한 번의 JDBC batch 로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikeCountRepository {
+
+	private static final String ADD_LIKE_COUNT_SQL =
+		"UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Transactional
+	public void addLikeCounts(Map<Long, Long> deltaByPostId) {
+		if (deltaByPostId.isEmpty()) {
+			return;
+		}
+		// 여러 노드가 동시에 반영하더라도 같은 순서로 row lock 을 잡도록 ID 순으로 정렬한다.
+		List<Object[]> batchArgs = new TreeMap<>(deltaByPostId).entrySet().stream()
+			.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+			.toList();
+		jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, batchArgs);
+	}
+}
@@ -1,5 +1,9 @@
 package xyz.twooter.post.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +19,29 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
 	void deleteByPostIdAndMemberId(Long postId, Long memberId);
 
+	// 토글용: 삭제된 행 수로 좋아요 취소 여부를 판단한다. (derived delete 의 SELECT 없이 한 번에 삭제)
+	@Modifying
+	@Query("DELETE FROM PostLike pl WHERE pl.postId = :postId AND pl.memberId = :memberId")
+	int deleteLike(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+	// 토글용: 이미 있으면 추가하지 않는다. 동시 요청이 먼저 저장해 uk_post_like_post_member 에 걸려도 예외 없이 0 을 반환한다.
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO post_like (id, post_id, member_id, created_at)
+		VALUES (:id, :postId, :memberId, CURRENT_TIMESTAMP(3))
+		""", nativeQuery = true)
+	int insertLikeIfAbsent(@Param("id") Long id, @Param("postId") Long postId, @Param("memberId") Long memberId);
+
+	@Query("SELECT pl.postId FROM PostLike pl WHERE pl.memberId = :memberId AND pl.postId IN :postIds")
+	List<Long> findLikedPostIdsByMemberIdAndPostIdIn(@Param("memberId") Long memberId,
+		@Param("postIds") Collection<Long> postIds);
+
+	@Query("SELECT pl.memberId FROM PostLike pl WHERE pl.postId = :postId")
+	List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
+
+	@Query("SELECT pl.postId FROM PostLike pl WHERE pl.memberId = :memberId ORDER BY pl.postId DESC")
+	List<Long> findRecentLikedPostIds(@Param("memberId") Long memberId, Pageable pageable);
+
 	@Modifying
 	@Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
 	void incrementLikeCount(@Param("postId") Long postId);
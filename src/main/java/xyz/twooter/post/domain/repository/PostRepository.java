@@ -1,9 +1,11 @@
 package xyz.twooter.post.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -67,6 +69,10 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRep
 	@Query("SELECT p.isDeleted FROM  Post p WHERE p.id = :postId")
 	boolean findIsDeletedById(Long postId);
 
+	// 존재 여부와 삭제 여부를 한 번에 확인한다. (없는 포스트면 empty)
+	@Query("SELECT p.isDeleted FROM Post p WHERE p.id = :postId")
+	Optional<Boolean> findDeletionStatusById(@Param("postId") Long postId);
+
 	boolean existsByAuthorIdAndRepostOfId(Long authorId, Long repostOfId);
 
 	@Modifying
@@ -79,6 +85,20 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostCustomRep
 
 	Long findRepostOfIdById(Long postId);
 
+	@Query("""
+		SELECT p.repostOfId FROM Post p
+		WHERE p.authorId = :memberId AND p.repostOfId IN :postIds AND p.isDeleted = false
+		""")
+	List<Long> findRepostedPostIdsByMemberIdAndPostIdIn(@Param("memberId") Long memberId,
+		@Param("postIds") Collection<Long> postIds);
+
+	@Query("""
+		SELECT p.repostOfId FROM Post p
+		WHERE p.authorId = :memberId AND p.repostOfId IS NOT NULL AND p.isDeleted = false
+		ORDER BY p.repostOfId DESC
+		""")
+	List<Long> findRecentRepostedPostIds(@Param("memberId") Long memberId, Pageable pageable);
+
 	List<Post> findTop50ByAuthorIdAndIsDeletedFalseAndRepostOfIdIsNullOrderByIdDesc(Long authorId);
 
 	@Query("SELECT p.id FROM Post p WHERE p.authorId = :authorId AND p.isDeleted = false")
@@ -5,6 +5,7 @@ import static xyz.twooter.member.domain.QFollow.*;
 import static xyz.twooter.post.domain.QPost.*;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -20,6 +21,8 @@ import lombok.RequiredArgsConstructor;
 import xyz.twooter.member.domain.QMember;
 import xyz.twooter.post.domain.QPost;
 import xyz.twooter.post.domain.QPostLike;
+import xyz.twooter.post.domain.repository.projection.PostViewProjection;
+import xyz.twooter.post.domain.repository.projection.TimelineEntryProjection;
 import xyz.twooter.post.domain.repository.projection.TimelineItemProjection;
 
 @RequiredArgsConstructor
@@ -105,6 +108,9 @@ public class PostRepositoryImpl implements PostCustomRepository {
 			// createdAt: 타임라인 정렬 기준
 			post.createdAt,
 
+			// feedPostId: 타임라인 항목 ID (페이지네이션 기준)
+			post.id,
+
 			// postId: 실제 표시할 포스트 ID
 			post.repostOfId.coalesce(post.id),
 
@@ -159,4 +165,48 @@ public class PostRepositoryImpl implements PostCustomRepository {
                 )
                 .fetch();
     }
+
+	@Override
+	public List<PostViewProjection> findPostViewsByIds(Collection<Long> postIds) {
+		if (postIds == null || postIds.isEmpty()) {
+			return List.of();
+		}
+
+		return queryFactory
+			.select(Projections.constructor(PostViewProjection.class,
+				post.id,
+				post.repostOfId,
+				post.content,
+				author.id,
+				author.handle,
+				author.nickname,
+				author.avatarPath,
+				post.likeCount,
+				post.repostCount,
+				post.isDeleted,
+				post.createdAt
+			))
+			.from(post)
+			.join(author).on(post.authorId.eq(author.id))
+			.where(post.id.in(postIds))
+			.fetch();
+	}
+
+	@Override
+	public List<TimelineEntryProjection> findRecentHomeTimelineEntries(Long memberId, int limit) {
+		return queryFactory
+			.select(Projections.constructor(TimelineEntryProjection.class, post.id, post.createdAt))
+			.from(post)
+			.leftJoin(originalPost).on(post.repostOfId.eq(originalPost.id))
+			.leftJoin(follow)
+			.on(follow.followerId.eq(memberId)
+				.and(follow.followeeId.eq(post.authorId)))
+			.where(
+				post.authorId.eq(memberId).or(follow.followerId.isNotNull()),
+				commonPostConditions()
+			)
+			.orderBy(post.createdAt.desc(), post.id.desc())
+			.limit(limit)
+			.fetch();
+	}
 }
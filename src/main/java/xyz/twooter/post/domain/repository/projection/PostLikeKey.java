@@ -0,0 +1,7 @@
+package xyz.twooter.post.domain.repository.projection;
+
+/**
+ * post_like 행을 식별하는 (포스트, 회원) 쌍 (uk_post_like_post_member)
+ */
+public record PostLikeKey(long postId, long memberId) {
+}
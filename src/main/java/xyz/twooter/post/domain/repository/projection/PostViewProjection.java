@@ -0,0 +1,45 @@
+package xyz.twooter.post.domain.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 조회자와 무관한 포스트 표시 정보 (본문, 작성자, 통계, 삭제 여부)
+ * 포스트 뷰 캐시에 그대로 저장되며, 조회자별 좋아요/리포스트 여부는 포함하지 않는다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostViewProjection {
+
+	private Long postId;
+	// 리포스트인 경우 원본 포스트 ID
+	private Long repostOfId;
+	private String content;
+	private Long authorId;
+	private String authorHandle;
+	private String authorNickname;
+	private String authorAvatarPath;
+	private Long likeCount;
+	private Long repostCount;
+	private Boolean isDeleted;
+	private LocalDateTime createdAt;
+
+	@JsonIgnore
+	public boolean isRepost() {
+		return repostOfId != null;
+	}
+
+	@JsonIgnore
+	public boolean isVisible() {
+		return !Boolean.TRUE.equals(isDeleted);
+	}
+}
@@ -0,0 +1,17 @@
+package xyz.twooter.post.domain.repository.projection;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 타임라인 캐시를 채우는 데 필요한 최소 정보 (타임라인 항목 ID, 작성 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class TimelineEntryProjection {
+
+	private final Long feedPostId;
+	private final LocalDateTime feedCreatedAt;
+}
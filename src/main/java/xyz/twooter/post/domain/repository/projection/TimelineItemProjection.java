@@ -11,6 +11,7 @@ public class TimelineItemProjection {
 
 	private final String type;
 	private final LocalDateTime feedCreatedAt;
+	private final Long feedPostId;
 	private final Long originalPostId;
 	private final String originalPostContent;
 	private final Long originalPostAuthorId;
@@ -33,6 +34,8 @@ public class TimelineItemProjection {
 		String type,
 		// feedCreatedAt: 타임라인 정렬 기준
 		LocalDateTime feedCreatedAt,
+		// feedPostId: 타임라인 항목 자체의 ID (리포스트인 경우 리포스트 ID), 커서와 타임라인 캐시의 기준
+		Long feedPostId,
 		// originalPostId: 실제 표시할 포스트 ID
 		Long originalPostId,
 		String originalPostContent,
@@ -56,6 +59,7 @@ public class TimelineItemProjection {
 		String repostAuthorAvatarPath) {
 		this.type = type;
 		this.feedCreatedAt = feedCreatedAt;
+		this.feedPostId = feedPostId;
 		this.originalPostId = originalPostId;
 		this.originalPostContent = originalPostContent;
 		this.originalPostAuthorId = originalPostAuthorId;
@@ -86,4 +90,12 @@ public class TimelineItemProjection {
 	public Long getRepostOfId() {
 		return isRepost() ? originalPostId : null;
 	}
+
+	// 여러 조회자가 같은 항목을 공유하므로 바꾸지 않고 조회자 상태만 다른 복사본을 만든다.
+	public TimelineItemProjection withViewerState(boolean isLiked, boolean isReposted) {
+		return new TimelineItemProjection(type, feedCreatedAt, feedPostId, originalPostId, originalPostContent,
+			originalPostAuthorId, originalPostAuthorHandle, originalPostAuthorNickname, originalPostAuthorAvatarPath,
+			likeCount, repostCount, isLiked, isReposted, isDeleted, originalPostCreatedAt, repostAuthorId,
+			repostAuthorHandle, repostAuthorNickname, repostAuthorAvatarPath);
+	}
 }
@@ -0,0 +1,18 @@
+-- 애플리케이션이 Snowflake ID 를 생성해 INSERT 하므로 AUTO_INCREMENT 를 제거한다.
+ALTER TABLE member
+    MODIFY COLUMN id BIGINT NOT NULL;
+
+ALTER TABLE post
+    MODIFY COLUMN id BIGINT NOT NULL;
+
+ALTER TABLE media
+    MODIFY COLUMN id BIGINT NOT NULL;
+
+ALTER TABLE post_media
+    MODIFY COLUMN id BIGINT NOT NULL;
+
+ALTER TABLE post_like
+    MODIFY COLUMN id BIGINT NOT NULL;
+
+ALTER TABLE follow
+    MODIFY COLUMN id BIGINT NOT NULL;
@@ -0,0 +1,3 @@
+-- 타임라인 캐시의 score/커서가 ms 단위이므로, DB 로 이어 읽을 때 같은 기준으로 비교하도록 ms 까지 저장한다.
+ALTER TABLE post
+    MODIFY COLUMN created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3);
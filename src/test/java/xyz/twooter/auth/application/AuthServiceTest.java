@@ -15,7 +15,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import xyz.twooter.auth.domain.TokenType;
+import xyz.twooter.auth.domain.exception.InvalidTokenException;
 import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
 import xyz.twooter.auth.presentation.dto.request.SignInRequest;
 import xyz.twooter.auth.presentation.dto.request.TokenReissueRequest;
 import xyz.twooter.auth.presentation.dto.response.LogoutResponse;
@@ -68,8 +70,7 @@ class AuthServiceTest extends MockTestSupport {
 		when(authenticationManagerBuilder.getObject()).thenReturn(authenticationManager);
 		when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
 			.thenReturn(authentication);
-		when(
-			jwtUtil.createJwt(eq(TEST_HANDLE), eq(TokenType.ACCESS), anyLong()))
+		when(jwtUtil.createAccessToken(eq(TEST_ID), eq(TEST_HANDLE), anyLong()))
 			.thenReturn(TEST_ACCESS_TOKEN);
 		when(tokenService.createRefreshToken(TEST_HANDLE)).thenReturn(TEST_REFRESH_TOKEN);
 		when(memberService.createMemberSummary(TEST_HANDLE)).thenReturn(memberSummaryResponse);
@@ -93,7 +94,8 @@ class AuthServiceTest extends MockTestSupport {
 
 		when(tokenService.rotateRefreshToken(TEST_REFRESH_TOKEN)).thenReturn(NEW_REFRESH_TOKEN);
 		when(jwtUtil.getHandle(TEST_REFRESH_TOKEN)).thenReturn(TEST_HANDLE);
-		when(jwtUtil.createJwt(eq(TEST_HANDLE), eq(TokenType.ACCESS), anyLong()))
+		when(memberService.findMemberIdByHandle(TEST_HANDLE)).thenReturn(TEST_ID);
+		when(jwtUtil.createAccessToken(eq(TEST_ID), eq(TEST_HANDLE), anyLong()))
 			.thenReturn(NEW_ACCESS_TOKEN);
 
 		// when
@@ -110,8 +112,11 @@ class AuthServiceTest extends MockTestSupport {
 	@DisplayName("로그아웃 시 사용자의 모든 토큰이 무효화되고 액세스 토큰이 블랙리스트에 추가되어야 한다")
 	void shouldRevokeAllTokensAndBlacklistAccessTokenWhenUserLogout() {
 		// given
-		when(jwtUtil.isValid(TEST_ACCESS_TOKEN)).thenReturn(true);
-		when(jwtUtil.getHandle(TEST_ACCESS_TOKEN)).thenReturn(TEST_HANDLE);
+		when(jwtUtil.parseClaims(TEST_ACCESS_TOKEN)).thenReturn(JwtClaims.builder()
+			.handle(TEST_HANDLE)
+			.tokenType(TokenType.ACCESS.name())
+			.expiresAt(System.currentTimeMillis() + 300000L)
+			.build());
 		doNothing().when(tokenService).blacklistToken(TEST_ACCESS_TOKEN, TokenType.ACCESS);
 		doNothing().when(tokenService).revokeAllUserTokens(TEST_HANDLE);
 
@@ -129,7 +134,7 @@ class AuthServiceTest extends MockTestSupport {
 	@DisplayName("유효하지 않은 액세스 토큰으로 로그아웃 시 정상적으로 처리되어야 한다")
 	void shouldHandleLogoutGracefullyWithInvalidToken() {
 		// given
-		when(jwtUtil.isValid(TEST_ACCESS_TOKEN)).thenReturn(false);
+		when(jwtUtil.parseClaims(TEST_ACCESS_TOKEN)).thenThrow(new InvalidTokenException());
 
 		// when
 		LogoutResponse response = authService.logout(TEST_ACCESS_TOKEN);
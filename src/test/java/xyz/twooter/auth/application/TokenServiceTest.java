@@ -4,8 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +17,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 import xyz.twooter.auth.domain.RefreshToken;
 import xyz.twooter.auth.domain.TokenType;
 import xyz.twooter.auth.domain.exception.InvalidTokenException;
+import xyz.twooter.auth.infrastructure.blacklist.RevokedAccessTokenFilter;
 import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore.RotationResult;
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.support.MockTestSupport;
 
@@ -26,9 +29,6 @@ class TokenServiceTest extends MockTestSupport {
 	private final String TEST_HANDLE = "testUser";
 	private final String TEST_TOKEN = "refresh.token.test";
 	private final String NEW_TOKEN = "new.refresh.token";
-	private final String TOKEN_PREFIX = "refresh:token:";
-	private final String USER_PREFIX = "refresh:user:";
-	private final String BLACKLIST_PREFIX_REFRESH = "refresh:blacklist:";
 	private final String BLACKLIST_PREFIX_ACCESS = "access:blacklist:";
 
 	@Mock
@@ -37,6 +37,12 @@ class TokenServiceTest extends MockTestSupport {
 	@Mock
 	private JWTUtil jwtUtil;
 
+	@Mock
+	private RevokedAccessTokenFilter revokedAccessTokenFilter;
+
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+
 	@InjectMocks
 	private TokenService tokenService;
 
@@ -57,24 +63,18 @@ class TokenServiceTest extends MockTestSupport {
 		// then
 		assertEquals(TEST_TOKEN, token);
 		verify(jwtUtil).createJwt(eq(TEST_HANDLE), eq(TokenType.REFRESH), anyLong());
-		verify(redisUtil).set(eq(TOKEN_PREFIX + TEST_TOKEN), any(RefreshToken.class), eq(604800000L),
-			eq(TimeUnit.MILLISECONDS));
-		verify(redisUtil).set(eq(USER_PREFIX + TEST_HANDLE), any(Set.class), eq(604800000L), eq(TimeUnit.MILLISECONDS));
+		verify(refreshTokenStore).save(TEST_TOKEN, TEST_HANDLE, 604800000L);
 	}
 
 	@Test
-	@DisplayName("validateRefreshToken 메서드는 유효한 토큰에 대해 RefreshToken 객체를 반환해야 한다")
-	void shouldReturnRefreshTokenWhenTokenIsValid() {
+	@DisplayName("validateRefreshToken 메서드는 유효한 토큰을 검증해야 한다")
+	void shouldValidateValidRefreshToken() {
 		// given
-		RefreshToken storedToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
+		RefreshToken storedToken = storedToken(false);
 
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(storedToken);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(false);
+		when(refreshTokenStore.find(TEST_TOKEN, TEST_HANDLE)).thenReturn(Optional.of(storedToken));
 		when(jwtUtil.isExpired(TEST_TOKEN)).thenReturn(false);
 
 		// when
@@ -91,7 +91,7 @@ class TokenServiceTest extends MockTestSupport {
 	@DisplayName("validateRefreshToken 메서드는 블랙리스트에 있는 토큰에 대해 예외를 발생시켜야 한다")
 	void shouldThrowExceptionWhenTokenIsBlacklisted() {
 		// given
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(true);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(true);
 		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
 
 		// when & then
@@ -100,15 +100,16 @@ class TokenServiceTest extends MockTestSupport {
 		});
 
 		assertEquals("Refresh token has been used before, possible token theft detected", exception.getMessage());
-		verify(redisUtil).hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN);
+		verify(refreshTokenStore).revokeAll(TEST_HANDLE);
 	}
 
 	@Test
 	@DisplayName("validateRefreshToken 메서드는 Redis에 없는 토큰에 대해 예외를 발생시켜야 한다")
 	void shouldThrowExceptionWhenTokenNotFoundInRedis() {
 		// given
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(false);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(false);
+		when(refreshTokenStore.find(TEST_TOKEN, TEST_HANDLE)).thenReturn(Optional.empty());
 
 		// when & then
 		InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
@@ -122,15 +123,9 @@ class TokenServiceTest extends MockTestSupport {
 	@DisplayName("validateRefreshToken 메서드는 만료된 토큰에 대해 예외를 발생시켜야 한다")
 	void shouldThrowExceptionWhenTokenIsExpired() {
 		// given
-		RefreshToken storedToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(storedToken);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(false);
+		when(refreshTokenStore.find(TEST_TOKEN, TEST_HANDLE)).thenReturn(Optional.of(storedToken(false)));
 		when(jwtUtil.isExpired(TEST_TOKEN)).thenReturn(true);
 
 		// when & then
@@ -139,23 +134,16 @@ class TokenServiceTest extends MockTestSupport {
 		});
 
 		assertEquals("Refresh token has expired", exception.getMessage());
-		verify(redisUtil).delete(TOKEN_PREFIX + TEST_TOKEN);
+		verify(refreshTokenStore).delete(TEST_TOKEN, TEST_HANDLE);
 	}
 
 	@Test
 	@DisplayName("validateRefreshToken 메서드는 취소된 토큰에 대해 예외를 발생시켜야 한다")
 	void shouldThrowExceptionWhenTokenIsRevoked() {
 		// given
-		RefreshToken storedToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-		storedToken.revoke(); // 토큰 취소
-
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(storedToken);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(false);
+		when(refreshTokenStore.find(TEST_TOKEN, TEST_HANDLE)).thenReturn(Optional.of(storedToken(true)));
 
 		// when & then
 		InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
@@ -166,156 +154,106 @@ class TokenServiceTest extends MockTestSupport {
 	}
 
 	@Test
-	@DisplayName("revokeRefreshToken은 사용자 토큰 목록에서 마지막 토큰을 제거하면 Redis에서 삭제해야 한다")
-	void shouldDeleteUserTokenListWhenLastTokenRemoved() {
+	@DisplayName("revokeRefreshToken 메서드는 토큰의 사용자 목록에서 토큰을 무효화해야 한다")
+	void shouldRevokeRefreshToken() {
 		// given
-		RefreshToken storedToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		Set<String> userTokens = new HashSet<>();
-		userTokens.add(TEST_TOKEN);
-
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(storedToken);
-		when(redisUtil.hasKey(USER_PREFIX + TEST_HANDLE)).thenReturn(true);
-		when(redisUtil.get(USER_PREFIX + TEST_HANDLE, Set.class)).thenReturn(userTokens);
-
-		// when
-		tokenService.revokeRefreshToken(TEST_TOKEN);
-
-		// then
-		verify(redisUtil).delete(USER_PREFIX + TEST_HANDLE); // 🔥 핵심 확인
-		verify(redisUtil, never()).set(eq(USER_PREFIX + TEST_HANDLE), any(), anyLong(), any());
-	}
-	
-	@Test
-	@DisplayName("revokeRefreshToken은 사용자 토큰 목록에서 일부 토큰만 제거되면 Redis에 다시 저장해야 한다")
-	void shouldUpdateUserTokenListWhenTokensRemain() {
-		// given
-		RefreshToken storedToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		Set<String> userTokens = new HashSet<>();
-		userTokens.add(TEST_TOKEN);
-		userTokens.add("another.token");
-
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(storedToken);
-		when(redisUtil.hasKey(USER_PREFIX + TEST_HANDLE)).thenReturn(true);
-		when(redisUtil.get(USER_PREFIX + TEST_HANDLE, Set.class)).thenReturn(userTokens);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.revoke(TEST_TOKEN, TEST_HANDLE)).thenReturn(true);
 
 		// when
 		tokenService.revokeRefreshToken(TEST_TOKEN);
 
 		// then
-		verify(redisUtil).set(eq(USER_PREFIX + TEST_HANDLE), argThat(tokens ->
-				tokens instanceof Set && ((Set<?>)tokens).contains("another.token") && ((Set<?>)tokens).size() == 1),
-			eq(604800000L), eq(TimeUnit.MILLISECONDS)
-		);
-		verify(redisUtil, never()).delete(USER_PREFIX + TEST_HANDLE);
+		verify(refreshTokenStore).revoke(TEST_TOKEN, TEST_HANDLE);
 	}
 
 	@Test
 	@DisplayName("revokeAllUserTokens 메서드는 사용자의 모든 토큰을 취소해야 한다")
 	void shouldRevokeAllTokensForUser() {
 		// given
-		Set<String> userTokens = new HashSet<>();
-		userTokens.add(TEST_TOKEN);
-		userTokens.add("another.token");
-
-		RefreshToken token1 = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		RefreshToken token2 = RefreshToken.builder()
-			.id("another.token")
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		when(redisUtil.hasKey(USER_PREFIX + TEST_HANDLE)).thenReturn(true);
-		when(redisUtil.get(USER_PREFIX + TEST_HANDLE, Set.class)).thenReturn(userTokens);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.hasKey(TOKEN_PREFIX + "another.token")).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(token1);
-		when(redisUtil.get(TOKEN_PREFIX + "another.token", RefreshToken.class)).thenReturn(token2);
+		when(refreshTokenStore.revokeAll(TEST_HANDLE)).thenReturn(2L);
 
 		// when
 		tokenService.revokeAllUserTokens(TEST_HANDLE);
 
 		// then
-		verify(redisUtil).set(eq(TOKEN_PREFIX + TEST_TOKEN), any(RefreshToken.class), eq(300L), eq(TimeUnit.SECONDS));
-		verify(redisUtil).set(eq(TOKEN_PREFIX + "another.token"), any(RefreshToken.class), eq(300L),
-			eq(TimeUnit.SECONDS));
-		verify(redisUtil).delete(USER_PREFIX + TEST_HANDLE);
+		verify(refreshTokenStore).revokeAll(TEST_HANDLE);
 	}
 
 	@Test
 	@DisplayName("rotateRefreshToken 메서드는 기존 토큰을 무효화하고 새 토큰을 발급해야 한다")
 	void shouldRevokeOldTokenAndCreateNewOne() {
 		// given
-		RefreshToken oldToken = RefreshToken.builder()
-			.id(TEST_TOKEN)
-			.userHandle(TEST_HANDLE)
-			.expiryDate(LocalDateTime.now().plusDays(7))
-			.build();
-
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
-		when(redisUtil.hasKey(TOKEN_PREFIX + TEST_TOKEN)).thenReturn(true);
-		when(redisUtil.get(TOKEN_PREFIX + TEST_TOKEN, RefreshToken.class)).thenReturn(oldToken);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
 		when(jwtUtil.isExpired(TEST_TOKEN)).thenReturn(false);
 		when(jwtUtil.createJwt(eq(TEST_HANDLE), eq(TokenType.REFRESH), anyLong())).thenReturn(NEW_TOKEN);
+		when(refreshTokenStore.rotate(TEST_TOKEN, NEW_TOKEN, TEST_HANDLE, 604800000L))
+			.thenReturn(RotationResult.ROTATED);
 
 		// when
 		String newToken = tokenService.rotateRefreshToken(TEST_TOKEN);
 
 		// then
 		assertEquals(NEW_TOKEN, newToken);
-		verify(redisUtil).set(eq(TOKEN_PREFIX + TEST_TOKEN), any(RefreshToken.class), eq(300L), eq(TimeUnit.SECONDS));
-		verify(redisUtil).set(eq(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN), anyString(), anyLong(),
-			eq(TimeUnit.MILLISECONDS));
-		verify(jwtUtil).createJwt(eq(TEST_HANDLE), eq(TokenType.REFRESH), anyLong());
+		verify(refreshTokenStore).rotate(TEST_TOKEN, NEW_TOKEN, TEST_HANDLE, 604800000L);
+	}
+
+	@Test
+	@DisplayName("rotateRefreshToken 메서드는 이미 사용한 토큰이면 모든 토큰을 무효화하고 예외를 발생시켜야 한다")
+	void shouldRevokeAllTokensWhenRotatingReusedToken() {
+		// given
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(jwtUtil.isExpired(TEST_TOKEN)).thenReturn(false);
+		when(jwtUtil.createJwt(eq(TEST_HANDLE), eq(TokenType.REFRESH), anyLong())).thenReturn(NEW_TOKEN);
+		when(refreshTokenStore.rotate(TEST_TOKEN, NEW_TOKEN, TEST_HANDLE, 604800000L))
+			.thenReturn(RotationResult.BLACKLISTED);
+
+		// when & then
+		InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> {
+			tokenService.rotateRefreshToken(TEST_TOKEN);
+		});
+
+		assertEquals("Refresh token has been used before, possible token theft detected", exception.getMessage());
+		verify(refreshTokenStore).revokeAll(TEST_HANDLE);
 	}
 
 	@Test
 	@DisplayName("blacklistToken 메서드는 액세스 토큰을 블랙리스트에 추가해야 한다")
 	void shouldAddAccessTokenToBlacklist() {
 		// given
-		when(jwtUtil.isExpired("access.token")).thenReturn(false);
-		when(jwtUtil.getRemainingTimeInMillis("access.token")).thenReturn(300000L);
+		when(jwtUtil.parseClaims("access.token")).thenReturn(accessClaims("access-token-id"));
 
 		// when
 		tokenService.blacklistToken("access.token", TokenType.ACCESS);
 
 		// then
-		verify(redisUtil).set(eq("access:blacklist:access.token"), eq("true"), eq(300000L), eq(TimeUnit.MILLISECONDS));
+		verify(redisUtil).set(eq("access:blacklist:access-token-id"), eq("true"),
+			longThat(ttl -> ttl > 0 && ttl <= 300000L), eq(TimeUnit.MILLISECONDS));
+		verify(revokedAccessTokenFilter).revoke(eq("access-token-id"), anyLong());
 	}
 
 	@Test
 	@DisplayName("blacklistToken 메서드는 리프레시 토큰을 블랙리스트에 추가해야 한다")
 	void shouldAddRefreshTokenToBlacklist() {
+		// given
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+
 		// when
 		tokenService.blacklistToken(TEST_TOKEN, TokenType.REFRESH);
 
 		// then
-		verify(redisUtil).set(eq(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN), anyString(), eq(604800000L),
-			eq(TimeUnit.MILLISECONDS));
+		verify(refreshTokenStore).blacklist(TEST_TOKEN, TEST_HANDLE, 604800000L);
 	}
 
 	@Test
 	@DisplayName("isTokenBlacklisted 메서드는 블랙리스트에 있는 토큰을 확인해야 한다")
 	void shouldCheckIfTokenIsBlacklisted() {
 		// given
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_ACCESS + "access.token")).thenReturn(true);
-		when(redisUtil.hasKey(BLACKLIST_PREFIX_REFRESH + TEST_TOKEN)).thenReturn(false);
+		when(jwtUtil.parseClaims("access.token")).thenReturn(accessClaims("access-token-id"));
+		when(revokedAccessTokenFilter.mightBeRevoked("access-token-id")).thenReturn(true);
+		when(redisUtil.hasKey(BLACKLIST_PREFIX_ACCESS + "access-token-id")).thenReturn(true);
+		when(jwtUtil.getHandle(TEST_TOKEN)).thenReturn(TEST_HANDLE);
+		when(refreshTokenStore.isBlacklisted(TEST_TOKEN, TEST_HANDLE)).thenReturn(false);
 
 		// when
 		boolean accessResult = tokenService.isTokenBlacklisted("access.token", TokenType.ACCESS);
@@ -325,4 +263,36 @@ class TokenServiceTest extends MockTestSupport {
 		assertTrue(accessResult);
 		assertFalse(refreshResult);
 	}
+
+	@Test
+	@DisplayName("isAccessTokenBlacklisted 메서드는 로컬 필터에 없는 토큰이면 Redis 를 조회하지 않아야 한다")
+	void shouldSkipRedisWhenFilterHasNoEntry() {
+		// given
+		when(revokedAccessTokenFilter.mightBeRevoked("access-token-id")).thenReturn(false);
+
+		// when
+		boolean result = tokenService.isAccessTokenBlacklisted(accessClaims("access-token-id"));
+
+		// then
+		assertFalse(result);
+		verify(redisUtil, never()).hasKey(anyString());
+	}
+
+	private RefreshToken storedToken(boolean revoked) {
+		return RefreshToken.builder()
+			.id(TEST_TOKEN)
+			.userHandle(TEST_HANDLE)
+			.revoke(revoked)
+			.expiryDate(LocalDateTime.now().plusDays(7))
+			.build();
+	}
+
+	private JwtClaims accessClaims(String tokenId) {
+		return JwtClaims.builder()
+			.tokenId(tokenId)
+			.handle(TEST_HANDLE)
+			.tokenType(TokenType.ACCESS.name())
+			.expiresAt(System.currentTimeMillis() + 300000L)
+			.build();
+	}
 }
@@ -0,0 +1,81 @@
+package xyz.twooter.auth.infrastructure.blacklist;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import xyz.twooter.auth.application.TokenService;
+import xyz.twooter.auth.infrastructure.jwt.JWTUtil;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.support.IntegrationTestSupport;
+
+class RevokedAccessTokenFilterTest extends IntegrationTestSupport {
+
+	@Autowired
+	private RevokedAccessTokenFilter revokedAccessTokenFilter;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private JWTUtil jwtUtil;
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	private String token;
+
+	@AfterEach
+	void tearDown() {
+		String tokenId = JWTUtil.hash(token);
+		redisUtil.deleteAll(List.of(RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + token,
+			RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + tokenId));
+		redisUtil.zRem(RevokedAccessTokenFilter.REVOKED_INDEX_KEY, tokenId);
+	}
+
+	@Test
+	@DisplayName("성공 - 토큰 원문을 키로 쓰던 이전 블랙리스트 항목도 재구성 후 무효화된 것으로 확인한다")
+	void shouldMigrateLegacyBlacklistKeyOnRebuild() {
+		// given
+		token = jwtUtil.createAccessToken(1L, "legacy-user", 60_000L);
+		String legacyKey = RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + token;
+		redisUtil.set(legacyKey, "true", 60_000L, TimeUnit.MILLISECONDS);
+		// 시작할 때 이전 키가 없어 옮기기를 멈췄을 수 있으므로 다시 켠다.
+		ReflectionTestUtils.setField(revokedAccessTokenFilter, "legacyKeysRemaining", true);
+
+		// when
+		revokedAccessTokenFilter.rebuild();
+
+		// then
+		String tokenId = JWTUtil.hash(token);
+		assertThat(revokedAccessTokenFilter.mightBeRevoked(tokenId)).isTrue();
+		assertThat(tokenService.isAccessTokenBlacklisted(jwtUtil.parseClaims(token))).isTrue();
+		assertThat(redisUtil.getExpire(RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + tokenId, TimeUnit.MILLISECONDS))
+			.isPositive()
+			.isLessThanOrEqualTo(60_000L);
+		assertThat(redisUtil.hasKey(legacyKey)).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공 - 이전 키를 찾지 못한 재구성 이후에는 이전 키를 더 찾지 않는다")
+	void shouldStopMigratingAfterPassWithoutLegacyKeys() {
+		// given
+		ReflectionTestUtils.setField(revokedAccessTokenFilter, "legacyKeysRemaining", true);
+		revokedAccessTokenFilter.rebuild();
+		token = jwtUtil.createAccessToken(1L, "legacy-user", 60_000L);
+		redisUtil.set(RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + token, "true", 60_000L, TimeUnit.MILLISECONDS);
+
+		// when
+		revokedAccessTokenFilter.rebuild();
+
+		// then
+		assertThat(redisUtil.hasKey(RevokedAccessTokenFilter.REVOKED_KEY_PREFIX + JWTUtil.hash(token))).isFalse();
+	}
+}
@@ -0,0 +1,106 @@
+package xyz.twooter.auth.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import xyz.twooter.auth.application.TokenService;
+import xyz.twooter.auth.infrastructure.usersdetails.CustomUserDetails;
+import xyz.twooter.auth.infrastructure.usersdetails.CustomUserDetailsService;
+import xyz.twooter.member.domain.Member;
+import xyz.twooter.support.MockTestSupport;
+
+class JWTFilterTest extends MockTestSupport {
+
+	private static final String TOKEN = "access-token";
+
+	@Mock
+	private JWTUtil jwtUtil;
+
+	@Mock
+	private CustomUserDetailsService userDetailsService;
+
+	@Mock
+	private TokenService tokenService;
+
+	private JWTFilter jwtFilter;
+
+	@BeforeEach
+	void setUp() {
+		jwtFilter = new JWTFilter(jwtUtil, userDetailsService, tokenService,
+			AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/posts/*"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("공개 조회 경로는 인증 정보를 읽기 전까지 토큰을 검증하지 않고, 읽을 때 한 번만 검증한다")
+	void shouldDeferAuthenticationOnPublicReadPath() throws Exception {
+		// given
+		givenValidToken();
+		MockHttpServletRequest request = requestWithToken("GET", "/api/posts/1");
+
+		// when
+		jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		verifyNoInteractions(jwtUtil, tokenService, userDetailsService);
+
+		Authentication first = SecurityContextHolder.getContext().getAuthentication();
+		Authentication second = SecurityContextHolder.getContext().getAuthentication();
+		assertThat(((CustomUserDetails)first.getPrincipal()).getMember().getId()).isEqualTo(1L);
+		assertThat(second).isSameAs(first);
+		verify(jwtUtil, times(1)).parseClaims(TOKEN);
+		verify(tokenService, times(1)).isAccessTokenBlacklisted(any());
+	}
+
+	@Test
+	@DisplayName("그 밖의 경로는 필터에서 바로 토큰을 검증한다")
+	void shouldAuthenticateEagerlyOnOtherPaths() throws Exception {
+		// given
+		givenValidToken();
+		MockHttpServletRequest request = requestWithToken("POST", "/api/posts/1/like");
+
+		// when
+		jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		// then
+		verify(jwtUtil).parseClaims(TOKEN);
+		verify(userDetailsService).loadUserByClaims(any());
+	}
+
+	private void givenValidToken() {
+		JwtClaims claims = JwtClaims.builder()
+			.tokenId("token-id")
+			.memberId(1L)
+			.handle("testUser")
+			.tokenType("ACCESS")
+			.expiresAt(System.currentTimeMillis() + 60000L)
+			.build();
+		when(jwtUtil.parseClaims(TOKEN)).thenReturn(claims);
+		when(tokenService.isAccessTokenBlacklisted(claims)).thenReturn(false);
+		when(userDetailsService.loadUserByClaims(claims)).thenReturn(
+			new CustomUserDetails(Member.builder().id(1L).handle("testUser").build()));
+	}
+
+	private MockHttpServletRequest requestWithToken(String method, String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, JWTFilter.TOKEN_PREFIX + TOKEN);
+		return request;
+	}
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import xyz.twooter.auth.domain.TokenType;
+import xyz.twooter.auth.domain.exception.InvalidTokenException;
 
 class JWTUtilTest {
 
@@ -42,4 +43,47 @@ class JWTUtilTest {
 		assertThat(jwtUtil.isExpired(token)).isTrue();
 	}
 
+	@Test
+	@DisplayName("한 번 파싱한 토큰은 같은 클레임 객체를 재사용한다")
+	void parseClaimsReusesVerifiedClaims() {
+		// given
+		String token = jwtUtil.createJwt("testUser", TokenType.ACCESS, 3600000L);
+
+		// when
+		JwtClaims first = jwtUtil.parseClaims(token);
+		JwtClaims second = jwtUtil.parseClaims(token);
+
+		// then
+		assertThat(first.getHandle()).isEqualTo("testUser");
+		assertThat(first.getTokenType()).isEqualTo(TokenType.ACCESS.name());
+		assertThat(first.isExpired()).isFalse();
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("액세스 토큰에는 회원 ID 가 포함된다")
+	void accessTokenContainsMemberId() {
+		// given
+		String token = jwtUtil.createAccessToken(1234567890123456789L, "testUser", 3600000L);
+
+		// when
+		JwtClaims claims = jwtUtil.parseClaims(token);
+
+		// then
+		assertThat(claims.getMemberId()).isEqualTo(1234567890123456789L);
+		assertThat(claims.getHandle()).isEqualTo("testUser");
+		assertThat(claims.getTokenType()).isEqualTo(TokenType.ACCESS.name());
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰은 InvalidTokenException 이 발생한다")
+	void parseClaimsRejectsTokenSignedWithOtherKey() {
+		// given
+		JWTUtil otherJwtUtil = new JWTUtil("otherSecretKeyotherSecretKeyotherSecretKeyotherSecretKey");
+		String token = otherJwtUtil.createJwt("testUser", TokenType.ACCESS, 3600000L);
+
+		// when & then
+		assertThatThrownBy(() -> jwtUtil.parseClaims(token))
+			.isInstanceOf(InvalidTokenException.class);
+	}
 }
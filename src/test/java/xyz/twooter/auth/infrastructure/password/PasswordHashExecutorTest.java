@@ -0,0 +1,88 @@
+package xyz.twooter.auth.infrastructure.password;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import xyz.twooter.common.error.BusinessException;
+import xyz.twooter.common.error.ErrorCode;
+
+class PasswordHashExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHashExecutor passwordHashExecutor;
+
+	@BeforeEach
+	void setUp() {
+		passwordHashExecutor = new PasswordHashExecutor(meterRegistry);
+		ReflectionTestUtils.setField(passwordHashExecutor, "threads", 1);
+		ReflectionTestUtils.setField(passwordHashExecutor, "queueCapacity", 1);
+		ReflectionTestUtils.setField(passwordHashExecutor, "timeoutMillis", 3000L);
+		passwordHashExecutor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		passwordHashExecutor.stop();
+	}
+
+	@Test
+	@DisplayName("성공 - 해시 결과를 반환하고 실행 시간을 기록한다")
+	void shouldReturnResultAndRecordLatency() {
+		// when
+		String result = passwordHashExecutor.execute("encode", () -> "hashed");
+
+		// then
+		assertThat(result).isEqualTo("hashed");
+		assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("실패 - 스레드와 대기열이 모두 차 있으면 기다리지 않고 TOO_MANY_REQUESTS 로 거절한다")
+	void shouldRejectWhenQueueIsFull() throws InterruptedException {
+		// given - 스레드 하나는 실행 중, 대기열 한 칸은 대기 중
+		CountDownLatch started = new CountDownLatch(1);
+		Thread running = new Thread(() -> passwordHashExecutor.execute("matches", () -> {
+			started.countDown();
+			return await(release);
+		}));
+		running.start();
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		Thread queued = new Thread(() -> passwordHashExecutor.execute("matches", () -> true));
+		queued.start();
+		while (meterRegistry.get("auth.password.hash.queue.size").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+
+		// when & then
+		assertThatThrownBy(() -> passwordHashExecutor.execute("matches", () -> true))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+		assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		running.join();
+		queued.join();
+	}
+
+	private boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package xyz.twooter.auth.infrastructure.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import xyz.twooter.auth.domain.RefreshToken;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore.RotationResult;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.support.IntegrationTestSupport;
+
+class RefreshTokenStoreTest extends IntegrationTestSupport {
+
+	private static final String HANDLE = "storeUser";
+	private static final long TTL_MILLIS = 60_000L;
+
+	@Autowired
+	private RefreshTokenStore refreshTokenStore;
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	private final List<String> tokens = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		List<String> keys = new ArrayList<>();
+		keys.add("refresh:tokens:{" + HANDLE + "}");
+		keys.add("refresh:user:" + HANDLE);
+		tokens.forEach(token -> {
+			keys.add("refresh:session:{" + HANDLE + "}:" + token);
+			keys.add("refresh:blacklist:{" + HANDLE + "}:" + token);
+			keys.add("refresh:token:" + token);
+			keys.add("refresh:blacklist:" + token);
+		});
+		redisUtil.deleteAll(keys);
+	}
+
+	@Test
+	@DisplayName("성공 - 토큰을 교체하면 기존 토큰은 무효화되고 새 토큰이 저장된다")
+	void shouldRotateToken() {
+		// given
+		String oldToken = token("old");
+		String newToken = token("new");
+		refreshTokenStore.save(oldToken, HANDLE, TTL_MILLIS);
+
+		// when
+		RotationResult result = refreshTokenStore.rotate(oldToken, newToken, HANDLE, TTL_MILLIS);
+
+		// then
+		assertThat(result).isEqualTo(RotationResult.ROTATED);
+		assertThat(refreshTokenStore.find(oldToken, HANDLE)).get().extracting(RefreshToken::isRevoke).isEqualTo(true);
+		assertThat(refreshTokenStore.isBlacklisted(oldToken, HANDLE)).isTrue();
+		assertThat(refreshTokenStore.find(newToken, HANDLE)).get().extracting(RefreshToken::getUserHandle).isEqualTo(HANDLE);
+		assertThat(redisUtil.sMembers("refresh:tokens:{" + HANDLE + "}")).containsExactly(newToken);
+	}
+
+	@Test
+	@DisplayName("성공 - 같은 토큰으로 동시에 교체하면 하나만 성공하고 나머지는 재사용으로 처리된다")
+	void shouldRotateOnlyOnceWhenRequestedConcurrently() throws Exception {
+		// given
+		String oldToken = token("old");
+		refreshTokenStore.save(oldToken, HANDLE, TTL_MILLIS);
+		int requests = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(requests);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<RotationResult>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < requests; i++) {
+			String newToken = token("new-" + i);
+			Callable<RotationResult> rotate = () -> {
+				start.await();
+				return refreshTokenStore.rotate(oldToken, newToken, HANDLE, TTL_MILLIS);
+			};
+			results.add(executor.submit(rotate));
+		}
+		start.countDown();
+		List<RotationResult> outcomes = new ArrayList<>();
+		for (Future<RotationResult> result : results) {
+			outcomes.add(result.get());
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(outcomes).filteredOn(RotationResult.ROTATED::equals).hasSize(1);
+		assertThat(outcomes).filteredOn(RotationResult.BLACKLISTED::equals).hasSize(requests - 1);
+		assertThat(redisUtil.sMembers("refresh:tokens:{" + HANDLE + "}")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 모든 토큰을 무효화하면 토큰 목록이 비고 각 토큰은 무효화 상태가 된다")
+	void shouldRevokeAllTokens() {
+		// given
+		String first = token("first");
+		String second = token("second");
+		refreshTokenStore.save(first, HANDLE, TTL_MILLIS);
+		refreshTokenStore.save(second, HANDLE, TTL_MILLIS);
+
+		// when
+		long revoked = refreshTokenStore.revokeAll(HANDLE);
+
+		// then
+		assertThat(revoked).isEqualTo(2);
+		assertThat(refreshTokenStore.find(first, HANDLE)).get().extracting(RefreshToken::isRevoke).isEqualTo(true);
+		assertThat(refreshTokenStore.find(second, HANDLE)).get().extracting(RefreshToken::isRevoke).isEqualTo(true);
+		assertThat(redisUtil.hasKey("refresh:tokens:{" + HANDLE + "}")).isFalse();
+		assertThat(refreshTokenStore.rotate(first, token("next"), HANDLE, TTL_MILLIS))
+			.isEqualTo(RotationResult.REVOKED);
+	}
+
+	@Test
+	@DisplayName("성공 - 이전 형식으로 저장된 토큰도 교체할 수 있고, 새 형식으로 옮겨진다")
+	void shouldRotateLegacyToken() {
+		// given
+		String oldToken = token("legacy");
+		String newToken = token("new");
+		saveLegacy(oldToken, false);
+
+		// when
+		RotationResult result = refreshTokenStore.rotate(oldToken, newToken, HANDLE, TTL_MILLIS);
+
+		// then
+		assertThat(result).isEqualTo(RotationResult.ROTATED);
+		assertThat(redisUtil.hasKey("refresh:token:" + oldToken)).isFalse();
+		assertThat(refreshTokenStore.find(oldToken, HANDLE)).get().extracting(RefreshToken::isRevoke).isEqualTo(true);
+		assertThat(refreshTokenStore.find(newToken, HANDLE)).get().extracting(RefreshToken::getUserHandle).isEqualTo(HANDLE);
+		assertThat(redisUtil.sMembers("refresh:tokens:{" + HANDLE + "}")).containsExactly(newToken);
+	}
+
+	@Test
+	@DisplayName("성공 - 이전 형식 블랙리스트에 있는 토큰으로 교체하면 재사용으로 처리된다")
+	void shouldDetectReuseOfLegacyBlacklistedToken() {
+		// given
+		String oldToken = token("legacy");
+		saveLegacy(oldToken, true);
+		redisUtil.set("refresh:blacklist:" + oldToken, LocalDateTime.now().toString(), TTL_MILLIS, TimeUnit.MILLISECONDS);
+
+		// when
+		RotationResult result = refreshTokenStore.rotate(oldToken, token("new"), HANDLE, TTL_MILLIS);
+
+		// then
+		assertThat(result).isEqualTo(RotationResult.BLACKLISTED);
+		assertThat(refreshTokenStore.isBlacklisted(oldToken, HANDLE)).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공 - 모든 토큰을 무효화하면 이전 형식 토큰도 무효화된다")
+	void shouldRevokeLegacyTokensOnRevokeAll() {
+		// given
+		String legacyToken = token("legacy");
+		saveLegacy(legacyToken, false);
+		Set<String> legacyTokens = new HashSet<>(Set.of(legacyToken));
+		redisUtil.set("refresh:user:" + HANDLE, legacyTokens, TTL_MILLIS, TimeUnit.MILLISECONDS);
+
+		// when
+		long revoked = refreshTokenStore.revokeAll(HANDLE);
+
+		// then
+		assertThat(revoked).isEqualTo(1);
+		assertThat(redisUtil.hasKey("refresh:user:" + HANDLE)).isFalse();
+		assertThat(refreshTokenStore.rotate(legacyToken, token("next"), HANDLE, TTL_MILLIS))
+			.isEqualTo(RotationResult.REVOKED);
+	}
+
+	// 배포 이전 TokenService 가 저장하던 형식
+	private void saveLegacy(String token, boolean revoked) {
+		RefreshToken legacy = RefreshToken.builder()
+			.id(token)
+			.userHandle(HANDLE)
+			.revoke(revoked)
+			.expiryDate(LocalDateTime.now().plusNanos(TTL_MILLIS * 1_000_000))
+			.build();
+		redisUtil.set("refresh:token:" + token, legacy, TTL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	private String token(String name) {
+		String token = "refresh-store-test-" + name;
+		tokens.add(token);
+		return token;
+	}
+}
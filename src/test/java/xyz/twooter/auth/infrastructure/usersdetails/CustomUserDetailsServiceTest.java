@@ -6,12 +6,13 @@ import static org.mockito.Mockito.*;
 
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import xyz.twooter.auth.infrastructure.jwt.JwtClaims;
 import xyz.twooter.member.domain.Member;
 import xyz.twooter.member.domain.exception.MemberNotFoundException;
 import xyz.twooter.member.domain.repository.MemberRepository;
@@ -21,9 +22,13 @@ class CustomUserDetailsServiceTest extends MockTestSupport {
 	@Mock
 	private MemberRepository memberRepository;
 
-	@InjectMocks
 	private CustomUserDetailsService userDetailsService;
 
+	@BeforeEach
+	void setUp() {
+		userDetailsService = new CustomUserDetailsService(memberRepository, false, 60000L, 10000);
+	}
+
 	@Test
 	@DisplayName("존재하는 사용자 로드")
 	void loadExistingUser() {
@@ -59,4 +64,47 @@ class CustomUserDetailsServiceTest extends MockTestSupport {
 			userDetailsService.loadUserByUsername(handle);
 		});
 	}
+
+	@Test
+	@DisplayName("회원 ID 가 담긴 토큰은 DB 조회 없이 인증 정보를 만든다")
+	void loadUserByClaimsWithoutQuery() {
+		// given
+		JwtClaims claims = JwtClaims.builder()
+			.memberId(1L)
+			.handle("testUser")
+			.tokenType("ACCESS")
+			.expiresAt(System.currentTimeMillis() + 60000L)
+			.build();
+
+		// when
+		UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
+
+		// then
+		Member member = ((CustomUserDetails)userDetails).getMember();
+		assertThat(member.getId()).isEqualTo(1L);
+		assertThat(member.getHandle()).isEqualTo("testUser");
+		verifyNoInteractions(memberRepository);
+	}
+
+	@Test
+	@DisplayName("회원 ID 가 없는 이전 토큰은 회원을 조회한다")
+	void loadUserByClaimsWithoutMemberId() {
+		// given
+		Member member = Member.builder()
+			.id(1L)
+			.handle("testUser")
+			.build();
+		JwtClaims claims = JwtClaims.builder()
+			.handle("testUser")
+			.tokenType("ACCESS")
+			.expiresAt(System.currentTimeMillis() + 60000L)
+			.build();
+		when(memberRepository.findByHandle("testUser")).thenReturn(Optional.of(member));
+
+		// when
+		UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
+
+		// then
+		assertThat(((CustomUserDetails)userDetails).getMember()).isSameAs(member);
+	}
 }
@@ -0,0 +1,43 @@
+package xyz.twooter.common.infrastructure.bloom;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("성공 - 넣은 값은 항상 있다고 답해야 한다")
+	void shouldNeverReturnFalseNegative() {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		List<String> values = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+		// when
+		values.forEach(bloomFilter::put);
+
+		// then
+		assertThat(values).allMatch(bloomFilter::mightContain);
+	}
+
+	@Test
+	@DisplayName("성공 - 넣지 않은 값의 오탐률은 설정한 값 근처여야 한다")
+	void shouldKeepFalsePositiveRateNearConfiguredValue() {
+		// given
+		BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("revoked-" + i));
+
+		// when
+		long falsePositives = IntStream.range(0, 100_000)
+			.filter(i -> bloomFilter.mightContain("active-" + i))
+			.count();
+
+		// then
+		assertThat(falsePositives).isLessThan(3_000);
+	}
+}
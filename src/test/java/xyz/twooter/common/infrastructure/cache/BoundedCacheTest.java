@@ -0,0 +1,98 @@
+package xyz.twooter.common.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedCacheTest {
+
+	private static final long NOT_EXPIRED = Long.MAX_VALUE;
+
+	@Test
+	@DisplayName("성공 - 최대 개수를 넘으면 먼저 넣은 항목부터 지운다")
+	void shouldEvictEldestEntryWhenFull() {
+		// given
+		BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+
+		// when
+		cache.put("a", 1, NOT_EXPIRED);
+		cache.put("b", 2, NOT_EXPIRED);
+		cache.put("c", 3, NOT_EXPIRED);
+
+		// then
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.get("b")).isEqualTo(2);
+		assertThat(cache.get("c")).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("성공 - 다시 넣은 키는 이전 항목이 밀려날 때 함께 지워지지 않는다")
+	void shouldKeepReinsertedKeyWhenStaleEntryIsEvicted() {
+		// given
+		BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+		cache.put("a", 1, NOT_EXPIRED);
+		cache.invalidate("a");
+		cache.put("a", 10, NOT_EXPIRED);
+
+		// when
+		cache.put("b", 2, NOT_EXPIRED);
+
+		// then
+		assertThat(cache.get("a")).isEqualTo(10);
+		assertThat(cache.get("b")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("성공 - 만료된 항목은 조회되지 않는다")
+	void shouldNotReturnExpiredEntry() {
+		// given
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+
+		// when
+		cache.put("expired", 1, System.currentTimeMillis() - 1);
+
+		// then
+		assertThat(cache.get("expired")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 스레드가 동시에 넣어도 최대 개수를 넘지 않는다")
+	void shouldStayBoundedUnderConcurrentPuts() throws Exception {
+		// given
+		int maxSize = 100;
+		int threads = 8;
+		BoundedCache<String, Integer> cache = new BoundedCache<>(maxSize);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+
+		// when
+		for (int t = 0; t < threads; t++) {
+			int thread = t;
+			results.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < 1_000; i++) {
+					cache.put(thread + ":" + i, i, NOT_EXPIRED);
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> result : results) {
+			result.get();
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+	}
+}
@@ -0,0 +1,80 @@
+package xyz.twooter.common.infrastructure.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	@Test
+	@DisplayName("성공 - 같은 키로 동시에 들어온 요청은 한 번만 실행하고 결과를 공유해야 한다")
+	void shouldShareResultWhenSameKeyIsLoadedConcurrently() throws Exception {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loaderStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoader = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when
+		Future<List<Long>> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+			loadCount.incrementAndGet();
+			loaderStarted.countDown();
+			await(releaseLoader);
+			return List.of(1L, 2L);
+		}));
+		loaderStarted.await(1, TimeUnit.SECONDS);
+		Future<List<Long>> follower = executor.submit(() -> singleFlight.execute("key", () -> {
+			loadCount.incrementAndGet();
+			return List.of(3L);
+		}));
+		Thread.sleep(100); // follower 가 진행 중인 요청에 합류할 시간
+		releaseLoader.countDown();
+
+		// then
+		assertThat(leader.get(1, TimeUnit.SECONDS)).containsExactly(1L, 2L);
+		assertThat(follower.get(1, TimeUnit.SECONDS)).isSameAs(leader.get());
+		assertThat(loadCount).hasValue(1);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("성공 - 실행이 끝난 뒤의 요청은 다시 실행해야 한다")
+	void shouldLoadAgainAfterPreviousCallCompleted() {
+		// given
+		AtomicInteger loadCount = new AtomicInteger();
+
+		// when
+		singleFlight.execute("key", loadCount::incrementAndGet);
+		Integer second = singleFlight.execute("key", loadCount::incrementAndGet);
+
+		// then
+		assertThat(second).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("실패 - loader 의 예외는 호출자에게 그대로 전달되어야 한다")
+	void shouldPropagateExceptionFromLoader() {
+		assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(IllegalStateException.class);
+	}
+
+	private void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
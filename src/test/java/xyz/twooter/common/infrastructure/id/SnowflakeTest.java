@@ -0,0 +1,48 @@
+package xyz.twooter.common.infrastructure.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeTest {
+
+	@Test
+	@DisplayName("성공 - 연속으로 생성한 ID 는 항상 증가해야 한다")
+	void shouldGenerateIncreasingIds() {
+		// given
+		Snowflake snowflake = new Snowflake(1);
+		long previous = snowflake.next();
+
+		// when & then
+		for (int i = 0; i < 100_000; i++) {
+			long current = snowflake.next();
+			assertThat(current).isGreaterThan(previous);
+			previous = current;
+		}
+	}
+
+	@Test
+	@DisplayName("성공 - ID 에서 생성 시각을 복원할 수 있어야 한다")
+	void shouldRestoreCreatedAtFromId() {
+		// given
+		LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+
+		// when
+		LocalDateTime createdAt = Snowflake.toCreatedAt(new Snowflake(1).next());
+
+		// then
+		assertThat(Duration.between(now, createdAt).abs()).isLessThan(Duration.ofSeconds(1));
+	}
+
+	@Test
+	@DisplayName("실패 - 범위를 벗어난 노드 번호는 허용하지 않는다")
+	void shouldRejectNodeIdOutOfRange() {
+		assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,116 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CompactRedisSerializerTest {
+
+	private static final Logger log = LoggerFactory.getLogger(CompactRedisSerializerTest.class);
+	// 토큰 블랙리스트 표시, 하트비트 등 실제로 저장하는 값 형태
+	private static final List<Object> STORED_VALUES = List.of("true", "2025-01-01T12:34:56.789",
+		"9f1c2d7e-4b7a-4c61-9d2e-5a3b1c0d8e7f", 1234567890123L);
+
+	private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(
+		typedObjectMapper());
+	private final CompactRedisSerializer compactSerializer = new CompactRedisSerializer(jsonSerializer,
+		RedisValueFormat.COMPACT);
+
+	@Test
+	@DisplayName("성공 - 알려진 타입과 그 밖의 타입을 모두 그대로 되읽는다")
+	void shouldRoundTripValues() {
+		// given
+		List<Object> values = List.of("2025-01-01T00:00:00", "한글 값", 1234567890123L, 42, true, false,
+			new HashMap<>(Map.of("handle", "user")));
+
+		// when & then
+		for (Object value : values) {
+			byte[] bytes = compactSerializer.serialize(value);
+			assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT_V1);
+			assertThat(compactSerializer.deserialize(bytes)).isEqualTo(value);
+		}
+		assertThat(compactSerializer.deserialize(compactSerializer.serialize(null))).isNull();
+	}
+
+	@Test
+	@DisplayName("성공 - 버전 바이트가 없는 이전 JSON 값도 읽고, json 모드에서는 이전 형식으로 쓴다")
+	void shouldReadLegacyJsonAndWriteItInJsonMode() {
+		// given
+		byte[] legacy = jsonSerializer.serialize("true");
+		CompactRedisSerializer jsonModeSerializer = new CompactRedisSerializer(jsonSerializer, RedisValueFormat.JSON);
+
+		// when & then
+		assertThat(compactSerializer.deserialize(legacy)).isEqualTo("true");
+		assertThat(jsonModeSerializer.serialize("true")).isEqualTo(legacy);
+		assertThat(jsonModeSerializer.deserialize(compactSerializer.serialize("true"))).isEqualTo("true");
+	}
+
+	@Test
+	@DisplayName("성공 - 실제로 저장하는 값은 compact 형식이 JSON 보다 작다")
+	void shouldStoreValuesSmallerThanJson() {
+		// when
+		long jsonBytes = totalSize(jsonSerializer, STORED_VALUES);
+		long compactBytes = totalSize(compactSerializer, STORED_VALUES);
+
+		// then
+		assertThat(compactBytes).isLessThan(jsonBytes);
+	}
+
+	/**
+	 * 실제로 저장하는 값 형태로 두 형식의 크기와 직렬화/역직렬화 비용을 비교한다.
+	 * 실행 환경에 따라 시간이 달라지므로 결과는 로그로만 남기고, 기본 테스트에서는 빠진다. (./gradlew benchmark)
+	 */
+	@Test
+	@Tag("benchmark")
+	@DisplayName("벤치마크 - compact 형식과 JSON 의 크기와 읽고 쓰는 비용을 비교한다")
+	void benchmarkCompactAgainstJson() {
+		// when
+		long jsonBytes = totalSize(jsonSerializer, STORED_VALUES);
+		long compactBytes = totalSize(compactSerializer, STORED_VALUES);
+		long jsonNanos = nanosPerRoundTrip(jsonSerializer, STORED_VALUES);
+		long compactNanos = nanosPerRoundTrip(compactSerializer, STORED_VALUES);
+
+		// then
+		log.info("[Redis value format] json={} bytes, {}ns/op compact={} bytes, {}ns/op",
+			jsonBytes, jsonNanos, compactBytes, compactNanos);
+	}
+
+	private long totalSize(RedisSerializer<Object> serializer, List<Object> values) {
+		return values.stream().mapToLong(value -> serializer.serialize(value).length).sum();
+	}
+
+	// 워밍업 후 여러 번 실행한 값 하나당 직렬화 + 역직렬화 평균 시간
+	private long nanosPerRoundTrip(RedisSerializer<Object> serializer, List<Object> values) {
+		int warmupRounds = 20_000;
+		int measuredRounds = 50_000;
+		for (int i = 0; i < warmupRounds; i++) {
+			values.forEach(value -> serializer.deserialize(serializer.serialize(value)));
+		}
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < measuredRounds; i++) {
+			values.forEach(value -> serializer.deserialize(serializer.serialize(value)));
+		}
+		return (System.nanoTime() - startedAt) / ((long)measuredRounds * values.size());
+	}
+
+	// RedisConfiguration 과 같은 방식으로 클래스 정보를 포함하는 ObjectMapper
+	private static ObjectMapper typedObjectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+			ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+		return objectMapper;
+	}
+}
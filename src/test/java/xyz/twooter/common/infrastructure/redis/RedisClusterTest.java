@@ -0,0 +1,143 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import xyz.twooter.auth.domain.RefreshToken;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore;
+import xyz.twooter.auth.infrastructure.token.RefreshTokenStore.RotationResult;
+
+/**
+ * 로컬에 띄운 Redis 클러스터에서 여러 슬롯/노드에 걸친 명령을 확인한다. REDIS_CLUSTER_NODES 가 있을 때만 실행한다.
+ * (클러스터 구성은 application-cluster.yml 참고)
+ * REDIS_CLUSTER_NODES=127.0.0.1:7000,127.0.0.1:7001,127.0.0.1:7002 ./gradlew test --tests '*RedisClusterTest'
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_CLUSTER_NODES", matches = ".+")
+class RedisClusterTest {
+
+	private static final String KEY_PREFIX = "test:cluster:";
+	private static final int KEY_COUNT = 200;
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static RedisUtil redisUtil;
+
+	private final List<String> keys = new ArrayList<>();
+
+	@BeforeAll
+	static void setUp() {
+		RedisClusterConfiguration configuration = new RedisClusterConfiguration(
+			Arrays.asList(System.getenv("REDIS_CLUSTER_NODES").split(",")));
+		connectionFactory = new LettuceConnectionFactory(configuration);
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+		StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		redisUtil = new RedisUtil(redisTemplate, stringRedisTemplate, stringRedisTemplate);
+	}
+
+	@AfterAll
+	static void closeConnection() {
+		connectionFactory.destroy();
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.deleteAll(keys);
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 노드에 흩어진 타임라인에 fan-out 하고 한 번에 조회한다")
+	void shouldFanOutAcrossNodes() {
+		// given
+		List<String> timelineKeys = IntStream.range(0, KEY_COUNT)
+			.mapToObj(userId -> key(RedisKeys.tagged("timeline:user:", userId)))
+			.toList();
+		assertThat(RedisKeys.groupBySlot(timelineKeys)).hasSizeGreaterThan(1);
+
+		// when
+		redisUtil.zAddAndTrim(timelineKeys, "101", 1.0, 10);
+		redisUtil.zRemFromKeys(timelineKeys.subList(0, KEY_COUNT / 2), "101");
+
+		// then
+		List<Set<String>> ranges = redisUtil.zReverseRange(timelineKeys, 0, -1);
+		assertThat(ranges.subList(0, KEY_COUNT / 2)).allMatch(Set::isEmpty);
+		assertThat(ranges.subList(KEY_COUNT / 2, KEY_COUNT)).allMatch(range -> range.contains("101"));
+	}
+
+	@Test
+	@DisplayName("성공 - 모든 마스터 노드를 순회해 패턴에 맞는 키를 찾는다")
+	void shouldScanAllNodes() {
+		// given
+		List<String> scanKeys = IntStream.range(0, KEY_COUNT)
+			.mapToObj(i -> key("scan:" + i))
+			.toList();
+		scanKeys.forEach(key -> redisUtil.setIfAbsent(key, "1", 60, TimeUnit.SECONDS));
+
+		// when & then
+		assertThat(redisUtil.keys(KEY_PREFIX + "scan:*")).containsExactlyInAnyOrderElementsOf(scanKeys);
+	}
+
+	@Test
+	@DisplayName("성공 - 한 회원의 리프레시 토큰 키는 한 슬롯에 있어 스크립트로 교체/무효화할 수 있다")
+	void shouldRunRefreshTokenScriptsOnOneSlot() {
+		// given
+		RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisUtil);
+		String handle = "cluster-user";
+		refreshTokenStore.save("old", handle, 60_000L);
+		keys.addAll(List.of("refresh:tokens:{" + handle + "}", "refresh:session:{" + handle + "}:old",
+			"refresh:session:{" + handle + "}:new", "refresh:blacklist:{" + handle + "}:old"));
+
+		// when
+		RotationResult result = refreshTokenStore.rotate("old", "new", handle, 60_000L);
+		long revoked = refreshTokenStore.revokeAll(handle);
+
+		// then
+		assertThat(result).isEqualTo(RotationResult.ROTATED);
+		assertThat(revoked).isEqualTo(1);
+		assertThat(refreshTokenStore.find("new", handle)).get().extracting(RefreshToken::isRevoke).isEqualTo(true);
+	}
+
+	@Test
+	@DisplayName("성공 - 같은 해시 태그를 붙인 큐와 처리 중 목록 사이에서 메시지를 옮긴다")
+	void shouldMoveBetweenTaggedLists() {
+		// given
+		String queueKey = key("{queue}");
+		String processingKey = key("{queue}:processing");
+		redisUtil.lPush(queueKey, "message");
+
+		// when
+		String moved = redisUtil.blMove(queueKey, processingKey, 1, TimeUnit.SECONDS);
+		String requeued = redisUtil.lMoveToFront(processingKey, queueKey);
+
+		// then
+		assertThat(moved).isEqualTo("message");
+		assertThat(requeued).isEqualTo("message");
+	}
+
+	private String key(String name) {
+		String key = KEY_PREFIX + name;
+		keys.add(key);
+		return key;
+	}
+}
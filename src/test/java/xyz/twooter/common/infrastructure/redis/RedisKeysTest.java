@@ -0,0 +1,48 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RedisKeysTest {
+
+	@Test
+	@DisplayName("성공 - 같은 해시 태그를 붙인 키는 접두어와 상관없이 같은 슬롯에 속한다")
+	void shouldPlaceTaggedKeysInSameSlot() {
+		// given
+		String timelineKey = RedisKeys.tagged("timeline:user:", 1L);
+		String authorPostsKey = RedisKeys.tagged("timeline:author:", 1L);
+		String viewerLikesKey = RedisKeys.tagged("viewer:likes:", 1L);
+		String sessionKey = RedisKeys.tagged("refresh:session:", "user") + ":token";
+		String userTokensKey = RedisKeys.tagged("refresh:tokens:", "user");
+
+		// when & then
+		assertThat(timelineKey).isEqualTo("timeline:user:{1}");
+		assertThat(RedisKeys.slot(authorPostsKey)).isEqualTo(RedisKeys.slot(timelineKey));
+		assertThat(RedisKeys.slot(viewerLikesKey)).isEqualTo(RedisKeys.slot(timelineKey));
+		assertThat(RedisKeys.slot(sessionKey)).isEqualTo(RedisKeys.slot(userTokensKey));
+		assertThat(RedisKeys.slot("queue:{timeline:fanout}:processing:worker"))
+			.isEqualTo(RedisKeys.slot("queue:{timeline:fanout}"));
+		assertThat(RedisKeys.slot("foo")).isEqualTo(12182);
+	}
+
+	@Test
+	@DisplayName("성공 - 키를 슬롯별로 묶되 처음 나온 순서를 유지한다")
+	void shouldGroupKeysBySlot() {
+		// given
+		List<String> keys = List.of("timeline:user:{1}", "timeline:user:{2}", "timeline:author:{1}",
+			"viewer:likes:{2}");
+
+		// when
+		Map<Integer, List<String>> keysBySlot = RedisKeys.groupBySlot(keys);
+
+		// then
+		assertThat(keysBySlot.values()).containsExactly(
+			List.of("timeline:user:{1}", "timeline:author:{1}"),
+			List.of("timeline:user:{2}", "viewer:likes:{2}"));
+	}
+}
@@ -0,0 +1,134 @@
+package xyz.twooter.common.infrastructure.redis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import xyz.twooter.support.IntegrationTestSupport;
+
+class RedisUtilBatchTest extends IntegrationTestSupport {
+
+	private static final Logger log = LoggerFactory.getLogger(RedisUtilBatchTest.class);
+	private static final String KEY_PREFIX = "test:batch:";
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	private final List<String> keys = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.deleteAll(keys);
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 키에 추가한 값을 키 순서대로 한 번에 조회한다")
+	void shouldAddAndReadAcrossKeys() {
+		// given
+		String first = key("first");
+		String second = key("second");
+		String missing = key("missing");
+		Map<String, Map<String, Double>> scoreByValueByKey = new LinkedHashMap<>();
+		scoreByValueByKey.put(first, Map.of("1", 1.0, "2", 2.0));
+		scoreByValueByKey.put(second, Map.of("3", 3.0));
+
+		// when
+		redisUtil.zAddAll(scoreByValueByKey);
+		List<Set<String>> ranges = redisUtil.zReverseRange(List.of(first, missing, second), 0, -1);
+		List<Set<ZSetOperations.TypedTuple<String>>> tuples = redisUtil.zReverseRangeByScoreWithScores(
+			List.of(first, second), 1.5, 10);
+
+		// then
+		assertThat(ranges.get(0)).containsExactly("2", "1");
+		assertThat(ranges.get(1)).isEmpty();
+		assertThat(ranges.get(2)).containsExactly("3");
+		assertThat(tuples.get(0)).extracting(ZSetOperations.TypedTuple::getValue).containsExactly("1");
+		assertThat(tuples.get(1)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 키의 존재 여부를 키 순서대로 반환하고, 여러 키에서 같은 멤버를 삭제한다")
+	void shouldCheckExistenceAndRemoveAcrossKeys() {
+		// given
+		String first = key("first");
+		String second = key("second");
+		String missing = key("missing");
+		redisUtil.zAdd(first, "1", 1.0);
+		redisUtil.zAdd(second, "1", 1.0);
+		redisUtil.zAdd(second, "2", 2.0);
+
+		// when
+		List<Boolean> exists = redisUtil.hasKeys(List.of(first, missing, second));
+		redisUtil.zRemFromKeys(List.of(first, second), "1");
+
+		// then
+		assertThat(exists).containsExactly(true, false, true);
+		assertThat(redisUtil.hasKey(first)).isFalse();
+		assertThat(redisUtil.zReverseRange(second, 0, -1)).containsExactly("2");
+	}
+
+	/**
+	 * 키마다 한 번씩 왕복하는 기존 메서드와 pipeline 메서드의 명령당 비용을 비교한다. (embedded Redis)
+	 * 실행 환경에 따라 시간이 달라지므로 결과는 로그로만 남기고, 기본 테스트에서는 빠진다. (./gradlew benchmark)
+	 */
+	@Test
+	@Tag("benchmark")
+	@DisplayName("벤치마크 - pipeline 으로 묶었을 때와 키마다 호출할 때의 키당 비용을 비교한다")
+	void benchmarkBatchAgainstSingleKeyCalls() {
+		// given
+		int keyCount = 200;
+		List<String> benchmarkKeys = IntStream.range(0, keyCount).mapToObj(i -> key("bench:" + i)).toList();
+		Map<String, Map<String, Double>> scoreByValueByKey = new LinkedHashMap<>();
+		benchmarkKeys.forEach(key -> scoreByValueByKey.put(key, Map.of("1", 1.0, "2", 2.0, "3", 3.0)));
+		redisUtil.zAddAll(scoreByValueByKey);
+
+		// when
+		long singleHasKey = nanosPerKey(benchmarkKeys, keyList -> keyList.forEach(redisUtil::hasKey));
+		long batchHasKey = nanosPerKey(benchmarkKeys, redisUtil::hasKeys);
+		long singleRange = nanosPerKey(benchmarkKeys,
+			keyList -> keyList.forEach(key -> redisUtil.zReverseRangeByScoreWithScores(key, 10, 2)));
+		long batchRange = nanosPerKey(benchmarkKeys,
+			keyList -> redisUtil.zReverseRangeByScoreWithScores(keyList, 10, 2));
+
+		// then
+		log.info("[RedisUtil batch] keys={} EXISTS single={}ns/key pipelined={}ns/key",
+			keyCount, singleHasKey, batchHasKey);
+		log.info("[RedisUtil batch] keys={} ZREVRANGEBYSCORE single={}ns/key pipelined={}ns/key",
+			keyCount, singleRange, batchRange);
+	}
+
+	// 워밍업 후 여러 번 실행한 평균을 키 하나당 나노초로 반환한다.
+	private long nanosPerKey(List<String> keyList, Consumer<List<String>> operation) {
+		int warmupRounds = 5;
+		int measuredRounds = 10;
+		for (int i = 0; i < warmupRounds; i++) {
+			operation.accept(keyList);
+		}
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < measuredRounds; i++) {
+			operation.accept(keyList);
+		}
+		return (System.nanoTime() - startedAt) / ((long)measuredRounds * keyList.size());
+	}
+
+	private String key(String name) {
+		String key = KEY_PREFIX + name;
+		keys.add(key);
+		return key;
+	}
+}
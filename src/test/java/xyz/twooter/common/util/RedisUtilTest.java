@@ -2,17 +2,23 @@ package xyz.twooter.common.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.MapRecord;
 
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.support.IntegrationTestSupport;
@@ -191,6 +197,29 @@ class RedisUtilTest extends IntegrationTestSupport {
 		redisUtil.delete(key2);
 	}
 
+	@Test
+	@DisplayName("SCAN 커서로 패턴에 일치하는 키를 나눠 조회할 수 있는지 검증한다")
+	void shouldIterateKeysByPatternWhenUsingScan() {
+		// given
+		String keyPrefix = "test:scan:";
+		List<String> createdKeys = IntStream.range(0, 25).mapToObj(i -> keyPrefix + i).toList();
+		createdKeys.forEach(key -> redisUtil.set(key, "value"));
+		redisUtil.set("test:other:1", "value");
+
+		// when
+		Set<String> scannedKeys;
+		try (Stream<String> keys = redisUtil.scan(keyPrefix + "*", 10)) {
+			scannedKeys = keys.collect(Collectors.toSet());
+		}
+
+		// then
+		assertEquals(Set.copyOf(createdKeys), scannedKeys);
+
+		// 정리
+		redisUtil.deleteAll(createdKeys);
+		redisUtil.delete("test:other:1");
+	}
+
 	@Test
 	@DisplayName("타입 변환 메서드가 올바르게 동작하는지 검증한다")
 	void shouldCastValueCorrectlyWhenUsingGetWithType() {
@@ -220,4 +249,110 @@ class RedisUtilTest extends IntegrationTestSupport {
 		assertTrue(remainingTime > 0 && remainingTime <= 10);
 	}
 
+	@Test
+	@DisplayName("여러 Sorted Set에 값을 한 번에 추가하고 크기를 제한할 수 있는지 검증한다")
+	void shouldAddAndTrimMultipleSortedSetsWhenUsingPipeline() {
+		// given
+		String key1 = "test:zset:1";
+		String key2 = "test:zset:2";
+		redisUtil.zAdd(key1, "old", 1);
+		redisUtil.zAdd(key2, "old", 1);
+
+		// when - 크기를 1로 제한하면 가장 최신 값만 남는다
+		redisUtil.zAddAndTrim(List.of(key1, key2), "new", 2, 1);
+
+		// then
+		assertEquals(Set.of("new"), redisUtil.zReverseRange(key1, 0, -1));
+		assertEquals(Set.of("new"), redisUtil.zReverseRange(key2, 0, -1));
+
+		// 정리
+		redisUtil.delete(key1);
+		redisUtil.delete(key2);
+	}
+
+	@Test
+	@DisplayName("여러 키를 만료 시간과 함께 한 번에 저장하고 조회할 수 있는지 검증한다")
+	void shouldSetAndGetMultipleKeysWhenUsingMSetAndMGet() {
+		// given
+		String key1 = "test:mget:1";
+		String key2 = "test:mget:2";
+		String missingKey = "test:mget:missing";
+
+		// when
+		redisUtil.mSetWithExpiration(Map.of(key1, "value1", key2, "value2"), 60, TimeUnit.SECONDS);
+
+		// then - 없는 키는 null 로 채워 순서를 유지한다
+		assertEquals(Arrays.asList("value1", null, "value2"), redisUtil.mGet(List.of(key1, missingKey, key2)));
+		assertTrue(redisUtil.getExpire(key1, TimeUnit.SECONDS) > 0);
+
+		// 정리
+		assertEquals(2, redisUtil.deleteAll(List.of(key1, key2, missingKey)));
+	}
+
+	@Test
+	@DisplayName("Consumer Group으로 Stream 레코드를 읽고, ack 하지 않은 레코드를 다시 가져올 수 있는지 검증한다")
+	void shouldReadAckAndReclaimStreamRecordsWhenUsingConsumerGroup() {
+		// given
+		String streamKey = "test:stream";
+		String group = "test-group";
+		redisUtil.delete(streamKey);
+
+		assertTrue(redisUtil.xGroupCreate(streamKey, group));
+		assertFalse(redisUtil.xGroupCreate(streamKey, group));
+		String firstId = redisUtil.xAdd(streamKey, Map.of("payload", "first"));
+		String secondId = redisUtil.xAdd(streamKey, Map.of("payload", "second"));
+
+		// when
+		List<MapRecord<String, Object, Object>> records = redisUtil.xReadGroup(streamKey, group, "consumer-a", 10,
+			Duration.ofMillis(100));
+		redisUtil.xAck(streamKey, group, firstId);
+
+		// then - ack 하지 않은 두 번째 레코드만 pending 으로 남고, 다른 consumer 가 가져갈 수 있다
+		assertEquals(2, records.size());
+		assertEquals("first", records.get(0).getValue().get("payload"));
+		assertEquals(1, redisUtil.xPendingCount(streamKey, group));
+
+		List<MapRecord<String, Object, Object>> claimed = redisUtil.xAutoClaim(streamKey, group, "consumer-b",
+			Duration.ZERO, 10);
+		assertEquals(1, claimed.size());
+		assertEquals(secondId, claimed.get(0).getId().getValue());
+		assertEquals("second", claimed.get(0).getValue().get("payload"));
+		assertEquals(2, redisUtil.xPending(streamKey, group, 10).get(0).getTotalDeliveryCount());
+
+		// 정리
+		redisUtil.delete(streamKey);
+	}
+
+	@Test
+	@DisplayName("ack 되지 않은 레코드를 남기고 Stream 을 자르며, consumer 를 조회하고 삭제할 수 있는지 검증한다")
+	void shouldKeepPendingRecordsWhenTrimmingByMinIdAndManageConsumers() {
+		// given
+		String streamKey = "test:stream:trim";
+		String group = "test-group";
+		redisUtil.delete(streamKey);
+		redisUtil.xGroupCreate(streamKey, group);
+		String firstId = redisUtil.xAdd(streamKey, Map.of("payload", "first"));
+		String secondId = redisUtil.xAdd(streamKey, Map.of("payload", "second"));
+		String thirdId = redisUtil.xAdd(streamKey, Map.of("payload", "third"));
+		redisUtil.xReadGroup(streamKey, group, "consumer-a", 10, Duration.ofMillis(100));
+		redisUtil.xAck(streamKey, group, firstId, thirdId);
+
+		// when
+		String oldestPendingId = redisUtil.xOldestPendingId(streamKey, group);
+		redisUtil.xTrimMinId(streamKey, oldestPendingId);
+
+		// then - pending 인 두 번째 레코드는 남는다
+		assertEquals(secondId, oldestPendingId);
+		assertEquals(thirdId, redisUtil.xLastDeliveredId(streamKey, group));
+		assertNotNull(redisUtil.xGet(streamKey, secondId));
+		assertEquals(1, redisUtil.xConsumers(streamKey, group).get(0).pendingCount());
+
+		redisUtil.xAck(streamKey, group, secondId);
+		assertNull(redisUtil.xOldestPendingId(streamKey, group));
+		redisUtil.xGroupDelConsumer(streamKey, group, "consumer-a");
+		assertTrue(redisUtil.xConsumers(streamKey, group).isEmpty());
+
+		// 정리
+		redisUtil.delete(streamKey);
+	}
 }
@@ -72,7 +72,7 @@ class AuthControllerDocsTest extends RestDocsSupport {
 				),
 				responseFields(
 					fieldWithPath("member").type(JsonFieldType.OBJECT).description("회원 정보"),
-					fieldWithPath("member.id").type(JsonFieldType.NUMBER).description("회원 고유 ID"),
+					fieldWithPath("member.id").type(JsonFieldType.STRING).description("회원 고유 ID"),
 					fieldWithPath("member.email").type(JsonFieldType.STRING).description("회원 이메일"),
 					fieldWithPath("member.handle").type(JsonFieldType.STRING).description("회원 핸들"),
 					fieldWithPath("member.nickname").type(JsonFieldType.STRING).description("회원 닉네임"),
@@ -129,7 +129,7 @@ class AuthControllerDocsTest extends RestDocsSupport {
 					fieldWithPath("accessToken").type(JsonFieldType.STRING).description("액세스 토큰 (JWT)"),
 					fieldWithPath("refreshToken").type(JsonFieldType.STRING).description("리프레시 토큰 (JWT)"),
 					fieldWithPath("member").type(JsonFieldType.OBJECT).description("회원 정보"),
-					fieldWithPath("member.id").type(JsonFieldType.NUMBER).description("회원 고유 ID"),
+					fieldWithPath("member.id").type(JsonFieldType.STRING).description("회원 고유 ID"),
 					fieldWithPath("member.email").type(JsonFieldType.STRING).description("회원 이메일"),
 					fieldWithPath("member.handle").type(JsonFieldType.STRING).description("회원 핸들"),
 					fieldWithPath("member.nickname").type(JsonFieldType.STRING).description("회원 닉네임"),
@@ -179,7 +179,7 @@ class MemberControllerDocsTest extends RestDocsSupport {
 	// ======= 필드 문서화 메서드 ======
 	private List<FieldDescriptor> followersItemFields() {
 		return List.of(
-			fieldWithPath("id").type(JsonFieldType.NUMBER).description("팔로워의 ID"),
+			fieldWithPath("id").type(JsonFieldType.STRING).description("팔로워의 ID"),
 			fieldWithPath("handle").type(JsonFieldType.STRING).description("팔로워의 핸들"),
 			fieldWithPath("nickname").type(JsonFieldType.STRING).description("팔로워의 닉네임"),
 			fieldWithPath("avatarPath").type(JsonFieldType.STRING).description("팔로워의 아바타 이미지 경로"),
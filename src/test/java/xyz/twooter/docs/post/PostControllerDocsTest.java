@@ -66,7 +66,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					.contentType(MediaType.APPLICATION_JSON)
 			)
 			.andExpect(status().isCreated())
-			.andExpect(jsonPath("$.id").value(response.getId()))
+			.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 			.andExpect(jsonPath("$.content").value(response.getContent()))
 			.andExpect(jsonPath("$.media").isArray())
 			.andDo(document("post-create",
@@ -82,7 +82,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 						.description("첨부된 미디어 파일 URL (내용이 비어있는 경우 필수, 최대 4개), 파일 업로드 API를 이용해, 업로드 후 링크를 첨부")
 				),
 				responseFields(
-					fieldWithPath("id").type(JsonFieldType.NUMBER)
+					fieldWithPath("id").type(JsonFieldType.STRING)
 						.description("생성된 포스트 ID"),
 					fieldWithPath("content").type(JsonFieldType.STRING)
 						.description("포스트 내용"),
@@ -124,7 +124,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					parameterWithName("postId").description("조회할 포스트 ID")
 				),
 				responseFields(
-					fieldWithPath("id").type(JsonFieldType.NUMBER)
+					fieldWithPath("id").type(JsonFieldType.STRING)
 						.description("포스트 Id"),
 					fieldWithPath("content").type(JsonFieldType.STRING)
 						.description("포스트 내용"),
@@ -169,7 +169,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					.header("Authorization", TEST_ACCESS_TOKEN)
 			)
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$.postId").value(postId))
+			.andExpect(jsonPath("$.postId").value(String.valueOf(postId)))
 			.andExpect(jsonPath("$.isLiked").value(true))
 			.andDo(document("post-like",
 				preprocessRequest(prettyPrint()),
@@ -181,7 +181,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					parameterWithName("postId").description("좋아요/좋아요 취소할 포스트 ID")
 				),
 				responseFields(
-					fieldWithPath("postId").type(JsonFieldType.NUMBER)
+					fieldWithPath("postId").type(JsonFieldType.STRING)
 						.description("포스트 ID"),
 					fieldWithPath("isLiked").type(JsonFieldType.BOOLEAN)
 						.description("현재 사용자의 좋아요 여부")
@@ -211,8 +211,8 @@ class PostControllerDocsTest extends RestDocsSupport {
 					.header("Authorization", TEST_ACCESS_TOKEN)
 			)
 			.andExpect(status().isCreated())
-			.andExpect(jsonPath("$.repostId").value(repostId))
-			.andExpect(jsonPath("$.originalPostId").value(originalPostId))
+			.andExpect(jsonPath("$.repostId").value(String.valueOf(repostId)))
+			.andExpect(jsonPath("$.originalPostId").value(String.valueOf(originalPostId)))
 			.andExpect(jsonPath("$.repostedAt").value("2025-05-05T00:00:00"))
 			.andDo(document("post-repost",
 				preprocessRequest(prettyPrint()),
@@ -224,9 +224,9 @@ class PostControllerDocsTest extends RestDocsSupport {
 					parameterWithName("postId").description("리포스트할 대상 포스트 ID")
 				),
 				responseFields(
-					fieldWithPath("repostId").type(JsonFieldType.NUMBER)
+					fieldWithPath("repostId").type(JsonFieldType.STRING)
 						.description("생성된 리포스트 ID"),
-					fieldWithPath("originalPostId").type(JsonFieldType.NUMBER)
+					fieldWithPath("originalPostId").type(JsonFieldType.STRING)
 						.description("원본 포스트 ID"),
 					fieldWithPath("repostedAt").type(JsonFieldType.STRING)
 						.description("리포스트 생성 시간")
@@ -260,7 +260,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					parameterWithName("postId").description("삭제할 포스트 ID")
 				),
 				responseFields(
-					fieldWithPath("postId").type(JsonFieldType.NUMBER)
+					fieldWithPath("postId").type(JsonFieldType.STRING)
 						.description("삭제된 포스트 ID")
 				)
 			));
@@ -301,7 +301,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					.contentType(MediaType.APPLICATION_JSON)
 			)
 			.andExpect(status().isCreated())
-			.andExpect(jsonPath("$.id").value(response.getId()))
+			.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 			.andExpect(jsonPath("$.content").value(response.getContent()))
 			.andExpect(jsonPath("$.media").isArray())
 			.andDo(document("post-reply-create",
@@ -311,7 +311,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 					headerWithName("Authorization").description("액세스 토큰 (Bearer 타입)")
 				),
 				requestFields(
-					fieldWithPath("parentId").type(JsonFieldType.NUMBER)
+					fieldWithPath("parentId").type(JsonFieldType.STRING)
 						.description("답글의 부모 포스트 ID (필수)"),
 					fieldWithPath("content").type(JsonFieldType.STRING)
 						.description("포스트 내용 (미디어가 없는 경우 필수, 최대 500자)"),
@@ -319,7 +319,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 						.description("첨부된 미디어 파일 URL (내용이 비어있는 경우 필수, 최대 4개), 파일 업로드 API를 이용해, 업로드 후 링크를 첨부")
 				),
 				responseFields(
-					fieldWithPath("id").type(JsonFieldType.NUMBER)
+					fieldWithPath("id").type(JsonFieldType.STRING)
 						.description("생성된 포스트 ID"),
 					fieldWithPath("content").type(JsonFieldType.STRING)
 						.description("포스트 내용"),
@@ -329,7 +329,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 						.description("첨부된 미디어 정보 목록"),
 					fieldWithPath("createdAt").type(JsonFieldType.STRING)
 						.description("포스트 생성 시간"),
-					fieldWithPath("parentId").type(JsonFieldType.NUMBER)
+					fieldWithPath("parentId").type(JsonFieldType.STRING)
 						.description("생성된 답글의 부모 ID")
 				)
 					.andWithPrefix("author.", authorEntityFieldsWithEmail())
@@ -425,7 +425,7 @@ class PostControllerDocsTest extends RestDocsSupport {
 	 */
 	private List<FieldDescriptor> postResponseFields() {
 		return List.of(
-			fieldWithPath("id").type(JsonFieldType.NUMBER)
+			fieldWithPath("id").type(JsonFieldType.STRING)
 				.description("답글 포스트 ID"),
 			fieldWithPath("author").type(JsonFieldType.OBJECT)
 				.description("답글 작성자 정보"),
@@ -458,14 +458,14 @@ class PostControllerDocsTest extends RestDocsSupport {
 
 	private List<FieldDescriptor> mediaFields() {
 		return List.of(
-			fieldWithPath("mediaId").type(JsonFieldType.NUMBER).description("미디어 ID"),
+			fieldWithPath("mediaId").type(JsonFieldType.STRING).description("미디어 ID"),
 			fieldWithPath("mediaUrl").type(JsonFieldType.STRING).description("미디어 접근 URL")
 		);
 	}
 
 	private List<FieldDescriptor> authorEntityFields() {
 		return List.of(
-			fieldWithPath("id").type(JsonFieldType.NUMBER).description("작성자 고유 ID"),
+			fieldWithPath("id").type(JsonFieldType.STRING).description("작성자 고유 ID"),
 			fieldWithPath("nickname").type(JsonFieldType.STRING).description("작성자 닉네임"),
 			fieldWithPath("avatarPath").type(JsonFieldType.STRING).description("작성자 아바타 URL"),
 			fieldWithPath("handle").type(JsonFieldType.STRING).description("작성자 핸들")
@@ -179,7 +179,7 @@ class TimelineControllerDocsTest extends RestDocsSupport {
 
 	private List<FieldDescriptor> postResponseFields() {
 		return List.of(
-			fieldWithPath("id").type(JsonFieldType.NUMBER).description("포스트 Id"),
+			fieldWithPath("id").type(JsonFieldType.STRING).description("포스트 Id"),
 			fieldWithPath("author").type(JsonFieldType.OBJECT).description("포스트 작성자 정보"),
 			fieldWithPath("content").type(JsonFieldType.STRING).description("포스트 내용"),
 			fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("좋아요 수"),
@@ -194,7 +194,7 @@ class TimelineControllerDocsTest extends RestDocsSupport {
 
 	private List<FieldDescriptor> memberBasicFields() {
 		return List.of(
-			fieldWithPath("id").type(JsonFieldType.NUMBER).description("사용자 고유 ID"),
+			fieldWithPath("id").type(JsonFieldType.STRING).description("사용자 고유 ID"),
 			fieldWithPath("handle").type(JsonFieldType.STRING).description("사용자 핸들"),
 			fieldWithPath("nickname").type(JsonFieldType.STRING).description("사용자 닉네임"),
 			fieldWithPath("avatarPath").type(JsonFieldType.STRING).description("사용자 아바타 URL")
@@ -203,7 +203,7 @@ class TimelineControllerDocsTest extends RestDocsSupport {
 
 	private List<FieldDescriptor> mediaEntityFields() {
 		return List.of(
-			fieldWithPath("mediaId").type(JsonFieldType.NUMBER).description("미디어 ID"),
+			fieldWithPath("mediaId").type(JsonFieldType.STRING).description("미디어 ID"),
 			fieldWithPath("mediaUrl").type(JsonFieldType.STRING).description("미디어 경로 URL")
 		);
 	}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import jakarta.persistence.EntityManager;
 import xyz.twooter.member.domain.Follow;
 import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.projection.FollowerIdPage;
 import xyz.twooter.member.domain.repository.projection.MemberProfileProjection;
 import xyz.twooter.support.IntegrationTestSupport;
 
@@ -224,6 +225,38 @@ class FollowRepositoryTest extends IntegrationTestSupport {
 		}
 	}
 
+	@Nested
+	@DisplayName("findFollowerIdPage 메소드")
+	class FindFollowerIdPage {
+
+		@DisplayName("성공 - follow.id 기준 keyset 으로 팔로워 ID 를 페이지 단위로 조회해야 한다")
+		@Test
+		void shouldFindFollowerIdsPageByPage() {
+			// given
+			Member targetMember = createMember("target");
+			Member follower1 = createMember("follower1");
+			Member follower2 = createMember("follower2");
+			Member follower3 = createMember("follower3");
+			Member other = createMember("other");
+			createFollow(follower1, targetMember);
+			createFollow(follower2, targetMember);
+			createFollow(follower3, targetMember);
+			createFollow(follower1, other);
+
+			// when
+			FollowerIdPage firstPage = followRepository.findFollowerIdPage(targetMember.getId(), 0L, 2);
+			FollowerIdPage secondPage = followRepository.findFollowerIdPage(targetMember.getId(),
+				firstPage.lastFollowId(), 2);
+			FollowerIdPage lastPage = followRepository.findFollowerIdPage(targetMember.getId(),
+				secondPage.lastFollowId(), 2);
+
+			// then
+			assertThat(firstPage.followerIds()).containsExactly(follower1.getId(), follower2.getId());
+			assertThat(secondPage.followerIds()).containsExactly(follower3.getId());
+			assertThat(lastPage.isEmpty()).isTrue();
+		}
+	}
+
 	// ==== 헬퍼 =====
 	private Follow createFollow(Member follower, Member followee) {
 		Follow follow = Follow.builder()
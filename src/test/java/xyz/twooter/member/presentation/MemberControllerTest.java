@@ -41,7 +41,7 @@ class MemberControllerTest extends ControllerTestSupport {
 					.content(objectMapper.writeValueAsString(request))
 					.contentType(MediaType.APPLICATION_JSON))
 				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.targetMemberId").value(response.getTargetMemberId()));
+				.andExpect(jsonPath("$.targetMemberId").value(String.valueOf(response.getTargetMemberId())));
 		}
 
 		@DisplayName("실패 - target member id는 null이 될 수 없다.")
@@ -75,7 +75,7 @@ class MemberControllerTest extends ControllerTestSupport {
 			// when & then
 			mockMvc.perform(delete("/api/members/follow/{targetMemberId}", targetMemberId))
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$.targetMemberId").value(targetMemberId));
+				.andExpect(jsonPath("$.targetMemberId").value(String.valueOf(targetMemberId)));
 		}
 	}
 
@@ -0,0 +1,113 @@
+package xyz.twooter.post.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import jakarta.persistence.EntityManager;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.MemberRepository;
+import xyz.twooter.post.domain.Post;
+import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.support.IntegrationTestSupport;
+
+class LikeCountFlusherTest extends IntegrationTestSupport {
+
+	private static final String FLUSH_LOCK_KEY = "post:like-count:flush-lock";
+
+	@Autowired
+	private LikeCountFlusher likeCountFlusher;
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.delete(LikeCounter.LIKE_COUNT_DELTA_KEY);
+		redisUtil.delete(LikeCounter.LIKE_COUNT_FLUSHING_KEY);
+		redisUtil.delete(FLUSH_LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("성공 - 쌓인 좋아요 수 변화량을 DB 에 반영하고 Redis 에서 차감한다.")
+	void shouldApplyPendingDeltasToDatabase() {
+		// given
+		Post post = saveTestPost("author1");
+		Post otherPost = saveTestPost("author2");
+		redisUtil.hIncrBy(LikeCounter.LIKE_COUNT_DELTA_KEY, String.valueOf(post.getId()), 3);
+		redisUtil.hIncrBy(LikeCounter.LIKE_COUNT_DELTA_KEY, String.valueOf(otherPost.getId()), -1);
+
+		// when
+		int flushedCount = likeCountFlusher.flush();
+
+		// then
+		entityManager.clear();
+		assertThat(flushedCount).isEqualTo(2);
+		assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(3L);
+		// 0 아래로는 내려가지 않는다
+		assertThat(postRepository.findById(otherPost.getId()).orElseThrow().getLikeCount()).isZero();
+		assertThat(redisUtil.hGetAllAsString(LikeCounter.LIKE_COUNT_DELTA_KEY)).isEmpty();
+		assertThat(redisUtil.hasKey(LikeCounter.LIKE_COUNT_FLUSHING_KEY)).isFalse();
+		assertThat(redisUtil.hasKey(FLUSH_LOCK_KEY)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공 - 이전 반영이 끝나지 않고 남긴 변화량만 먼저 반영하고, 새로 쌓인 변화량은 다음 반영으로 남긴다.")
+	void shouldFlushLeftoverSnapshotBeforeNewDeltas() {
+		// given
+		Post post = saveTestPost("author");
+		String postId = String.valueOf(post.getId());
+		redisUtil.hIncrBy(LikeCounter.LIKE_COUNT_FLUSHING_KEY, postId, 2);
+		redisUtil.hIncrBy(LikeCounter.LIKE_COUNT_DELTA_KEY, postId, 1);
+
+		// when
+		int flushedCount = likeCountFlusher.flush();
+
+		// then
+		entityManager.clear();
+		assertThat(flushedCount).isEqualTo(1);
+		assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(2L);
+		assertThat(redisUtil.hasKey(LikeCounter.LIKE_COUNT_FLUSHING_KEY)).isFalse();
+		assertThat(redisUtil.hGetAllAsString(LikeCounter.LIKE_COUNT_DELTA_KEY)).containsEntry(postId, "1");
+	}
+
+	@Test
+	@DisplayName("성공 - 다른 노드가 반영 중이면 변화량을 그대로 남겨 둔다.")
+	void shouldSkipFlushWhenLockIsHeld() {
+		// given
+		Post post = saveTestPost("author");
+		redisUtil.hIncrBy(LikeCounter.LIKE_COUNT_DELTA_KEY, String.valueOf(post.getId()), 1);
+		redisUtil.setIfAbsent(FLUSH_LOCK_KEY, "other-node", 30, TimeUnit.SECONDS);
+
+		// when
+		int flushedCount = likeCountFlusher.flush();
+
+		// then
+		assertThat(flushedCount).isZero();
+		assertThat(redisUtil.hGetAllAsString(LikeCounter.LIKE_COUNT_DELTA_KEY))
+			.containsEntry(String.valueOf(post.getId()), "1");
+		assertThat(redisUtil.deleteIfEquals(FLUSH_LOCK_KEY, "other-node")).isTrue();
+	}
+
+	private Post saveTestPost(String handle) {
+		Member author = memberRepository.save(Member.createDefaultMember(handle + "@test.com", "password", handle));
+		Post post = postRepository.save(Post.createPost(author.getId(), "테스트 포스트입니다."));
+		entityManager.flush();
+		return post;
+	}
+}
@@ -0,0 +1,61 @@
+package xyz.twooter.post.application;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import xyz.twooter.post.application.dto.PostLikeOperation;
+import xyz.twooter.post.domain.repository.PostLikeBatchRepository;
+import xyz.twooter.support.MockTestSupport;
+
+class PostLikeBatcherMockTest extends MockTestSupport {
+
+	@Mock
+	private PostLikeBatchRepository postLikeBatchRepository;
+
+	@Mock
+	private LikeCounter likeCounter;
+
+	@Mock
+	private PostLikeStateStore postLikeStateStore;
+
+	@Mock
+	private ViewerStateService viewerStateService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@InjectMocks
+	private PostLikeBatcher postLikeBatcher;
+
+	@Test
+	@DisplayName("성공 - 재시도해도 반영하지 못한 변경은 쌍마다 마지막 변경 기준으로 Redis 좋아요 상태를 되돌린다")
+	void shouldRevertLikeStateWhenBatchIsDropped() {
+		// given
+		when(postLikeBatchRepository.findExisting(anyCollection()))
+			.thenThrow(new DataAccessResourceFailureException("db unavailable"));
+
+		// when
+		postLikeBatcher.flushWithRetry(List.of(
+			new PostLikeOperation(1L, 10L, true),
+			new PostLikeOperation(2L, 20L, true),
+			new PostLikeOperation(2L, 20L, false)
+		));
+
+		// then
+		verify(postLikeBatchRepository, times(3)).findExisting(anyCollection());
+		verify(postLikeStateStore).revert(1L, 10L, true);
+		verify(postLikeStateStore).revert(2L, 20L, false);
+		verify(postLikeStateStore, never()).revert(2L, 20L, true);
+		verify(viewerStateService).removeLike(10L, 1L);
+		verify(viewerStateService).recordLike(20L, 2L);
+		verifyNoInteractions(likeCounter);
+	}
+}
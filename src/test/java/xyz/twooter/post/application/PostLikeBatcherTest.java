@@ -0,0 +1,137 @@
+package xyz.twooter.post.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import jakarta.persistence.EntityManager;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.MemberRepository;
+import xyz.twooter.post.application.dto.PostLikeOperation;
+import xyz.twooter.post.domain.Post;
+import xyz.twooter.post.domain.PostLike;
+import xyz.twooter.post.domain.repository.PostLikeRepository;
+import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.support.IntegrationTestSupport;
+
+class PostLikeBatcherTest extends IntegrationTestSupport {
+
+	@Autowired
+	private PostLikeBatcher postLikeBatcher;
+
+	@Autowired
+	private PostLikeRepository postLikeRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	private final List<String> redisKeys = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.deleteAll(redisKeys);
+	}
+
+	@Test
+	@DisplayName("성공 - 모은 좋아요 추가/취소를 반영하고, 실제로 바뀐 행만큼 좋아요 수를 증감한다.")
+	void shouldApplyBatchedLikeOperations() {
+		// given
+		Member author = saveTestMember("author");
+		Member liker = saveTestMember("liker");
+		Member unliker = saveTestMember("unliker");
+		Member flipper = saveTestMember("flipper");
+		Post likedPost = saveTestPost(author, 0L);
+		Post unlikedPost = saveTestPost(author, 1L);
+		postLikeRepository.save(PostLike.builder().postId(unlikedPost.getId()).memberId(unliker.getId()).build());
+		entityManager.flush();
+
+		// when
+		postLikeBatcher.flush(List.of(
+			new PostLikeOperation(likedPost.getId(), liker.getId(), true),
+			new PostLikeOperation(unlikedPost.getId(), unliker.getId(), false),
+			// 같은 쌍의 변경은 마지막 것만 반영된다
+			new PostLikeOperation(likedPost.getId(), flipper.getId(), true),
+			new PostLikeOperation(likedPost.getId(), flipper.getId(), false)
+		));
+
+		// then
+		entityManager.clear();
+		assertThat(postLikeRepository.existsByPostIdAndMemberId(likedPost.getId(), liker.getId())).isTrue();
+		assertThat(postLikeRepository.existsByPostIdAndMemberId(likedPost.getId(), flipper.getId())).isFalse();
+		assertThat(postLikeRepository.existsByPostIdAndMemberId(unlikedPost.getId(), unliker.getId())).isFalse();
+		assertThat(postRepository.findById(likedPost.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+		assertThat(postRepository.findById(unlikedPost.getId()).orElseThrow().getLikeCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공 - 이미 반영된 좋아요를 다시 추가해도 행과 좋아요 수가 중복되지 않는다.")
+	void shouldIgnoreLikeThatAlreadyExists() {
+		// given
+		Member author = saveTestMember("author");
+		Member liker = saveTestMember("liker");
+		Post post = saveTestPost(author, 1L);
+		postLikeRepository.save(PostLike.builder().postId(post.getId()).memberId(liker.getId()).build());
+		entityManager.flush();
+
+		// when
+		postLikeBatcher.flush(List.of(new PostLikeOperation(post.getId(), liker.getId(), true)));
+
+		// then
+		entityManager.clear();
+		assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(1L);
+		assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("성공 - 대기열의 순서와 Redis 토글 순서가 달라도 지금의 Redis 좋아요 상태를 반영한다.")
+	void shouldApplyCurrentRedisStateInsteadOfQueuedOrder() {
+		// given
+		Member author = saveTestMember("author");
+		Member liker = saveTestMember("liker");
+		Post post = saveTestPost(author, 0L);
+		entityManager.flush();
+		String likersKey = PostLikeStateStore.POST_LIKERS_KEY_PREFIX + post.getId();
+		redisKeys.add(likersKey);
+		// 취소 후 다시 좋아요를 눌렀지만, 대기열에는 좋아요 -> 취소 순서로 들어간 경우
+		redisUtil.sAdd(likersKey, "-", String.valueOf(liker.getId()));
+
+		// when
+		postLikeBatcher.flush(List.of(
+			new PostLikeOperation(post.getId(), liker.getId(), true),
+			new PostLikeOperation(post.getId(), liker.getId(), false)
+		));
+
+		// then
+		entityManager.clear();
+		assertThat(postLikeRepository.existsByPostIdAndMemberId(post.getId(), liker.getId())).isTrue();
+		assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(1L);
+	}
+
+	private Member saveTestMember(String handle) {
+		return memberRepository.save(Member.createDefaultMember(handle + "@test.com", "password", handle));
+	}
+
+	private Post saveTestPost(Member author, Long likeCount) {
+		return postRepository.save(Post.builder()
+			.authorId(author.getId())
+			.content("테스트 포스트입니다.")
+			.likeCount(likeCount)
+			.build());
+	}
+}
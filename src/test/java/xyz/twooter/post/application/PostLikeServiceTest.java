@@ -2,15 +2,31 @@ package xyz.twooter.post.application;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
 
 import xyz.twooter.member.domain.Member;
 import xyz.twooter.member.domain.repository.MemberRepository;
 import xyz.twooter.post.domain.Post;
 import xyz.twooter.post.domain.PostLike;
+import xyz.twooter.post.domain.exception.PostNotFoundException;
 import xyz.twooter.post.domain.repository.PostLikeRepository;
 import xyz.twooter.post.domain.repository.PostRepository;
 import xyz.twooter.post.presentation.dto.response.PostLikeResponse;
@@ -30,6 +46,12 @@ class PostLikeServiceTest extends IntegrationTestSupport {
 	@Autowired
 	private MemberRepository memberRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	@Nested
 	class GetLikeCount {
 
@@ -141,9 +163,100 @@ class PostLikeServiceTest extends IntegrationTestSupport {
 			assertThat(response.getPostId()).isEqualTo(post.getId());
 			assertThat(response.getIsLiked()).isFalse();
 		}
+
+		@DisplayName("성공 - 좋아요와 취소를 반복하면 좋아요 행과 좋아요 수가 함께 바뀐다.")
+		@Test
+		void shouldKeepLikeRowAndCountInSyncWhenToggledRepeatedly() {
+			// given
+			Member member = saveTestMember("me");
+			Member author = saveTestMember("author");
+			Post post = saveTestPost(author);
+
+			// when
+			PostLikeResponse liked = postLikeService.toggleLikeAndCount(post.getId(), member);
+			long likeCountAfterLike = findLikeCount(post.getId());
+			PostLikeResponse unliked = postLikeService.toggleLikeAndCount(post.getId(), member);
+
+			// then
+			assertThat(liked.getIsLiked()).isTrue();
+			assertThat(likeCountAfterLike).isEqualTo(1L);
+			assertThat(unliked.getIsLiked()).isFalse();
+			assertThat(findLikeCount(post.getId())).isZero();
+			assertThat(postLikeService.isLikedByMember(post.getId(), member.getId())).isFalse();
+		}
+
+		@DisplayName("실패 - 존재하지 않는 포스트에는 좋아요를 누를 수 없다.")
+		@Test
+		void shouldThrowWhenPostDoesNotExist() {
+			// given
+			Member member = saveTestMember("me");
+
+			// when & then
+			assertThatThrownBy(() -> postLikeService.toggleLikeAndCount(-1L, member))
+				.isInstanceOf(PostNotFoundException.class);
+		}
+	}
+
+	@Nested
+	class ToggleLikeConcurrently {
+
+		private final List<Long> savedMemberIds = new ArrayList<>();
+		private Long savedPostId;
+
+		@AfterEach
+		void tearDown() {
+			// 요청마다 커밋되므로 테스트 트랜잭션 롤백 대신 직접 지운다.
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				savedMemberIds.forEach(memberId -> postLikeRepository.deleteLike(savedPostId, memberId));
+				postRepository.deleteById(savedPostId);
+				memberRepository.deleteAllById(savedMemberIds);
+			});
+		}
+
+		@DisplayName("성공 - 같은 회원이 동시에 좋아요를 눌러도 중복 키 오류 없이 처리되고 좋아요 행과 좋아요 수가 맞는다.")
+		@Test
+		@Transactional(propagation = Propagation.NOT_SUPPORTED)
+		void shouldToggleWithoutDuplicateKeyErrorWhenRequestedConcurrently() throws Exception {
+			// given
+			Member member = saveTestMember("me");
+			Member author = saveTestMember("author");
+			savedMemberIds.addAll(List.of(member.getId(), author.getId()));
+			Post post = saveTestPost(author);
+			savedPostId = post.getId();
+			int requests = 8;
+			ExecutorService executor = Executors.newFixedThreadPool(requests);
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<PostLikeResponse>> results = new ArrayList<>();
+
+			// when
+			for (int i = 0; i < requests; i++) {
+				Callable<PostLikeResponse> toggle = () -> {
+					start.await();
+					return postLikeService.toggleLikeAndCount(post.getId(), member);
+				};
+				results.add(executor.submit(toggle));
+			}
+			start.countDown();
+			for (Future<PostLikeResponse> result : results) {
+				assertThat(result.get().getPostId()).isEqualTo(post.getId());
+			}
+			executor.shutdown();
+
+			// then
+			long likeRows = postLikeService.getLikeCount(post.getId());
+			assertThat(likeRows).isLessThanOrEqualTo(1L);
+			assertThat(findLikeCount(post.getId())).isEqualTo(likeRows);
+		}
 	}
+
 	// === 헬퍼 ===
 
+	private long findLikeCount(Long postId) {
+		entityManager.clear();
+		return postRepository.findById(postId).orElseThrow().getLikeCount();
+	}
+
+
 	private Member saveTestMember(String handle) {
 		return saveTestMember(handle, handle + "@test.com");
 	}
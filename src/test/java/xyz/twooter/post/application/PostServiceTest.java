@@ -64,7 +64,7 @@ class PostServiceTest extends IntegrationTestSupport {
 	private RedisTemplate<String, String> redisStringTemplate;
 	@Autowired
 	private ObjectMapper objectMapper;
-	private static final String TIMELINE_QUEUE_KEY = "queue:timeline:fanout";
+	private static final String TIMELINE_QUEUE_KEY = "queue:{timeline:fanout}";
 
 	@AfterEach
 	void tearDown() {
@@ -91,7 +91,7 @@ class PostServiceTest extends IntegrationTestSupport {
 			Thread.sleep(500); // 0.5초 대기
 
 			// then: Redis Sorted Set(타임라인 캐시)의 최종 결과를 검증
-			String authorTimelineKey = "timeline:user:" + author.getId();
+			String authorTimelineKey = "timeline:user:{" + author.getId() + "}";
 			Set<String> timelinePostIds = redisStringTemplate.opsForZSet().range(authorTimelineKey, 0, -1);
 
 			assertThat(timelinePostIds).hasSize(1);
@@ -270,7 +270,7 @@ class PostServiceTest extends IntegrationTestSupport {
 			Thread.sleep(500);
 
 			// then: Redis Sorted Set(타임라인 캐시)의 최종 결과를 검증
-			String reposterTimelineKey = "timeline:user:" + reposter.getId();
+			String reposterTimelineKey = "timeline:user:{" + reposter.getId() + "}";
 			Set<String> timelinePostIds = redisStringTemplate.opsForZSet().range(reposterTimelineKey, 0, -1);
 
 			assertThat(timelinePostIds).hasSize(1);
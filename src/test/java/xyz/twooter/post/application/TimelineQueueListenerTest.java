@@ -12,15 +12,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.member.domain.repository.FollowRepository;
+import xyz.twooter.member.domain.repository.projection.FollowerIdPage;
 import xyz.twooter.post.application.dto.TimelineFanoutMessage;
 import xyz.twooter.post.domain.Post;
 import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.post.domain.repository.projection.TimelineEntryProjection;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,6 +56,12 @@ class TimelineQueueListenerTest {
         ReflectionTestUtils.invokeMethod(timelineQueueListener, "fanout", messageJson);
     }
 
+    private void stubFollowerPages(Long authorId, List<Long> followerIds) {
+        long[] ids = followerIds.stream().mapToLong(Long::longValue).toArray();
+        when(followRepository.findFollowerIdPage(eq(authorId), anyLong(), anyInt()))
+                .thenReturn(new FollowerIdPage(ids, ids.length), FollowerIdPage.empty(ids.length));
+    }
+
     @BeforeEach
     void setUp() {
         timelineQueueListener.initializeHandlers();
@@ -72,7 +87,7 @@ class TimelineQueueListenerTest {
 
             TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
 
-            when(followRepository.findAllFollowerIdsByFolloweeId(authorId)).thenReturn(followerIds);
+            stubFollowerPages(authorId, followerIds);
 
             // when
             invokeFanout(message);
@@ -81,11 +96,172 @@ class TimelineQueueListenerTest {
             ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
             verify(redisUtil, times(4)).zAdd(keyCaptor.capture(), eq(String.valueOf(postId)), anyDouble());
 
-            List<String> expectedKeys = List.of("timeline:user:1", "timeline:user:2", "timeline:user:3", "timeline:user:4");
+            List<String> expectedKeys = List.of(
+                    "timeline:user:{1}", "timeline:user:{2}", "timeline:user:{3}", "timeline:user:{4}");
             assertThat(keyCaptor.getAllValues()).containsExactlyInAnyOrderElementsOf(expectedKeys);
 
             verify(redisUtil, times(4)).zRemRangeByRank(anyString(), anyInt());
         }
+
+        @Test
+        @DisplayName("성공 - 배치 모드에서는 팔로워를 chunk 단위로 묶어 한 번에 추가해야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldAddPostInChunksWhenBatchFanoutEnabled() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "batchFanoutEnabled", true);
+            ReflectionTestUtils.setField(timelineQueueListener, "fanoutChunkSize", 2);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+            List<Long> followerIds = List.of(2L, 3L, 4L, 5L);
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+            when(mockPost.getCreatedAt()).thenReturn(LocalDateTime.now());
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
+
+            stubFollowerPages(authorId, followerIds);
+
+            // when
+            invokeFanout(message);
+
+            // then - 작성자 1번 + 팔로워 4명 / chunk 2 = 2번, 총 3번의 pipeline 호출
+            ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+            verify(redisUtil, times(3)).zAddAndTrim(keysCaptor.capture(), eq(String.valueOf(postId)), anyDouble(),
+                    eq(TimelineQueueListener.TIMELINE_CACHE_LIMIT));
+            verify(redisUtil, never()).zAdd(anyString(), anyString(), anyDouble());
+
+            List<String> allKeys = keysCaptor.getAllValues().stream().flatMap(List::stream).toList();
+            assertThat(allKeys).containsExactlyInAnyOrder(
+                    "timeline:user:{1}", "timeline:user:{2}", "timeline:user:{3}", "timeline:user:{4}", "timeline:user:{5}");
+        }
+
+        @Test
+        @DisplayName("성공 - 팔로워를 keyset 페이지 단위로 읽어 모든 페이지에 포스트를 추가해야 한다")
+        void shouldFanoutFollowerPagesUsingKeyset() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "followerPageSize", 2);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+            when(mockPost.getCreatedAt()).thenReturn(LocalDateTime.now());
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
+
+            when(followRepository.findFollowerIdPage(authorId, 0L, 2))
+                    .thenReturn(new FollowerIdPage(new long[] {2L, 3L}, 10L));
+            when(followRepository.findFollowerIdPage(authorId, 10L, 2))
+                    .thenReturn(new FollowerIdPage(new long[] {4L}, 11L));
+
+            // when
+            invokeFanout(message);
+
+            // then - 마지막 페이지가 pageSize 보다 작으므로 추가 조회 없이 종료한다
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            verify(redisUtil, times(4)).zAdd(keyCaptor.capture(), eq(String.valueOf(postId)), anyDouble());
+            assertThat(keyCaptor.getAllValues()).containsExactlyInAnyOrder(
+                    "timeline:user:{1}", "timeline:user:{2}", "timeline:user:{3}", "timeline:user:{4}");
+            verify(followRepository, times(2)).findFollowerIdPage(eq(authorId), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 팔로워 수가 임계값을 넘는 작성자의 포스트는 팔로워에게 push하지 않고 작성자 목록에만 저장해야 한다")
+        void shouldSkipFanoutWhenAuthorHasTooManyFollowers() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "highFollowerThreshold", 10L);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+            when(mockPost.getCreatedAt()).thenReturn(LocalDateTime.now());
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
+
+            when(followRepository.countByFolloweeId(authorId)).thenReturn(100L);
+
+            // when
+            invokeFanout(message);
+
+            // then
+            verify(redisUtil).sAdd(TimelineQueueListener.HIGH_FOLLOWER_AUTHORS_KEY, String.valueOf(authorId));
+            verify(redisUtil).zAddAndTrim(eq(List.of("timeline:user:{1}", "timeline:author:{1}")),
+                    eq(String.valueOf(postId)), anyDouble(), eq(TimelineQueueListener.TIMELINE_CACHE_LIMIT));
+            verify(followRepository, never()).findFollowerIdPage(anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 pull 대상인 작성자는 팔로워 수가 임계값 아래로 조금 줄어도 계속 작성자 목록에만 저장해야 한다")
+        void shouldKeepHighFollowerAuthorWithinHysteresis() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "highFollowerThreshold", 10L);
+            ReflectionTestUtils.setField(timelineQueueListener, "highFollowerDemoteRatio", 0.8);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+            when(mockPost.getCreatedAt()).thenReturn(LocalDateTime.now());
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
+
+            when(followRepository.countByFolloweeId(authorId)).thenReturn(9L);
+            when(redisUtil.sIsMember(TimelineQueueListener.HIGH_FOLLOWER_AUTHORS_KEY, "1")).thenReturn(true);
+
+            // when
+            invokeFanout(message);
+
+            // then
+            verify(redisUtil, never()).sRem(anyString(), any(String[].class));
+            verify(redisUtil).zAddAndTrim(eq(List.of("timeline:user:{1}", "timeline:author:{1}")),
+                    eq(String.valueOf(postId)), anyDouble(), eq(TimelineQueueListener.TIMELINE_CACHE_LIMIT));
+            verify(followRepository, never()).findFollowerIdPage(anyLong(), anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("성공 - pull 대상에서 빠지는 작성자는 작성자 목록의 포스트를 팔로워 타임라인에 채운 뒤 목록에서 제거해야 한다")
+        void shouldBackfillFollowersWhenHighFollowerAuthorIsDemoted() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "highFollowerThreshold", 10L);
+            ReflectionTestUtils.setField(timelineQueueListener, "highFollowerDemoteRatio", 0.8);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+            when(mockPost.getCreatedAt()).thenReturn(LocalDateTime.now());
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostCreation(mockPost);
+
+            when(followRepository.countByFolloweeId(authorId)).thenReturn(5L);
+            when(redisUtil.sIsMember(TimelineQueueListener.HIGH_FOLLOWER_AUTHORS_KEY, "1")).thenReturn(true);
+            when(redisUtil.zReverseRangeWithScores("timeline:author:{1}", 0, 49))
+                    .thenReturn(Set.of(ZSetOperations.TypedTuple.of("90", 90.0)));
+            when(followRepository.findFollowerIdPage(eq(authorId), anyLong(), anyInt()))
+                    .thenReturn(new FollowerIdPage(new long[] {2L}, 1), FollowerIdPage.empty(1),
+                            new FollowerIdPage(new long[] {2L}, 1), FollowerIdPage.empty(1));
+
+            // when
+            invokeFanout(message);
+
+            // then - 밀려 있던 포스트를 먼저 채우고, 이후 새 포스트는 push 한다.
+            verify(redisUtil).zAdd("timeline:user:{2}", "90", 90.0);
+            verify(redisUtil).sRem(TimelineQueueListener.HIGH_FOLLOWER_AUTHORS_KEY, "1");
+            verify(redisUtil).delete("timeline:author:{1}");
+            verify(redisUtil).zAdd(eq("timeline:user:{2}"), eq(String.valueOf(postId)), anyDouble());
+        }
     }
 
     @Nested
@@ -105,7 +281,7 @@ class TimelineQueueListenerTest {
 
             TimelineFanoutMessage message = TimelineFanoutMessage.ofPostDeletion(mockPost);
 
-            when(followRepository.findAllFollowerIdsByFolloweeId(authorId)).thenReturn(followerIds);
+            stubFollowerPages(authorId, followerIds);
 
             // when
             invokeFanout(message);
@@ -114,9 +290,37 @@ class TimelineQueueListenerTest {
             ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
             verify(redisUtil, times(3)).zRem(keyCaptor.capture(), eq(String.valueOf(postId)));
 
-            List<String> expectedKeys = List.of("timeline:user:1", "timeline:user:2", "timeline:user:3");
+            List<String> expectedKeys = List.of("timeline:user:{1}", "timeline:user:{2}", "timeline:user:{3}");
             assertThat(keyCaptor.getAllValues()).containsExactlyInAnyOrderElementsOf(expectedKeys);
         }
+
+        @Test
+        @DisplayName("성공 - 배치 모드에서는 팔로워 타임라인을 chunk 단위로 묶어 한 번에 삭제해야 한다")
+        void shouldRemovePostInChunksWhenBatchFanoutEnabled() throws Exception {
+            // given
+            ReflectionTestUtils.setField(timelineQueueListener, "batchFanoutEnabled", true);
+            ReflectionTestUtils.setField(timelineQueueListener, "fanoutChunkSize", 2);
+
+            Long authorId = 1L;
+            Long postId = 101L;
+            List<Long> followerIds = List.of(2L, 3L, 4L);
+
+            Post mockPost = mock(Post.class);
+            when(mockPost.getId()).thenReturn(postId);
+            when(mockPost.getAuthorId()).thenReturn(authorId);
+
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofPostDeletion(mockPost);
+
+            stubFollowerPages(authorId, followerIds);
+
+            // when
+            invokeFanout(message);
+
+            // then - 작성자 1번 + 팔로워 3명 / chunk 2 = 2번의 pipeline 호출
+            verify(redisUtil).zRem("timeline:user:{1}", String.valueOf(postId));
+            verify(redisUtil).zRemFromKeys(List.of("timeline:user:{2}", "timeline:user:{3}"), String.valueOf(postId));
+            verify(redisUtil).zRemFromKeys(List.of("timeline:user:{4}"), String.valueOf(postId));
+        }
     }
 
     @Nested
@@ -147,7 +351,7 @@ class TimelineQueueListenerTest {
             invokeFanout(message);
 
             // then
-            String expectedKey = "timeline:user:" + followerId;
+            String expectedKey = "timeline:user:{" + followerId + "}";
             verify(redisUtil, times(1)).zAdd(eq(expectedKey), eq("101"), anyDouble());
             verify(redisUtil, times(1)).zAdd(eq(expectedKey), eq("102"), anyDouble());
             verify(redisUtil, times(1)).zRemRangeByRank(eq(expectedKey), anyInt());
@@ -172,9 +376,224 @@ class TimelineQueueListenerTest {
             invokeFanout(message);
 
             // then
-            String expectedKey = "timeline:user:" + followerId;
+            String expectedKey = "timeline:user:{" + followerId + "}";
             String[] expectedIdsToRemove = {"101", "102", "103"};
             verify(redisUtil, times(1)).zRem(eq(expectedKey), eq(expectedIdsToRemove));
         }
     }
+
+    @Nested
+    @DisplayName("타임라인 재구성 이벤트(TIMELINE_REBUILD) 처리")
+    class HandleTimelineRebuild {
+        @Test
+        @DisplayName("성공 - DB 의 최신 항목으로 사용자의 타임라인 캐시를 채워야 한다")
+        @SuppressWarnings("unchecked")
+        void shouldFillTimelineFromRecentEntriesWhenRebuildRequested() throws Exception {
+            // given
+            Long memberId = 1L;
+            LocalDateTime createdAt = LocalDateTime.of(2025, 5, 5, 0, 0);
+            when(postRepository.findRecentHomeTimelineEntries(memberId, TimelineQueueListener.TIMELINE_CACHE_LIMIT))
+                    .thenReturn(List.of(
+                            new TimelineEntryProjection(102L, createdAt),
+                            new TimelineEntryProjection(101L, createdAt.minusMinutes(1))));
+
+            // when
+            invokeFanout(TimelineFanoutMessage.ofTimelineRebuild(memberId));
+
+            // then
+            ArgumentCaptor<Map<String, Double>> scoresCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(redisUtil).zAddAll(eq("timeline:user:{1}"), scoresCaptor.capture());
+            assertThat(scoresCaptor.getValue()).containsOnlyKeys("101", "102");
+            assertThat(scoresCaptor.getValue().get("102")).isGreaterThan(scoresCaptor.getValue().get("101"));
+            verify(redisUtil).zRemRangeByRank("timeline:user:{1}", TimelineQueueListener.TIMELINE_CACHE_LIMIT);
+        }
+    }
+
+    @Nested
+    @DisplayName("신뢰 모드 큐 처리")
+    class ReliableQueue {
+
+        private String processingKey() {
+            return "queue:{timeline:fanout}:processing:"
+                    + ReflectionTestUtils.getField(timelineQueueListener, "workerId");
+        }
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(timelineQueueListener, "reliableQueueEnabled", true);
+            ReflectionTestUtils.setField(timelineQueueListener, "maxAttempts", 3);
+            ReflectionTestUtils.setField(timelineQueueListener, "retryBackoffMillis", 0L);
+        }
+
+        @Test
+        @DisplayName("성공 - 처리가 끝나면 처리 중 목록에서 메시지를 제거(ack)해야 한다")
+        void shouldAcknowledgeMessageWhenHandlerSucceeds() throws Exception {
+            // given
+            String messageJson = objectMapper.writeValueAsString(TimelineFanoutMessage.ofFollowDeletion(1L, 2L));
+            when(postRepository.findAllIdsByAuthorId(2L)).thenReturn(List.of(101L));
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "processReliably", messageJson);
+
+            // then
+            verify(redisUtil).lRem(processingKey(), 1, messageJson);
+            verify(redisUtil, never()).lPush(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - 처리에 실패하면 시도 횟수를 늘려 큐에 다시 넣은 뒤 ack 해야 한다")
+        void shouldRequeueWithNextAttemptWhenHandlerFails() throws Exception {
+            // given
+            String messageJson = objectMapper.writeValueAsString(TimelineFanoutMessage.ofFollowDeletion(1L, 2L));
+            when(postRepository.findAllIdsByAuthorId(2L)).thenThrow(new RuntimeException("db down"));
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "processReliably", messageJson);
+
+            // then
+            ArgumentCaptor<String> retryCaptor = ArgumentCaptor.forClass(String.class);
+            verify(redisUtil, timeout(1000)).lPush(eq("queue:{timeline:fanout}"), retryCaptor.capture());
+            verify(redisUtil, timeout(1000)).lRem(processingKey(), 1, messageJson);
+            assertThat(objectMapper.readValue(retryCaptor.getValue(), TimelineFanoutMessage.class).getAttempts())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 시도 횟수에 도달하면 dead-letter 목록으로 옮겨야 한다")
+        void shouldMoveToDeadLetterWhenAttemptsExhausted() throws Exception {
+            // given
+            TimelineFanoutMessage message = TimelineFanoutMessage.ofFollowDeletion(1L, 2L)
+                    .withNextAttempt()
+                    .withNextAttempt();
+            String messageJson = objectMapper.writeValueAsString(message);
+            when(postRepository.findAllIdsByAuthorId(2L)).thenThrow(new RuntimeException("db down"));
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "processReliably", messageJson);
+
+            // then
+            verify(redisUtil).lPush("queue:{timeline:fanout}:dead", messageJson);
+            verify(redisUtil).lRem(processingKey(), 1, messageJson);
+            verify(redisUtil, never()).lPush(eq("queue:{timeline:fanout}"), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 생존 신호가 끊긴 워커의 처리 중 메시지를 큐로 되돌려야 한다")
+        void shouldRequeueInFlightMessagesOfDeadWorkers() {
+            // given
+            when(redisUtil.sMembers("queue:{timeline:fanout}:workers")).thenReturn(Set.of("dead-worker"));
+            when(redisUtil.hasKey("queue:{timeline:fanout}:heartbeat:dead-worker")).thenReturn(false);
+            when(redisUtil.lMoveToFront("queue:{timeline:fanout}:processing:dead-worker", "queue:{timeline:fanout}"))
+                    .thenReturn("m1", "m2", null);
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "recoverOrphanedMessages");
+
+            // then
+            verify(redisUtil, times(3)).lMoveToFront("queue:{timeline:fanout}:processing:dead-worker",
+                    "queue:{timeline:fanout}");
+            verify(redisUtil).sRem("queue:{timeline:fanout}:workers", "dead-worker");
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream 전송 방식 처리")
+    class StreamTransport {
+
+        private MapRecord<String, Object, Object> recordOf(TimelineFanoutMessage message) throws Exception {
+            return StreamRecords.newRecord()
+                    .in("stream:timeline:fanout")
+                    .withId("1-0")
+                    .ofMap(Map.<Object, Object>of("payload", objectMapper.writeValueAsString(message)));
+        }
+
+        @Test
+        @DisplayName("성공 - 처리가 끝난 레코드는 ack 해야 한다")
+        void shouldAcknowledgeStreamRecordWhenHandlerSucceeds() throws Exception {
+            // given
+            MapRecord<String, Object, Object> record = recordOf(TimelineFanoutMessage.ofFollowDeletion(1L, 2L));
+            when(postRepository.findAllIdsByAuthorId(2L)).thenReturn(List.of(101L));
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "processStreamRecord", record);
+
+            // then
+            verify(redisUtil).zRem(eq("timeline:user:{1}"), eq(new String[] {"101"}));
+            verify(redisUtil).xAck("stream:timeline:fanout", "timeline-fanout", "1-0");
+        }
+
+        @Test
+        @DisplayName("실패 - 처리에 실패한 레코드는 재처리를 위해 ack 하지 않아야 한다")
+        void shouldLeaveStreamRecordPendingWhenHandlerFails() throws Exception {
+            // given
+            MapRecord<String, Object, Object> record = recordOf(TimelineFanoutMessage.ofFollowDeletion(1L, 2L));
+            when(postRepository.findAllIdsByAuthorId(2L)).thenThrow(new RuntimeException("db down"));
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "processStreamRecord", record);
+
+            // then
+            verify(redisUtil, never()).xAck("stream:timeline:fanout", "timeline-fanout", "1-0");
+        }
+
+        @Test
+        @DisplayName("성공 - Stream 은 가장 오래된 pending 레코드 앞까지만 잘라야 한다")
+        void shouldTrimStreamOnlyBeforeOldestPendingRecord() {
+            // given
+            when(redisUtil.xOldestPendingId("stream:timeline:fanout", "timeline-fanout")).thenReturn("5-0");
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "reclaimPendingStreamEntries");
+
+            // then
+            verify(redisUtil).xTrimMinId("stream:timeline:fanout", "5-0");
+            verify(redisUtil, never()).xTrim(anyString(), anyLong());
+            verify(redisUtil, never()).xLastDeliveredId(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("이전 릴리스 키 정리")
+    class LegacyKeys {
+
+        @Test
+        @DisplayName("성공 - 이전 큐의 메시지와 종료된 이전 워커의 처리 중 메시지를 새 큐로 옮겨야 한다")
+        void shouldMoveLegacyQueueAndOrphanedMessagesToTaggedQueue() {
+            // given
+            when(redisUtil.lMoveToBack("queue:timeline:fanout", "queue:{timeline:fanout}"))
+                    .thenReturn("m1", "m2", null);
+            when(redisUtil.sMembers("queue:timeline:fanout:workers")).thenReturn(Set.of("dead", "alive"));
+            when(redisUtil.hasKey("queue:timeline:fanout:heartbeat:dead")).thenReturn(false);
+            when(redisUtil.hasKey("queue:timeline:fanout:heartbeat:alive")).thenReturn(true);
+            when(redisUtil.lMoveToFront("queue:timeline:fanout:processing:dead", "queue:{timeline:fanout}"))
+                    .thenReturn("m3", (String) null);
+
+            // when
+            ReflectionTestUtils.invokeMethod(timelineQueueListener, "drainLegacyQueue");
+
+            // then
+            verify(redisUtil, times(3)).lMoveToBack("queue:timeline:fanout", "queue:{timeline:fanout}");
+            verify(redisUtil, times(2)).lMoveToFront("queue:timeline:fanout:processing:dead", "queue:{timeline:fanout}");
+            verify(redisUtil).sRem("queue:timeline:fanout:workers", "dead");
+            verify(redisUtil, never()).lMoveToFront(eq("queue:timeline:fanout:processing:alive"), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - TTL 이 없는 이전 타임라인 키에만 TTL 을 걸어야 한다")
+        void shouldExpireOnlyLegacyTimelinesWithoutTtl() {
+            // given
+            when(redisUtil.scan("timeline:user:[0-9]*", 1000))
+                    .thenReturn(Stream.of("timeline:user:1", "timeline:user:2"));
+            when(redisUtil.getExpire("timeline:user:1", TimeUnit.SECONDS)).thenReturn(-1L);
+            when(redisUtil.getExpire("timeline:user:2", TimeUnit.SECONDS)).thenReturn(3600L);
+
+            // when
+            Long expired = ReflectionTestUtils.invokeMethod(timelineQueueListener, "expireLegacyTimelines");
+
+            // then
+            assertThat(expired).isEqualTo(1L);
+            verify(redisUtil).expire("timeline:user:1", TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS);
+            verify(redisUtil, never()).expire(eq("timeline:user:2"), anyLong(), any());
+        }
+    }
 }
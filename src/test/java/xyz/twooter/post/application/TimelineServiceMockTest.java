@@ -0,0 +1,132 @@
+package xyz.twooter.post.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import xyz.twooter.common.infrastructure.concurrency.SingleFlight;
+import xyz.twooter.common.infrastructure.pagination.CursorUtil;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.media.application.MediaService;
+import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.FollowRepository;
+import xyz.twooter.post.application.dto.ViewerStates;
+import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.post.domain.repository.projection.TimelineItemProjection;
+import xyz.twooter.post.presentation.dto.response.TimelineResponse;
+import xyz.twooter.support.MockTestSupport;
+
+class TimelineServiceMockTest extends MockTestSupport {
+
+	private static final Long TARGET_ID = 1L;
+	private static final Long POST_ID = 100L;
+
+	@Mock
+	private PostRepository postRepository;
+
+	@Mock
+	private PostViewCache postViewCache;
+
+	@Mock
+	private ViewerStateService viewerStateService;
+
+	@Mock
+	private LikeCounter likeCounter;
+
+	@Mock
+	private FollowRepository followRepository;
+
+	@Mock
+	private MediaService mediaService;
+
+	@Mock
+	private CursorUtil cursorUtil;
+
+	@Mock
+	private RedisUtil redisUtil;
+
+	@Mock
+	private TimelineFanoutPublisher timelineFanoutPublisher;
+
+	@Spy
+	private SingleFlight singleFlight = new SingleFlight();
+
+	@InjectMocks
+	private TimelineService timelineService;
+
+	@Test
+	@DisplayName("성공 - 서로 다른 조회자의 같은 타임라인 조회는 DB 조회 하나를 공유하고, 좋아요 여부는 조회자마다 채운다")
+	void shouldShareInFlightLoadAcrossViewers() throws Exception {
+		// given
+		Member liker = member(10L);
+		Member other = member(20L);
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(postRepository.findUserTimelineWithPagination(TARGET_ID, null, null, null, 11)).thenAnswer(invocation -> {
+			loadStarted.countDown();
+			release.await();
+			return List.of(timelineItem());
+		});
+		when(viewerStateService.getViewerStates(10L, List.of(POST_ID)))
+			.thenReturn(ViewerStates.of(Set.of(POST_ID), Set.of()));
+		when(viewerStateService.getViewerStates(20L, List.of(POST_ID))).thenReturn(ViewerStates.empty());
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when
+		Future<TimelineResponse> first = executor.submit(
+			() -> timelineService.getTimelineByUserId(null, 10, liker, TARGET_ID));
+		loadStarted.await();
+		Future<TimelineResponse> second = executor.submit(
+			() -> timelineService.getTimelineByUserId(null, 10, other, TARGET_ID));
+		awaitWaitingCaller();
+		release.countDown();
+		TimelineResponse likerResponse = first.get();
+		TimelineResponse otherResponse = second.get();
+		executor.shutdown();
+
+		// then
+		verify(postRepository, times(1)).findUserTimelineWithPagination(TARGET_ID, null, null, null, 11);
+		assertThat(likerResponse.getTimeline()).singleElement()
+			.satisfies(item -> assertThat(item.getPost().isLiked()).isTrue());
+		assertThat(otherResponse.getTimeline()).singleElement()
+			.satisfies(item -> assertThat(item.getPost().isLiked()).isFalse());
+	}
+
+	// 두 번째 요청이 실행 중인 조회의 결과를 기다리기 시작할 때까지 기다린다.
+	@SuppressWarnings("unchecked")
+	private void awaitWaitingCaller() throws InterruptedException {
+		Map<String, CompletableFuture<Object>> inFlight = (Map<String, CompletableFuture<Object>>)
+			ReflectionTestUtils.getField(singleFlight, "inFlight");
+		while (inFlight.values().stream().allMatch(call -> call.getNumberOfDependents() == 0)) {
+			Thread.sleep(10);
+		}
+	}
+
+	private Member member(Long id) {
+		Member member = mock(Member.class);
+		when(member.getId()).thenReturn(id);
+		return member;
+	}
+
+	private TimelineItemProjection timelineItem() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+		return new TimelineItemProjection("post", createdAt, POST_ID, POST_ID, "content", TARGET_ID, "target",
+			"target", null, 0L, 0L, false, false, false, createdAt, null, null, null, null);
+	}
+}
@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import jakarta.persistence.EntityManager;
 import xyz.twooter.common.infrastructure.pagination.InvalidCursorException;
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
 import xyz.twooter.media.domain.Media;
 import xyz.twooter.media.domain.repository.MediaRepository;
 import xyz.twooter.member.domain.Member;
@@ -751,6 +754,148 @@ class TimelineServiceTest extends IntegrationTestSupport {
 		}
 	}
 
+	@Nested
+	@DisplayName("홈 타임라인 캐시 커서 페이지네이션 검증")
+	class HomeTimelineCachePaginationTests {
+
+		@Autowired
+		private RedisUtil redisUtil;
+		@Autowired
+		private PostViewCache postViewCache;
+		@Autowired
+		private PostLikeService postLikeService;
+
+		private String timelineKey;
+		private final List<Long> cachedPostIds = new ArrayList<>();
+		private final List<String> viewerStateKeys = new ArrayList<>();
+
+		@AfterEach
+		void tearDown() {
+			if (timelineKey != null) {
+				redisUtil.delete(timelineKey);
+				redisUtil.delete(timelineKey.replace("timeline:user:", "timeline:rebuild-lock:"));
+			}
+			postViewCache.evict(cachedPostIds.toArray(Long[]::new));
+			redisUtil.deleteAll(viewerStateKeys);
+		}
+
+		@DisplayName("성공 - 페이지 사이에 새 포스트가 추가되어도 다음 페이지에 중복이나 누락이 없어야 한다")
+		@Test
+		void shouldKeepCursorStableWhenNewPostsArrive() {
+			// given
+			Member viewer = saveTestMember("viewer");
+			timelineKey = "timeline:user:{" + viewer.getId() + "}";
+			List<Post> posts = createCachedPosts(viewer, 4);
+
+			TimelineResponse firstPage = timelineService.getHomeTimeline(null, 2, viewer);
+
+			// 첫 페이지 조회 이후 새 포스트 도착
+			Post newPost = postRepository.save(Post.createPost(viewer.getId(), "새 포스트"));
+			redisUtil.zAdd(timelineKey, String.valueOf(newPost.getId()), TimelineScore.of(TIME_BASE, newPost.getId()));
+
+			// when
+			TimelineResponse secondPage = timelineService.getHomeTimeline(
+				firstPage.getMetadata().getNextCursor(), 2, viewer);
+
+			// then
+			assertThat(postIdsOf(firstPage)).containsExactly(posts.get(3).getId(), posts.get(2).getId());
+			assertThat(postIdsOf(secondPage)).containsExactly(posts.get(1).getId(), posts.get(0).getId());
+			assertThat(secondPage.getMetadata().isHasNext()).isFalse();
+		}
+
+		@DisplayName("성공 - 캐시에서 발급한 커서를 DB 조회 경로에서도 그대로 사용할 수 있어야 한다")
+		@Test
+		void shouldAcceptCacheCursorOnDatabaseFallback() {
+			// given
+			Member viewer = saveTestMember("viewer");
+			timelineKey = "timeline:user:{" + viewer.getId() + "}";
+			List<Post> posts = createCachedPosts(viewer, 4);
+
+			TimelineResponse firstPage = timelineService.getHomeTimeline(null, 2, viewer);
+			redisUtil.delete(timelineKey);
+
+			// when
+			TimelineResponse secondPage = timelineService.getHomeTimeline(
+				firstPage.getMetadata().getNextCursor(), 2, viewer);
+
+			// then
+			assertThat(postIdsOf(secondPage)).containsExactly(posts.get(1).getId(), posts.get(0).getId());
+			// 비어 있는 캐시는 재구성 작업이 한 번만 요청되도록 락을 잡는다
+			assertThat(redisUtil.hasKey("timeline:rebuild-lock:{" + viewer.getId() + "}")).isTrue();
+		}
+
+		@DisplayName("성공 - 포스트 정보는 포스트 뷰 캐시에서 읽어야 한다")
+		@Test
+		void shouldHydratePostsFromPostViewCache() {
+			// given
+			Member viewer = saveTestMember("viewer");
+			timelineKey = "timeline:user:{" + viewer.getId() + "}";
+			List<Post> posts = createCachedPosts(viewer, 1);
+			timelineService.getHomeTimeline(null, 10, viewer);
+
+			// 캐시를 거치지 않고 DB 의 본문을 바꾼다
+			entityManager
+				.createNativeQuery("UPDATE post SET content = '바뀐 본문' WHERE id = :postId")
+				.setParameter("postId", posts.get(0).getId())
+				.executeUpdate();
+
+			// when
+			TimelineResponse response = timelineService.getHomeTimeline(null, 10, viewer);
+
+			// then
+			assertThat(response.getTimeline()).hasSize(1);
+			assertThat(response.getTimeline().get(0).getPost().getContent()).isEqualTo("포스트 1");
+		}
+
+		@DisplayName("성공 - 좋아요 시 포스트 뷰가 무효화되고, 좋아요 여부는 조회자 기준으로 채워져야 한다")
+		@Test
+		void shouldEvictPostViewOnLike() {
+			// given
+			Member viewer = saveTestMember("viewer");
+			Member other = saveTestMember("other");
+			timelineKey = "timeline:user:{" + other.getId() + "}";
+			List<Post> posts = createCachedPosts(viewer, 1);
+			Long postId = posts.get(0).getId();
+			viewerStateKeys.add(RedisKeys.tagged(ViewerStateService.VIEWER_LIKES_KEY_PREFIX, viewer.getId()));
+			viewerStateKeys.add(RedisKeys.tagged(ViewerStateService.VIEWER_LIKES_KEY_PREFIX, other.getId()));
+			timelineService.getHomeTimeline(null, 10, other);
+
+			// when
+			postLikeService.toggleLikeAndCount(postId, viewer);
+			redisUtil.zAdd("timeline:user:{" + viewer.getId() + "}", String.valueOf(postId),
+				TimelineScore.of(TIME_BASE.minusHours(1), postId));
+			TimelineResponse viewerResponse = timelineService.getHomeTimeline(null, 10, viewer);
+			redisUtil.delete("timeline:user:{" + viewer.getId() + "}");
+			TimelineResponse otherResponse = timelineService.getHomeTimeline(null, 10, other);
+
+			// then
+			assertThat(viewerResponse.getTimeline().get(0).getPost().getLikeCount()).isEqualTo(1L);
+			assertThat(viewerResponse.getTimeline().get(0).getPost().isLiked()).isTrue();
+			assertThat(otherResponse.getTimeline().get(0).getPost().getLikeCount()).isEqualTo(1L);
+			assertThat(otherResponse.getTimeline().get(0).getPost().isLiked()).isFalse();
+		}
+
+		private List<Post> createCachedPosts(Member author, int count) {
+			List<Post> posts = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				Post savedPost = postRepository.save(Post.createPost(author.getId(), "포스트 " + (i + 1)));
+				LocalDateTime createdAt = TIME_BASE.minusHours(count - i);
+				updateCreatedAt(savedPost.getId(), createdAt);
+				redisUtil.zAdd(timelineKey, String.valueOf(savedPost.getId()),
+					TimelineScore.of(createdAt, savedPost.getId()));
+				posts.add(savedPost);
+				cachedPostIds.add(savedPost.getId());
+			}
+			return posts;
+		}
+
+		private List<Long> postIdsOf(TimelineResponse response) {
+			return response.getTimeline().stream()
+				.map(item -> item.getPost().getId())
+				.toList();
+		}
+	}
+
 	// ===== 헬퍼 메서드 =====
 	private Member saveTestMember(String handle) {
 		String email = handle + "@test.test";
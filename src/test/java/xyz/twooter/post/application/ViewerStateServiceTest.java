@@ -0,0 +1,138 @@
+package xyz.twooter.post.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import xyz.twooter.common.infrastructure.redis.RedisKeys;
+import xyz.twooter.common.infrastructure.redis.RedisUtil;
+import xyz.twooter.member.domain.Member;
+import xyz.twooter.member.domain.repository.MemberRepository;
+import xyz.twooter.post.application.dto.ViewerStates;
+import xyz.twooter.post.domain.Post;
+import xyz.twooter.post.domain.PostLike;
+import xyz.twooter.post.domain.repository.PostLikeRepository;
+import xyz.twooter.post.domain.repository.PostRepository;
+import xyz.twooter.support.IntegrationTestSupport;
+
+class ViewerStateServiceTest extends IntegrationTestSupport {
+
+	@Autowired
+	private ViewerStateService viewerStateService;
+
+	@Autowired
+	private PostLikeRepository postLikeRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RedisUtil redisUtil;
+
+	private final List<String> viewerStateKeys = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		redisUtil.deleteAll(viewerStateKeys);
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 포스트의 좋아요/리포스트 여부를 한 번에 조회한다.")
+	void shouldReturnLikedAndRepostedFlags() {
+		// given
+		Member author = saveTestMember("author");
+		Member viewer = saveTestMember("viewer");
+		Post likedPost = saveTestPost(author);
+		Post repostedPost = saveTestPost(author);
+		Post otherPost = saveTestPost(author);
+		saveTestPostLike(likedPost.getId(), viewer.getId());
+		postRepository.save(Post.createRepost(viewer.getId(), repostedPost.getId()));
+		trackKeys(viewer);
+
+		// when
+		ViewerStates states = viewerStateService.getViewerStates(viewer.getId(),
+			List.of(likedPost.getId(), repostedPost.getId(), otherPost.getId()));
+
+		// then
+		assertThat(states.isLiked(likedPost.getId())).isTrue();
+		assertThat(states.isLiked(repostedPost.getId())).isFalse();
+		assertThat(states.isReposted(repostedPost.getId())).isTrue();
+		assertThat(states.isReposted(likedPost.getId())).isFalse();
+		assertThat(states.isLiked(otherPost.getId())).isFalse();
+		assertThat(states.isReposted(otherPost.getId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공 - 한 번 조회한 회원의 좋아요 목록은 Redis 에서 읽는다.")
+	void shouldServeFlagsFromRedisAfterFirstLookup() {
+		// given
+		Member author = saveTestMember("author");
+		Member viewer = saveTestMember("viewer");
+		Post post = saveTestPost(author);
+		saveTestPostLike(post.getId(), viewer.getId());
+		trackKeys(viewer);
+		viewerStateService.getViewerStates(viewer.getId(), List.of(post.getId()));
+
+		// 캐시를 거치지 않고 DB 의 좋아요를 지운다
+		postLikeRepository.deleteByPostIdAndMemberId(post.getId(), viewer.getId());
+
+		// when
+		ViewerStates states = viewerStateService.getViewerStates(viewer.getId(), List.of(post.getId()));
+
+		// then
+		assertThat(redisUtil.hasKey(RedisKeys.tagged(ViewerStateService.VIEWER_LIKES_KEY_PREFIX, viewer.getId())))
+			.isTrue();
+		assertThat(states.isLiked(post.getId())).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공 - 비로그인 조회자는 모든 포스트에 대해 false 를 반환한다.")
+	void shouldReturnEmptyStatesForAnonymousViewer() {
+		// given
+		Member author = saveTestMember("author");
+		Post post = saveTestPost(author);
+
+		// when
+		ViewerStates states = viewerStateService.getViewerStates(null, List.of(post.getId()));
+
+		// then
+		assertThat(states.isLiked(post.getId())).isFalse();
+		assertThat(states.isReposted(post.getId())).isFalse();
+	}
+
+	// === 헬퍼 ===
+
+	private void trackKeys(Member viewer) {
+		viewerStateKeys.add(RedisKeys.tagged(ViewerStateService.VIEWER_LIKES_KEY_PREFIX, viewer.getId()));
+		viewerStateKeys.add(RedisKeys.tagged(ViewerStateService.VIEWER_REPOSTS_KEY_PREFIX, viewer.getId()));
+	}
+
+	private Member saveTestMember(String handle) {
+		Member member = Member.createDefaultMember(handle + "@test.com", "password", handle);
+		return memberRepository.save(member);
+	}
+
+	private Post saveTestPost(Member author) {
+		Post post = Post.builder()
+			.authorId(author.getId())
+			.content("테스트 포스트입니다.")
+			.build();
+		return postRepository.save(post);
+	}
+
+	private void saveTestPostLike(Long postId, Long memberId) {
+		postLikeRepository.save(PostLike.builder()
+			.postId(postId)
+			.memberId(memberId)
+			.build());
+	}
+}
@@ -503,6 +503,28 @@ class PostRepositoryTest extends IntegrationTestSupport {
 		}
 	}
 
+	@Nested
+	@DisplayName("포스트를 저장하면")
+	class WhenSavingPost {
+
+		@Test
+		@DisplayName("성공 - 작성 시각을 타임라인 score 와 같은 ms 단위로 저장한다")
+		void shouldTruncateCreatedAtToMillis() {
+			// given
+			Post post = Post.createPost(targetUser.getId(), "포스트");
+
+			// when
+			entityManager.persist(post);
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			LocalDateTime createdAt = postRepository.findById(post.getId()).orElseThrow().getCreatedAt();
+			assertThat(createdAt.getNano() % 1_000_000).isZero();
+			assertThat(post.getCreatedAt()).isEqualTo(createdAt);
+		}
+	}
+
 	// Helper Methods
 	private Member createMember() {
 		Member member = Member.builder()
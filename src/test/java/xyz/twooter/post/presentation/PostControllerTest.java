@@ -53,7 +53,7 @@ class PostControllerTest extends ControllerTestSupport {
 						.contentType(MediaType.APPLICATION_JSON)
 				)
 				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.id").value(response.getId()))
+				.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 				.andExpect(jsonPath("$.media").isArray());
 		}
 
@@ -71,7 +71,7 @@ class PostControllerTest extends ControllerTestSupport {
 						.contentType(MediaType.APPLICATION_JSON)
 				)
 				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.id").value(response.getId()))
+				.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 				.andExpect(jsonPath("$.media").isArray());
 		}
 
@@ -177,7 +177,7 @@ class PostControllerTest extends ControllerTestSupport {
 					patch("/api/posts/{postId}/like", postId)
 				)
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$.postId").value(postId))
+				.andExpect(jsonPath("$.postId").value(String.valueOf(postId)))
 				.andExpect(jsonPath("$.isLiked").value(true));
 		}
 
@@ -199,7 +199,7 @@ class PostControllerTest extends ControllerTestSupport {
 					patch("/api/posts/{postId}/like", postId)
 				)
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$.postId").value(postId))
+				.andExpect(jsonPath("$.postId").value(String.valueOf(postId)))
 				.andExpect(jsonPath("$.isLiked").value(false));
 		}
 	}
@@ -225,9 +225,9 @@ class PostControllerTest extends ControllerTestSupport {
 				)
 				.andExpect(status().isCreated())
 				.andExpect(header().exists("Location"))
-				.andExpect(jsonPath("$.id").value(response.getId()))
+				.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 				.andExpect(jsonPath("$.content").value(response.getContent()))
-				.andExpect(jsonPath("$.parentId").value(response.getParentId()))
+				.andExpect(jsonPath("$.parentId").value(String.valueOf(response.getParentId())))
 				.andExpect(jsonPath("$.media").isArray())
 				.andExpect(jsonPath("$.media").isEmpty())
 				.andExpect(jsonPath("$.createdAt").exists());
@@ -249,9 +249,9 @@ class PostControllerTest extends ControllerTestSupport {
 						.contentType(MediaType.APPLICATION_JSON)
 				)
 				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.id").value(response.getId()))
+				.andExpect(jsonPath("$.id").value(String.valueOf(response.getId())))
 				.andExpect(jsonPath("$.content").value(response.getContent()))
-				.andExpect(jsonPath("$.parentId").value(response.getParentId()))
+				.andExpect(jsonPath("$.parentId").value(String.valueOf(response.getParentId())))
 				.andExpect(jsonPath("$.media").isArray())
 				.andExpect(jsonPath("$.media.length()").value(2));
 		}